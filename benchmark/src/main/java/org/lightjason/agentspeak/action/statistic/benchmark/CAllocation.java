@@ -0,0 +1,133 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.statistic.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * allocation check of the statistic actions.
+ * Runs the statistic action benchmarks with the garbage-collector
+ * profiler and fails if the steady-state allocation of an execute
+ * call exceeds a constant bound, which covers the returned terms and
+ * the empty result stream, but not the number of values, adding
+ * values is checked with summary statistics only, because descriptive
+ * statistics resize their value storage
+ *
+ * {@code java -cp target/benchmarks.jar org.lightjason.agentspeak.action.statistic.benchmark.CAllocation}
+ */
+public final class CAllocation
+{
+    /**
+     * maximum allocated bytes of an execute call
+     */
+    public static final double MAXIMUMBYTES = 512;
+    /**
+     * label of the normalized allocation rate of the profiler
+     */
+    private static final String ALLOCATION = "gc.alloc.rate.norm";
+
+    /**
+     * ctor
+     */
+    private CAllocation()
+    {
+    }
+
+    /**
+     * main method
+     *
+     * @param p_args command-line arguments
+     * @throws RunnerException on benchmark error
+     */
+    public static void main( final String[] p_args ) throws RunnerException
+    {
+        final String l_benchmark = CStatisticBenchmark.class.getName();
+        final List<String> l_violations = new ArrayList<>();
+
+        CAllocation.check(
+            new OptionsBuilder().include( l_benchmark + ".(singlestatisticvalue|multiplepercentile)" ).addProfiler( GCProfiler.class ).build(),
+            l_violations
+        );
+        CAllocation.check(
+            new OptionsBuilder().include( l_benchmark + ".addstatisticvalue" ).param( "m_type", "summary" ).addProfiler( GCProfiler.class ).build(),
+            l_violations
+        );
+
+        if ( !l_violations.isEmpty() )
+            throw new IllegalStateException( "steady-state allocation exceeds " + MAXIMUMBYTES + " bytes per operation: " + l_violations );
+    }
+
+    /**
+     * runs the benchmarks and collects the results with
+     * an allocation above the bound
+     *
+     * @param p_options benchmark options
+     * @param p_violations violations
+     * @throws RunnerException on benchmark error
+     */
+    private static void check( @Nonnull final Options p_options, @Nonnull final List<String> p_violations ) throws RunnerException
+    {
+        final Collection<RunResult> l_results = new Runner( p_options ).run();
+        for ( final RunResult i : l_results )
+        {
+            final double l_allocation = CAllocation.allocation( i.getSecondaryResults() );
+            if ( l_allocation <= MAXIMUMBYTES )
+                continue;
+
+            final StringBuilder l_violation = new StringBuilder( i.getParams().getBenchmark() );
+            for ( final String j : i.getParams().getParamsKeys() )
+                l_violation.append( ' ' ).append( j ).append( '=' ).append( i.getParams().getParam( j ) );
+            p_violations.add( l_violation.append( ' ' ).append( l_allocation ).append( " B/op" ).toString() );
+        }
+    }
+
+    /**
+     * returns the normalized allocation rate
+     *
+     * @param p_results secondary results of a benchmark
+     * @return allocated bytes per operation or NaN if the profiler result does not exist
+     */
+    private static double allocation( @Nonnull final Map<String, Result> p_results )
+    {
+        // older versions of the profiler prefix the label with a middle dot
+        for ( final Map.Entry<String, Result> i : p_results.entrySet() )
+            if ( i.getKey().endsWith( ALLOCATION ) )
+                return i.getValue().getScore();
+
+        return Double.NaN;
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.statistic.benchmark;
+
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+
+/**
+ * common helper for building action arguments
+ */
+public final class CArgument
+{
+    /**
+     * ctor
+     */
+    private CArgument()
+    {
+    }
+
+    /**
+     * creates an argument list of raw terms
+     *
+     * @param p_values values
+     * @return term list
+     */
+    @Nonnull
+    public static List<ITerm> of( @Nonnull final Object... p_values )
+    {
+        return Arrays.stream( p_values ).map( CRawTerm::of ).collect( Collectors.toList() );
+    }
+
+    /**
+     * creates a list of uniform distributed random numbers
+     *
+     * @param p_size number of values
+     * @return number list
+     */
+    @Nonnull
+    public static List<Double> random( final int p_size )
+    {
+        return IntStream.range( 0, p_size ).mapToDouble( i -> ThreadLocalRandom.current().nextDouble() ).boxed().collect( Collectors.toList() );
+    }
+}
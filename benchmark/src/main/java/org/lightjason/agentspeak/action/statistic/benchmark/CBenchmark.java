@@ -0,0 +1,68 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.statistic.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * benchmark runner.
+ * Runs all statistic action benchmarks with the garbage-collector
+ * profiler enabled, command-line arguments are passed to JMH, so
+ * a single benchmark can be selected with a regular expression
+ *
+ * {@code java -jar target/benchmarks.jar CSelectionBenchmark -p m_size=1000}
+ */
+public final class CBenchmark
+{
+    /**
+     * ctor
+     */
+    private CBenchmark()
+    {
+    }
+
+    /**
+     * main method
+     *
+     * @param p_args command-line arguments
+     * @throws CommandLineOptionException on argument error
+     * @throws RunnerException on benchmark error
+     */
+    public static void main( final String[] p_args ) throws CommandLineOptionException, RunnerException
+    {
+        final CommandLineOptions l_options = new CommandLineOptions( p_args );
+
+        new Runner(
+            l_options.getIncludes().isEmpty()
+            ? new OptionsBuilder().parent( l_options ).include( CBenchmark.class.getPackageName() ).addProfiler( GCProfiler.class ).build()
+            : new OptionsBuilder().parent( l_options ).addProfiler( GCProfiler.class ).build()
+        ).run();
+    }
+}
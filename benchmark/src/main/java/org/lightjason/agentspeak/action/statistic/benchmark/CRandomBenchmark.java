@@ -0,0 +1,129 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.statistic.benchmark;
+
+import org.lightjason.agentspeak.action.statistic.CCreateDistribution;
+import org.lightjason.agentspeak.action.statistic.CRandomSample;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * benchmark of the random sample action
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class CRandomBenchmark
+{
+    /**
+     * distribution name
+     */
+    @Param( { "normal", "exponential", "gamma" } )
+    public String m_distribution;
+    /**
+     * generator name
+     */
+    @Param( { "mersennetwister", "xoroshiro128plusplus" } )
+    public String m_generator;
+    /**
+     * number of samples
+     */
+    @Param( { "1", "1000", "100000" } )
+    public int m_size;
+    /**
+     * parallel execution
+     */
+    @Param( { "false", "true" } )
+    public boolean m_parallel;
+    /**
+     * output structure
+     */
+    @Param( { "list", "array", "buffer" } )
+    public String m_output;
+
+    /**
+     * sample action
+     */
+    private final CRandomSample m_sample = new CRandomSample();
+    /**
+     * return list
+     */
+    private final List<ITerm> m_return = new ArrayList<>();
+    /**
+     * sample arguments
+     */
+    private List<ITerm> m_argument;
+
+    /**
+     * initialize the distribution
+     */
+    @Setup( Level.Trial )
+    public void initialize()
+    {
+        final List<ITerm> l_distribution = new ArrayList<>();
+        new CCreateDistribution().execute(
+            m_parallel, IContext.EMPTYPLAN,
+            "exponential".equals( m_distribution )
+            ? CArgument.of( m_distribution, m_generator, 5 )
+            : CArgument.of( m_distribution, m_generator, 2, 5 ),
+            l_distribution
+        );
+
+        m_argument = CArgument.of( l_distribution.get( 0 ).raw(), m_output, m_size );
+    }
+
+    /**
+     * draws samples of the distribution
+     *
+     * @param p_blackhole blackhole
+     */
+    @Benchmark
+    public void randomsample( final Blackhole p_blackhole )
+    {
+        m_return.clear();
+        m_sample.execute( m_parallel, IContext.EMPTYPLAN, m_argument, m_return );
+        p_blackhole.consume( m_return );
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.statistic.benchmark;
+
+import org.lightjason.agentspeak.action.statistic.CExponentialSelection;
+import org.lightjason.agentspeak.action.statistic.CLinearSelection;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+
+/**
+ * benchmark of the fitness-proportionate selection actions, the
+ * weight sets are rotated on each call, so that different agents
+ * with different weights are simulated, the batch benchmarks draw
+ * a number of items within one call and the repeated benchmarks
+ * draw the same number with single calls
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class CSelectionBenchmark
+{
+    /**
+     * number of draws of the batch benchmarks
+     */
+    private static final int DRAWS = 100;
+    /**
+     * number of items
+     */
+    @Param( { "10", "1000", "100000" } )
+    public int m_size;
+    /**
+     * number of weight sets
+     */
+    @Param( { "1", "8" } )
+    public int m_weights;
+    /**
+     * parallel execution
+     */
+    @Param( { "false", "true" } )
+    public boolean m_parallel;
+
+    /**
+     * linear selection action
+     */
+    private final CLinearSelection m_linear = new CLinearSelection();
+    /**
+     * exponential selection action
+     */
+    private final CExponentialSelection m_exponential = new CExponentialSelection();
+    /**
+     * return list
+     */
+    private final List<ITerm> m_return = new ArrayList<>();
+    /**
+     * linear arguments of each weight set
+     */
+    private List<List<ITerm>> m_linearargument;
+    /**
+     * exponential arguments of each weight set
+     */
+    private List<List<ITerm>> m_exponentialargument;
+    /**
+     * linear batch arguments of each weight set
+     */
+    private List<List<ITerm>> m_batchargument;
+    /**
+     * index of the current weight set
+     */
+    private int m_index;
+
+    /**
+     * initialize items and weights
+     */
+    @Setup( Level.Trial )
+    public void initialize()
+    {
+        final List<String> l_items = IntStream.range( 0, m_size ).mapToObj( i -> "item" + i ).collect( Collectors.toList() );
+
+        m_linearargument = new ArrayList<>( m_weights );
+        m_exponentialargument = new ArrayList<>( m_weights );
+        m_batchargument = new ArrayList<>( m_weights );
+        for ( int i = 0; i < m_weights; i++ )
+        {
+            final List<Double> l_weights = CArgument.random( m_size );
+            m_linearargument.add( CArgument.of( l_items, l_weights ) );
+            m_exponentialargument.add( CArgument.of( l_items, l_weights, 0.5 ) );
+            m_batchargument.add( CArgument.of( l_items, l_weights, DRAWS ) );
+        }
+    }
+
+    /**
+     * returns the index of the next weight set
+     *
+     * @return index
+     */
+    private int next()
+    {
+        m_index = ( m_index + 1 ) % m_weights;
+        return m_index;
+    }
+
+    /**
+     * linear selection
+     *
+     * @param p_blackhole blackhole
+     */
+    @Benchmark
+    public void linearselection( final Blackhole p_blackhole )
+    {
+        m_return.clear();
+        m_linear.execute( m_parallel, IContext.EMPTYPLAN, m_linearargument.get( this.next() ), m_return );
+        p_blackhole.consume( m_return );
+    }
+
+    /**
+     * exponential selection
+     *
+     * @param p_blackhole blackhole
+     */
+    @Benchmark
+    public void exponentialselection( final Blackhole p_blackhole )
+    {
+        m_return.clear();
+        m_exponential.execute( m_parallel, IContext.EMPTYPLAN, m_exponentialargument.get( this.next() ), m_return );
+        p_blackhole.consume( m_return );
+    }
+
+    /**
+     * linear selection of multiple items within one call
+     *
+     * @param p_blackhole blackhole
+     */
+    @Benchmark
+    public void linearbatchselection( final Blackhole p_blackhole )
+    {
+        m_return.clear();
+        m_linear.execute( m_parallel, IContext.EMPTYPLAN, m_batchargument.get( this.next() ), m_return );
+        p_blackhole.consume( m_return );
+    }
+
+    /**
+     * linear selection of multiple items with single calls
+     *
+     * @param p_blackhole blackhole
+     */
+    @Benchmark
+    public void linearrepeatedselection( final Blackhole p_blackhole )
+    {
+        final List<ITerm> l_argument = m_linearargument.get( this.next() );
+
+        m_return.clear();
+        for ( int i = 0; i < DRAWS; i++ )
+            m_linear.execute( m_parallel, IContext.EMPTYPLAN, l_argument, m_return );
+        p_blackhole.consume( m_return );
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.statistic.benchmark;
+
+import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
+import org.lightjason.agentspeak.action.statistic.CAddStatisticValue;
+import org.lightjason.agentspeak.action.statistic.CCreateStatistic;
+import org.lightjason.agentspeak.action.statistic.CMultiplePercentile;
+import org.lightjason.agentspeak.action.statistic.CSingleStatisticValue;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * benchmark of the statistic object actions.
+ * Measures adding values, reading a statistic value and
+ * reading percentiles through the action execute call
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class CStatisticBenchmark
+{
+    /**
+     * window size of descriptive statistics
+     */
+    private static final int WINDOW = 100000;
+
+    /**
+     * statistic type
+     */
+    @Param( { "summary", "descriptive" } )
+    public String m_type;
+    /**
+     * number of values
+     */
+    @Param( { "10", "1000", "100000" } )
+    public int m_size;
+    /**
+     * parallel execution
+     */
+    @Param( { "false", "true" } )
+    public boolean m_parallel;
+
+    /**
+     * add action
+     */
+    private final CAddStatisticValue m_add = new CAddStatisticValue();
+    /**
+     * statistic value action
+     */
+    private final CSingleStatisticValue m_value = new CSingleStatisticValue();
+    /**
+     * percentile action
+     */
+    private final CMultiplePercentile m_percentile = new CMultiplePercentile();
+    /**
+     * return list
+     */
+    private final List<ITerm> m_return = new ArrayList<>();
+    /**
+     * add arguments
+     */
+    private List<ITerm> m_addargument;
+    /**
+     * statistic value arguments
+     */
+    private List<ITerm> m_valueargument;
+    /**
+     * percentile arguments
+     */
+    private List<ITerm> m_percentileargument;
+
+    /**
+     * initialize the statistic objects
+     */
+    @Setup( Level.Iteration )
+    public void initialize()
+    {
+        final List<ITerm> l_statistic = new ArrayList<>();
+        new CCreateStatistic().execute( m_parallel, IContext.EMPTYPLAN, CArgument.of( m_type ), l_statistic );
+        new CCreateStatistic().execute( m_parallel, IContext.EMPTYPLAN, CArgument.of( "descriptive" ), l_statistic );
+
+        final Object l_target = l_statistic.get( 0 ).raw();
+        final DescriptiveStatistics l_descriptive = l_statistic.get( 1 ).raw();
+        if ( l_target instanceof DescriptiveStatistics )
+            ( (DescriptiveStatistics) l_target ).setWindowSize( WINDOW );
+        l_descriptive.setWindowSize( WINDOW );
+
+        final List<Double> l_values = CArgument.random( m_size );
+        m_add.execute( false, IContext.EMPTYPLAN, CArgument.of( l_target, l_descriptive, l_values ), m_return );
+
+        m_addargument = CArgument.of( l_target, l_values );
+        m_valueargument = CArgument.of( "mean", l_target );
+        m_percentileargument = CArgument.of( l_descriptive, 25, 50, 75 );
+    }
+
+    /**
+     * adds all values to the statistic
+     *
+     * @param p_blackhole blackhole
+     */
+    @Benchmark
+    public void addstatisticvalue( final Blackhole p_blackhole )
+    {
+        p_blackhole.consume( m_add.execute( m_parallel, IContext.EMPTYPLAN, m_addargument, m_return ) );
+    }
+
+    /**
+     * reads a single statistic value
+     *
+     * @param p_blackhole blackhole
+     */
+    @Benchmark
+    public void singlestatisticvalue( final Blackhole p_blackhole )
+    {
+        m_return.clear();
+        m_value.execute( m_parallel, IContext.EMPTYPLAN, m_valueargument, m_return );
+        p_blackhole.consume( m_return );
+    }
+
+    /**
+     * reads multiple percentile values
+     *
+     * @param p_blackhole blackhole
+     */
+    @Benchmark
+    public void multiplepercentile( final Blackhole p_blackhole )
+    {
+        m_return.clear();
+        m_percentile.execute( m_parallel, IContext.EMPTYPLAN, m_percentileargument, m_return );
+        p_blackhole.consume( m_return );
+    }
+}
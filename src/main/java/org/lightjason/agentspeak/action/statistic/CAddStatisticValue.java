@@ -26,19 +26,22 @@ package org.lightjason.agentspeak.action.statistic;
 import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
 import org.apache.commons.math3.stat.descriptive.StatisticalSummary;
 import org.apache.commons.math3.stat.descriptive.SummaryStatistics;
+import org.apache.commons.math3.stat.descriptive.SynchronizedDescriptiveStatistics;
+import org.apache.commons.math3.stat.descriptive.SynchronizedSummaryStatistics;
 import org.lightjason.agentspeak.action.IBaseAction;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
-import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.IContext;
 import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.RandomAccess;
 import java.util.stream.Stream;
 
 
@@ -47,12 +50,19 @@ import java.util.stream.Stream;
  * The actions adds the given argument number values to each
  * statistic objects within the arguments, the ordering of values and
  * statistic object is free, each value will be added to each
- * statistic object, only number and statistic objects are allowed
+ * statistic object, only number and statistic objects are allowed,
+ * numeric arrays are added without boxing, statistic objects are
+ * filled in parallel only if the number of additions is large,
+ * otherwise the values are added without an intermediate buffer
  *
  * {@code .math/statistic/addstatisticvalue( StatisticObject1, [1,2,3, StatisticObject2], 1,5,8, StatisticObject3 );}
  */
 public final class CAddStatisticValue extends IBaseAction
 {
+    /**
+     * minimal number of additions (values times statistic objects) for parallel execution
+     */
+    public static final int PARALLELTHRESHOLD = 16384;
     /**
      * serial id
      */
@@ -81,31 +91,27 @@ public final class CAddStatisticValue extends IBaseAction
     public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
                                            @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return )
     {
-        final List<ITerm> l_arguments = CCommon.flatten( p_argument ).collect( Collectors.toList() );
-        final double[] l_values = l_arguments.parallelStream()
-                                             .filter( i -> CCommon.isssignableto( i, Number.class ) )
-                                             .map( ITerm::<Number>raw )
-                                             .mapToDouble( Number::doubleValue ).toArray();
-
-        if ( !l_arguments.parallelStream()
-                        .filter( i -> CCommon.isssignableto( i, StatisticalSummary.class ) )
-                        .allMatch( i ->
-                        {
-
-                            if ( CCommon.isssignableto( i, SummaryStatistics.class ) )
-                            {
-                                Arrays.stream( l_values ).forEach( j -> i.<SummaryStatistics>raw().addValue( j ) );
-                                return true;
-                            }
-
-                            if ( CCommon.isssignableto( i, DescriptiveStatistics.class ) )
-                            {
-                                Arrays.stream( l_values ).forEach( j -> i.<DescriptiveStatistics>raw().addValue( j ) );
-                                return true;
-                            }
-
-                            return false;
-                        } ) )
+        // small additions are written straight into the statistic objects without buffering the values
+        if ( !p_parallel || !CAddStatisticValue.parallel( p_argument ) )
+        {
+            if ( !CAddStatisticValue.adddirect( p_argument, p_argument ) )
+                throw new CExecutionIllegealArgumentException(
+                    p_context,
+                    org.lightjason.agentspeak.common.CCommon.languagestring( this, "argumenterror" )
+                );
+
+            return Stream.empty();
+        }
+
+        final CValues l_values = new CValues();
+        final List<StatisticalSummary> l_statistics = new ArrayList<>();
+        for ( int i = 0; i < p_argument.size(); i++ )
+            CAddStatisticValue.collect( p_argument.get( i ).raw(), l_values, l_statistics );
+
+        final double[] l_array = l_values.array();
+        final int l_size = l_values.size();
+
+        if ( !l_statistics.parallelStream().allMatch( i -> CAddStatisticValue.add( i, l_array, l_size ) ) )
             throw new CExecutionIllegealArgumentException(
                 p_context,
                 org.lightjason.agentspeak.common.CCommon.languagestring( this, "argumenterror" )
@@ -114,4 +120,334 @@ public final class CAddStatisticValue extends IBaseAction
         return Stream.empty();
     }
 
+    /**
+     * checks if the number of additions is large enough for parallel execution
+     *
+     * @param p_arguments arguments
+     * @return parallel flag
+     */
+    private static boolean parallel( @Nonnull final List<ITerm> p_arguments )
+    {
+        final long l_statistics = CAddStatisticValue.statistics( p_arguments );
+        return l_statistics > 1 && CAddStatisticValue.values( p_arguments ) * l_statistics >= PARALLELTHRESHOLD;
+    }
+
+    /**
+     * counts the statistic objects of an argument recursively
+     *
+     * @param p_value argument value
+     * @return number of statistic objects
+     */
+    private static long statistics( final Object p_value )
+    {
+        if ( p_value instanceof StatisticalSummary )
+            return 1;
+        if ( p_value instanceof ITerm )
+            return CAddStatisticValue.statistics( ( (ITerm) p_value ).<Object>raw() );
+        if ( !( p_value instanceof Collection<?> ) )
+            return 0;
+
+        long l_count = 0;
+        if ( p_value instanceof List<?> && p_value instanceof RandomAccess )
+            for ( int i = 0; i < ( (List<?>) p_value ).size(); i++ )
+                l_count += CAddStatisticValue.statistics( ( (List<?>) p_value ).get( i ) );
+        else
+            for ( final Object i : (Collection<?>) p_value )
+                l_count += CAddStatisticValue.statistics( i );
+        return l_count;
+    }
+
+    /**
+     * counts the values of an argument recursively
+     *
+     * @param p_value argument value
+     * @return number of values
+     */
+    private static long values( final Object p_value )
+    {
+        if ( p_value instanceof Number )
+            return 1;
+        if ( p_value instanceof double[] )
+            return ( (double[]) p_value ).length;
+        if ( p_value instanceof ITerm )
+            return CAddStatisticValue.values( ( (ITerm) p_value ).<Object>raw() );
+        if ( !( p_value instanceof Collection<?> ) )
+            return 0;
+
+        long l_count = 0;
+        if ( p_value instanceof List<?> && p_value instanceof RandomAccess )
+            for ( int i = 0; i < ( (List<?>) p_value ).size(); i++ )
+                l_count += CAddStatisticValue.values( ( (List<?>) p_value ).get( i ) );
+        else
+            for ( final Object i : (Collection<?>) p_value )
+                l_count += CAddStatisticValue.values( i );
+        return l_count;
+    }
+
+    /**
+     * adds all values of the arguments to each statistic object
+     * within an argument without buffering the values
+     *
+     * @param p_value argument value, which is searched for statistic objects
+     * @param p_arguments arguments with the values
+     * @return successful adding
+     */
+    private static boolean adddirect( final Object p_value, @Nonnull final List<ITerm> p_arguments )
+    {
+        if ( p_value instanceof StatisticalSummary )
+        {
+            final StatisticalSummary l_statistic = (StatisticalSummary) p_value;
+            if ( !( l_statistic instanceof SummaryStatistics || l_statistic instanceof DescriptiveStatistics || l_statistic instanceof IStatistic ) )
+                return false;
+
+            if ( l_statistic instanceof SynchronizedSummaryStatistics || l_statistic instanceof SynchronizedDescriptiveStatistics )
+                synchronized ( l_statistic )
+                {
+                    CAddStatisticValue.adddirect( l_statistic, p_arguments );
+                }
+            else
+                CAddStatisticValue.adddirect( l_statistic, p_arguments );
+            return true;
+        }
+
+        if ( p_value instanceof ITerm )
+            return CAddStatisticValue.adddirect( ( (ITerm) p_value ).<Object>raw(), p_arguments );
+        if ( !( p_value instanceof Collection<?> ) )
+            return true;
+
+        boolean l_result = true;
+        if ( p_value instanceof List<?> && p_value instanceof RandomAccess )
+            for ( int i = 0; i < ( (List<?>) p_value ).size(); i++ )
+                l_result &= CAddStatisticValue.adddirect( ( (List<?>) p_value ).get( i ), p_arguments );
+        else
+            for ( final Object i : (Collection<?>) p_value )
+                l_result &= CAddStatisticValue.adddirect( i, p_arguments );
+        return l_result;
+    }
+
+    /**
+     * adds all values of the arguments to a statistic object
+     *
+     * @param p_statistic statistic object
+     * @param p_arguments arguments with the values
+     */
+    private static void adddirect( @Nonnull final StatisticalSummary p_statistic, @Nonnull final List<ITerm> p_arguments )
+    {
+        for ( int i = 0; i < p_arguments.size(); i++ )
+            CAddStatisticValue.addvalues( p_statistic, p_arguments.get( i ).raw() );
+    }
+
+    /**
+     * adds the values of an argument recursively to a statistic object
+     *
+     * @param p_statistic statistic object
+     * @param p_value argument value
+     */
+    private static void addvalues( @Nonnull final StatisticalSummary p_statistic, final Object p_value )
+    {
+        if ( p_value instanceof Number )
+            CAddStatisticValue.addvalue( p_statistic, ( (Number) p_value ).doubleValue() );
+
+        else if ( p_value instanceof double[] )
+            for ( final double i : (double[]) p_value )
+                CAddStatisticValue.addvalue( p_statistic, i );
+
+        else if ( p_value instanceof ITerm )
+            CAddStatisticValue.addvalues( p_statistic, ( (ITerm) p_value ).<Object>raw() );
+
+        else if ( p_value instanceof List<?> && p_value instanceof RandomAccess )
+            for ( int i = 0; i < ( (List<?>) p_value ).size(); i++ )
+                CAddStatisticValue.addvalues( p_statistic, ( (List<?>) p_value ).get( i ) );
+
+        else if ( p_value instanceof Collection<?> )
+            for ( final Object i : (Collection<?>) p_value )
+                CAddStatisticValue.addvalues( p_statistic, i );
+    }
+
+    /**
+     * adds a value to a supported statistic object
+     *
+     * @param p_statistic statistic object
+     * @param p_value value
+     */
+    private static void addvalue( @Nonnull final StatisticalSummary p_statistic, final double p_value )
+    {
+        if ( p_statistic instanceof SummaryStatistics )
+            ( (SummaryStatistics) p_statistic ).addValue( p_value );
+        else if ( p_statistic instanceof DescriptiveStatistics )
+            ( (DescriptiveStatistics) p_statistic ).addValue( p_value );
+        else
+            ( (IStatistic) p_statistic ).addValue( p_value );
+    }
+
+    /**
+     * splits an argument recursively into values and statistic objects
+     *
+     * @param p_value argument value
+     * @param p_values value buffer
+     * @param p_statistics statistic objects
+     */
+    private static void collect( final Object p_value, @Nonnull final CValues p_values, @Nonnull final List<StatisticalSummary> p_statistics )
+    {
+        if ( p_value instanceof Number )
+            p_values.add( ( (Number) p_value ).doubleValue() );
+        else if ( p_value instanceof double[] )
+            p_values.add( (double[]) p_value );
+        else if ( p_value instanceof StatisticalSummary )
+            p_statistics.add( (StatisticalSummary) p_value );
+        else if ( p_value instanceof ITerm )
+            CAddStatisticValue.collect( ( (ITerm) p_value ).raw(), p_values, p_statistics );
+        else if ( p_value instanceof Collection<?> )
+            for ( final Object i : (Collection<?>) p_value )
+                CAddStatisticValue.collect( i, p_values, p_statistics );
+    }
+
+    /**
+     * adds all values to a statistic object, synchronized statistic
+     * objects are locked once for all values
+     *
+     * @param p_statistic statistic object
+     * @param p_values values
+     * @param p_size number of values
+     * @return successful adding
+     */
+    private static boolean add( @Nonnull final StatisticalSummary p_statistic, @Nonnull final double[] p_values, @Nonnegative final int p_size )
+    {
+        if ( p_statistic instanceof SynchronizedSummaryStatistics || p_statistic instanceof SynchronizedDescriptiveStatistics )
+            synchronized ( p_statistic )
+            {
+                return CAddStatisticValue.addunlocked( p_statistic, p_values, p_size );
+            }
+
+        return CAddStatisticValue.addunlocked( p_statistic, p_values, p_size );
+    }
+
+    /**
+     * adds all values to a statistic object
+     *
+     * @param p_statistic statistic object
+     * @param p_values values
+     * @param p_size number of values
+     * @return successful adding
+     */
+    private static boolean addunlocked( @Nonnull final StatisticalSummary p_statistic, @Nonnull final double[] p_values, @Nonnegative final int p_size )
+    {
+        if ( p_statistic instanceof SummaryStatistics )
+        {
+            final SummaryStatistics l_statistic = (SummaryStatistics) p_statistic;
+            for ( int i = 0; i < p_size; i++ )
+                l_statistic.addValue( p_values[i] );
+            return true;
+        }
+
+        if ( p_statistic instanceof DescriptiveStatistics )
+        {
+            final DescriptiveStatistics l_statistic = (DescriptiveStatistics) p_statistic;
+            for ( int i = 0; i < p_size; i++ )
+                l_statistic.addValue( p_values[i] );
+            return true;
+        }
+
+        if ( p_statistic instanceof IStatistic )
+        {
+            final IStatistic l_statistic = (IStatistic) p_statistic;
+            for ( int i = 0; i < p_size; i++ )
+                l_statistic.addValue( p_values[i] );
+            return true;
+        }
+
+        return false;
+    }
+
+
+    /**
+     * growable buffer of primitive values, a single
+     * array argument is used without copying
+     */
+    private static final class CValues
+    {
+        /**
+         * empty array
+         */
+        private static final double[] EMPTY = new double[0];
+        /**
+         * values
+         */
+        private double[] m_values = EMPTY;
+        /**
+         * number of values
+         */
+        private int m_size;
+        /**
+         * flag that the array is owned by an argument
+         */
+        private boolean m_shared;
+
+        /**
+         * adds a value
+         *
+         * @param p_value value
+         */
+        void add( final double p_value )
+        {
+            this.capacity( m_size + 1 );
+            m_values[m_size++] = p_value;
+        }
+
+        /**
+         * adds an array
+         *
+         * @param p_values values
+         */
+        void add( @Nonnull final double[] p_values )
+        {
+            if ( m_size == 0 )
+            {
+                m_values = p_values;
+                m_size = p_values.length;
+                m_shared = true;
+                return;
+            }
+
+            this.capacity( m_size + p_values.length );
+            System.arraycopy( p_values, 0, m_values, m_size, p_values.length );
+            m_size += p_values.length;
+        }
+
+        /**
+         * returns the array, which can be larger than the size
+         *
+         * @return array
+         */
+        @Nonnull
+        double[] array()
+        {
+            return m_values;
+        }
+
+        /**
+         * returns the number of values
+         *
+         * @return size
+         */
+        int size()
+        {
+            return m_size;
+        }
+
+        /**
+         * ensures the capacity of the own array
+         *
+         * @param p_capacity capacity
+         */
+        private void capacity( final int p_capacity )
+        {
+            if ( !m_shared && p_capacity <= m_values.length )
+                return;
+
+            m_values = Arrays.copyOf( m_values, Math.max( Math.max( p_capacity, 2 * m_values.length ), 16 ) );
+            m_shared = false;
+        }
+    }
+
 }
@@ -0,0 +1,111 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.statistic;
+
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntSupplier;
+
+
+/**
+ * alias table for weighted sampling.
+ * The table is build once with Vose's alias method in linear
+ * time and returns on each draw an index proportional to
+ * its weight in constant time without any allocation
+ *
+ * @see <a href="https://www.keithschwarz.com/darts-dice-coins/"></a>
+ */
+final class CAliasTable implements IntSupplier
+{
+    /**
+     * probabilities of each column
+     */
+    private final double[] m_probability;
+    /**
+     * alias of each column
+     */
+    private final int[] m_alias;
+
+    /**
+     * ctor
+     *
+     * @param p_weights non-negative weights
+     */
+    CAliasTable( @Nonnull final double[] p_weights )
+    {
+        if ( p_weights.length == 0 )
+            throw new IllegalArgumentException( "weights are empty" );
+
+        m_probability = new double[p_weights.length];
+        m_alias = new int[p_weights.length];
+
+        final double l_sum = Arrays.stream( p_weights ).sum();
+        final int l_size = p_weights.length;
+
+        // scaled probabilities, on zero sum all elements are equal
+        final double[] l_scaled = new double[l_size];
+        for ( int i = 0; i < l_size; i++ )
+            l_scaled[i] = l_sum > 0 ? p_weights[i] * l_size / l_sum : 1;
+
+        // small and large work lists share one array, small grows from the front, large from the back
+        final int[] l_work = new int[l_size];
+        int l_small = 0;
+        int l_large = l_size;
+        for ( int i = 0; i < l_size; i++ )
+            if ( l_scaled[i] < 1 )
+                l_work[l_small++] = i;
+            else
+                l_work[--l_large] = i;
+
+        while ( l_small > 0 && l_large < l_size )
+        {
+            final int l_less = l_work[--l_small];
+            final int l_more = l_work[l_large++];
+
+            m_probability[l_less] = l_scaled[l_less];
+            m_alias[l_less] = l_more;
+
+            l_scaled[l_more] = l_scaled[l_more] + l_scaled[l_less] - 1;
+            if ( l_scaled[l_more] < 1 )
+                l_work[l_small++] = l_more;
+            else
+                l_work[--l_large] = l_more;
+        }
+
+        // remaining columns are full, numerical errors can leave elements in both lists
+        while ( l_large < l_size )
+            m_probability[l_work[l_large++]] = 1;
+        while ( l_small > 0 )
+            m_probability[l_work[--l_small]] = 1;
+    }
+
+    @Override
+    public int getAsInt()
+    {
+        final ThreadLocalRandom l_random = ThreadLocalRandom.current();
+        final int l_column = l_random.nextInt( m_probability.length );
+        return l_random.nextDouble() < m_probability[l_column] ? l_column : m_alias[l_column];
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.statistic;
+
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.ITerm;
+
+import javax.annotation.Nonnull;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+
+/**
+ * argument helper of the statistic actions.
+ * Arguments are flattened only if an argument contains
+ * a collection, so the execute call of an action with
+ * flat arguments does not create a new list
+ */
+final class CArgument
+{
+    /**
+     * ctor
+     */
+    private CArgument()
+    {
+    }
+
+    /**
+     * returns the flat arguments
+     *
+     * @param p_argument arguments
+     * @return arguments or flattened arguments if an argument contains a collection
+     */
+    @Nonnull
+    static List<ITerm> flatten( @Nonnull final List<ITerm> p_argument )
+    {
+        for ( int i = 0; i < p_argument.size(); i++ )
+            if ( p_argument.get( i ).raw() instanceof Collection<?> )
+                return CCommon.flatten( p_argument ).collect( Collectors.toList() );
+
+        return p_argument;
+    }
+}
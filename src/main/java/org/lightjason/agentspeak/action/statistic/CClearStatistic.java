@@ -76,24 +76,32 @@ public final class CClearStatistic extends IBaseAction
     public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
                                            @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return )
     {
-        if ( !CCommon.flatten( p_argument )
-               .parallel()
-               .allMatch( i ->
-               {
+        final List<ITerm> l_arguments = CArgument.flatten( p_argument );
+        for ( int i = 0; i < l_arguments.size(); i++ )
+            if ( !CClearStatistic.apply( l_arguments.get( i ) ) )
+                throw new CExecutionIllegealArgumentException(
+                    p_context,
+                    org.lightjason.agentspeak.common.CCommon.languagestring( this, "argumenterror" )
+                );
 
-                   if ( CCommon.isssignableto( i, SummaryStatistics.class ) )
-                       return CClearStatistic.apply( i.<SummaryStatistics>raw() );
+        return Stream.empty();
+    }
 
-                   return CCommon.isssignableto( i, DescriptiveStatistics.class ) && CClearStatistic.apply(
-                       i.<DescriptiveStatistics>raw() );
+    /**
+     * clear a statistic term
+     *
+     * @param p_statistic statistic term
+     * @return successful clear
+     */
+    private static boolean apply( @Nonnull final ITerm p_statistic )
+    {
+        if ( CCommon.isssignableto( p_statistic, SummaryStatistics.class ) )
+            return CClearStatistic.apply( p_statistic.<SummaryStatistics>raw() );
 
-               } ) )
-            throw new CExecutionIllegealArgumentException(
-                p_context,
-                org.lightjason.agentspeak.common.CCommon.languagestring( this, "argumenterror" )
-            );
+        if ( CCommon.isssignableto( p_statistic, IStatistic.class ) )
+            return CClearStatistic.apply( p_statistic.<IStatistic>raw() );
 
-        return Stream.empty();
+        return CCommon.isssignableto( p_statistic, DescriptiveStatistics.class ) && CClearStatistic.apply( p_statistic.<DescriptiveStatistics>raw() );
     }
 
     /**
@@ -120,4 +128,16 @@ public final class CClearStatistic extends IBaseAction
         return true;
     }
 
+    /**
+     * clear a statistic
+     *
+     * @param p_statistic statistic object
+     * @return successful clear
+     */
+    private static boolean apply( @Nonnull final IStatistic p_statistic )
+    {
+        p_statistic.clear();
+        return true;
+    }
+
 }
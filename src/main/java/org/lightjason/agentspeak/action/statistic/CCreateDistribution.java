@@ -23,25 +23,25 @@
 
 package org.lightjason.agentspeak.action.statistic;
 
+import org.apache.commons.math3.distribution.AbstractIntegerDistribution;
+import org.apache.commons.math3.distribution.AbstractMultivariateRealDistribution;
 import org.apache.commons.math3.distribution.AbstractRealDistribution;
 import org.apache.commons.math3.distribution.BetaDistribution;
 import org.apache.commons.math3.distribution.CauchyDistribution;
 import org.apache.commons.math3.distribution.ChiSquaredDistribution;
-import org.apache.commons.math3.distribution.ExponentialDistribution;
 import org.apache.commons.math3.distribution.FDistribution;
 import org.apache.commons.math3.distribution.GammaDistribution;
 import org.apache.commons.math3.distribution.GumbelDistribution;
 import org.apache.commons.math3.distribution.LaplaceDistribution;
 import org.apache.commons.math3.distribution.LevyDistribution;
-import org.apache.commons.math3.distribution.LogNormalDistribution;
 import org.apache.commons.math3.distribution.LogisticDistribution;
 import org.apache.commons.math3.distribution.NakagamiDistribution;
-import org.apache.commons.math3.distribution.NormalDistribution;
 import org.apache.commons.math3.distribution.ParetoDistribution;
 import org.apache.commons.math3.distribution.TDistribution;
 import org.apache.commons.math3.distribution.TriangularDistribution;
 import org.apache.commons.math3.distribution.UniformRealDistribution;
 import org.apache.commons.math3.distribution.WeibullDistribution;
+import org.apache.commons.math3.distribution.ZipfDistribution;
 import org.apache.commons.math3.random.ISAACRandom;
 import org.apache.commons.math3.random.JDKRandomGenerator;
 import org.apache.commons.math3.random.MersenneTwister;
@@ -55,7 +55,7 @@ import org.apache.commons.math3.random.Well44497b;
 import org.apache.commons.math3.random.Well512a;
 import org.lightjason.agentspeak.action.IBaseAction;
 import org.lightjason.agentspeak.common.IPath;
-import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
 import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.IContext;
@@ -63,11 +63,12 @@ import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
-import java.util.AbstractMap;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Supplier;
@@ -80,8 +81,11 @@ import java.util.stream.Stream;
  * creates a distribution object.
  * The action creates a distribution objects, with an individual
  * pseudo-random generator and different distribution paramter,
- * the action never fails, the following distributions are supported
- * with the following number of numeric arguments
+ * the action fails if a seed or an error bound is not a number, if
+ * a distribution cannot be tabulated or if the distribution parameters
+ * are invalid (e.g. a covariance matrix, which is not positive definite),
+ * the following distributions are supported with the following number
+ * of numeric arguments
  *
  * + beta distribution with 2 arguments (\f$ \alpha \f$ and \f$ \beta \f$)
  * + cauchy distribution with 2 arguments (media and scale)
@@ -102,6 +106,29 @@ import java.util.stream.Stream;
  * + uniform distribution with 2 arguments (lower and upper)
  * + weibull distribution with 2 arguments (\f$ \alpha \f$ and \f$ \beta \f$)
  *
+ * The following multivariate distributions are supported, the number of arguments
+ * depends on the dimension \f$ d \f$ and the number of components \f$ k \f$
+ *
+ * + multivariatenormal with the dimension \f$ d \f$, the mean and the covariance matrix row by row
+ * + gaussianmixture with the number of components \f$ k \f$, the dimension \f$ d \f$, the weights
+ *   and for each component the mean and the covariance matrix row by row
+ * + dirichlet with the dimension \f$ d \f$ and the concentration parameters
+ *
+ * The following discrete distributions are supported, the samples are integer values
+ *
+ * + poisson distribution with 1 argument (mean)
+ * + binomial distribution with 2 arguments (number of trials and probability of success)
+ * + geometric distribution with 1 argument (probability of success)
+ * + zipf distribution with 2 arguments (number of elements and exponent)
+ *
+ * The normal, lognormal and exponential distribution are sampled with the ziggurat method,
+ * the poisson and binomial distribution with the transformed rejection method, the geometric
+ * distribution by inversion and the zipf distribution with the rejection-inversion method.
+ * Distributions without a seed and with a not splittable generator are shared between all
+ * calls with the same arguments, each thread uses an own generator of the shared distribution
+ * without a lock, so a synchronized generator name shares the distribution of the plain generator
+ * and a shared distribution cannot be reseeded, a reproducible distribution needs the seed option
+ *
  * The following pseudo-random number generators are supported:
  *
  * + mersennetwister (default)
@@ -122,8 +149,21 @@ import java.util.stream.Stream;
  * + synchronizedwell4449a
  * + well44497b
  * + synchronizedwell44497b
+ * + splitmix64
+ * + xoroshiro128plusplus
+ *
+ * The splitmix64 and xoroshiro128plusplus generators are splittable, a
+ * distribution with one of these generators draws a large sample in parallel
+ * with independent generators and without locking
+ *
+ * After the distribution and the optional generator name the string "seed" followed
+ * by a number initializes the generator with a fixed seed, so the samples are reproducible,
+ * the string "tabulated" followed by an error bound creates a distribution which samples
+ * from a precomputed piecewise linear inverse cumulative distribution function, this
+ * speeds up distributions, which are sampled by numerical inversion (e.g. nakagami, t and f),
+ * the tabulation is supported only by the univariate continuous distributions
  *
- * {@code [D1|D2] = .math/statistic/createdistribution( "normal", 20, 10, ["beta", "isaac", [8, 12]] );}
+ * {@code [D1|D2|D3|D4] = .math/statistic/createdistribution( "normal", 20, 10, ["beta", "isaac", [8, 12]], "gamma", "seed", 42, 2, 5, "t", "tabulated", 1e-6, 3 );}
  *
  * @see <a href="https://en.wikipedia.org/wiki/Beta_distribution"></a>
  * @see <a href="https://en.wikipedia.org/wiki/Cauchy_distribution"></a>
@@ -142,6 +182,13 @@ import java.util.stream.Stream;
  * @see <a href="https://en.wikipedia.org/wiki/Triangular_distribution"></a>
  * @see <a href="https://en.wikipedia.org/wiki/Uniform_distribution_(continuous)"></a>
  * @see <a href="https://en.wikipedia.org/wiki/Weibull_distribution"></a>
+ * @see <a href="https://en.wikipedia.org/wiki/Multivariate_normal_distribution"></a>
+ * @see <a href="https://en.wikipedia.org/wiki/Mixture_model#Gaussian_mixture_model"></a>
+ * @see <a href="https://en.wikipedia.org/wiki/Dirichlet_distribution"></a>
+ * @see <a href="https://en.wikipedia.org/wiki/Poisson_distribution"></a>
+ * @see <a href="https://en.wikipedia.org/wiki/Binomial_distribution"></a>
+ * @see <a href="https://en.wikipedia.org/wiki/Geometric_distribution"></a>
+ * @see <a href="https://en.wikipedia.org/wiki/Zipf%27s_law"></a>
  */
 public final class CCreateDistribution extends IBaseAction
 {
@@ -153,6 +200,40 @@ public final class CCreateDistribution extends IBaseAction
      * action name
      */
     private static final IPath NAME = namebyclass( CCreateDistribution.class, "math", "statistic" );
+    /**
+     * name of the seed definition
+     */
+    private static final String SEED = "seed";
+    /**
+     * name of the tabulation definition
+     */
+    private static final String TABULATED = "tabulated";
+    /**
+     * maximum number of shared distributions
+     */
+    private static final int CACHESIZE = 1024;
+    /**
+     * compiled arguments, each slot stores the last compiled plan with the slot hash
+     */
+    private static final CPlan[] PLANS = new CPlan[256];
+    /**
+     * shared distributions, the least recently used distribution is removed
+     */
+    private static final Map<CKey, Object> CACHE = Collections.synchronizedMap(
+        new LinkedHashMap<>( 16, 0.75f, true )
+        {
+            /**
+             * serial id
+             */
+            private static final long serialVersionUID = -2918315377296120436L;
+
+            @Override
+            protected boolean removeEldestEntry( final Map.Entry<CKey, Object> p_eldest )
+            {
+                return this.size() > CACHESIZE;
+            }
+        }
+    );
 
     @Nonnull
     @Override
@@ -174,55 +255,458 @@ public final class CCreateDistribution extends IBaseAction
                                            @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
     )
     {
-        final List<ITerm> l_arguments = CCommon.flatten( p_argument ).collect( Collectors.toList() );
-
-        IntStream.range( 0, l_arguments.size() )
-                 .filter( i -> CCommon.isssignableto( l_arguments.get( i ), String.class ) )
-                 .mapToObj( i -> new AbstractMap.SimpleImmutableEntry<>( i, l_arguments.get( i ).<String>raw() ) )
-                 .filter( i -> EDistribution.exist( i.getValue() ) )
-                 .map( i -> new AbstractMap.SimpleImmutableEntry<>( i.getKey(), EDistribution.of( i.getValue() ) ) )
-                 .map( i ->
-                 {
-
-                     // check if next argument to the distribution name a generator name
-                     final int l_skip;
-                     final EGenerator l_generator;
-
-                     if ( i.getKey() < l_arguments.size() - 1 && CCommon.isssignableto( l_arguments.get( i.getKey() + 1 ), String.class ) )
-                     {
-                         l_skip = 1;
-                         l_generator = EGenerator.of( l_arguments.get( i.getKey() + 1 ).raw() );
-                     }
-                     else
-                     {
-                         l_skip = 0;
-                         l_generator = EGenerator.MERSENNETWISTER;
-                     }
-
-                     // generate distribution object, arguments after distribution are the initialize parameter
-                     return i.getValue()
-                             .apply(
-                                 l_generator.get(),
-                                 l_arguments.stream()
-                                            .skip( i.getKey() + 1 + l_skip )
-                                            .limit( i.getValue().getArgumentNumber() )
-                                            .map( ITerm::<Number>raw )
-                                            .mapToDouble( Number::doubleValue )
-                                            .toArray()
-                             );
-
-                 } )
-                 .map( CRawTerm::of )
-                 .forEach( p_return::add );
+        final List<ITerm> l_arguments = CArgument.flatten( p_argument );
+        final CPlan l_plan = CCreateDistribution.plan( l_arguments );
+
+        for ( int i = 0; i < l_plan.m_entries.length; i++ )
+            p_return.add( CRawTerm.of( l_plan.m_entries[i].apply( p_context, l_arguments ) ) );
 
         return Stream.empty();
     }
 
+    /**
+     * returns the plan of the arguments, the plans are cached
+     * by the position and value of the string arguments
+     *
+     * @param p_arguments flat arguments
+     * @return plan
+     */
+    @Nonnull
+    private static CPlan plan( @Nonnull final List<ITerm> p_arguments )
+    {
+        int l_hash = p_arguments.size();
+        for ( int i = 0; i < p_arguments.size(); i++ )
+        {
+            final Object l_value = p_arguments.get( i ).raw();
+            if ( l_value instanceof String )
+                l_hash = l_hash * 31 + i * 17 + l_value.hashCode();
+        }
+
+        final int l_slot = ( l_hash ^ ( l_hash >>> 16 ) ) & ( PLANS.length - 1 );
+        final CPlan l_plan = PLANS[l_slot];
+        if ( l_plan != null && l_plan.matches( p_arguments ) )
+            return l_plan;
+
+        final CPlan l_compiled = CCreateDistribution.compile( p_arguments );
+        PLANS[l_slot] = l_compiled;
+        return l_compiled;
+    }
+
+    /**
+     * compiles the arguments to a plan
+     *
+     * @param p_arguments flat arguments
+     * @return plan
+     */
+    @Nonnull
+    private static CPlan compile( @Nonnull final List<ITerm> p_arguments )
+    {
+        final String[] l_tokens = new String[p_arguments.size()];
+        for ( int i = 0; i < l_tokens.length; i++ )
+        {
+            final Object l_value = p_arguments.get( i ).raw();
+            l_tokens[i] = l_value instanceof String ? (String) l_value : null;
+        }
+
+        return new CPlan(
+            l_tokens,
+            IntStream.range( 0, l_tokens.length )
+                     .filter( i -> l_tokens[i] != null && CCreateDistribution.exist( l_tokens[i] ) )
+                     .mapToObj( i -> CCreateDistribution.compile( l_tokens, i ) )
+                     .toArray( CEntry[]::new )
+        );
+    }
+
+    /**
+     * checks if a string argument is a distribution name
+     *
+     * @param p_token string argument
+     * @return distribution name
+     */
+    private static boolean exist( @Nonnull final String p_token )
+    {
+        return EDistribution.exist( p_token ) || EMultivariate.exist( p_token ) || EDiscrete.exist( p_token );
+    }
+
+    /**
+     * compiles the definition of a single distribution
+     *
+     * @param p_tokens string arguments
+     * @param p_index index of the distribution name
+     * @return plan entry
+     */
+    @Nonnull
+    private static CEntry compile( @Nonnull final String[] p_tokens, final int p_index )
+    {
+        final IDistributionType l_distribution = EDistribution.exist( p_tokens[p_index] )
+                                                 ? EDistribution.of( p_tokens[p_index] )
+                                                 : EMultivariate.exist( p_tokens[p_index] )
+                                                   ? EMultivariate.of( p_tokens[p_index] )
+                                                   : EDiscrete.of( p_tokens[p_index] );
+
+        // check if next argument to the distribution name a generator name
+        int l_index = p_index + 1;
+        final EGenerator l_generator;
+
+        if ( l_index < p_tokens.length && p_tokens[l_index] != null
+             && !CCreateDistribution.isoption( p_tokens[l_index], SEED )
+             && !CCreateDistribution.isoption( p_tokens[l_index], TABULATED ) )
+        {
+            l_generator = EGenerator.of( p_tokens[l_index] );
+            l_index++;
+        }
+        else
+            l_generator = EGenerator.MERSENNETWISTER;
+
+        // check for the seed and tabulation definitions, each is followed by a number
+        int l_seed = -1;
+        int l_error = -1;
+        while ( l_index < p_tokens.length - 1 )
+        {
+            if ( CCreateDistribution.isoption( p_tokens[l_index], SEED ) )
+            {
+                l_seed = l_index + 1;
+                l_index += 2;
+            }
+            else if ( CCreateDistribution.isoption( p_tokens[l_index], TABULATED ) )
+            {
+                l_error = l_index + 1;
+                l_index += 2;
+            }
+            else
+                break;
+        }
+
+        // arguments after distribution are the initialize parameter
+        return new CEntry( l_distribution, l_generator, l_seed, l_error, l_index );
+    }
+
+    /**
+     * creates a distribution
+     *
+     * @param p_distribution distribution
+     * @param p_generator generator
+     * @param p_seed seed or null
+     * @param p_error error bound of the tabulation or null
+     * @param p_parameter distribution arguments
+     * @return distribution object
+     */
+    @Nonnull
+    private static AbstractRealDistribution create( @Nonnull final EDistribution p_distribution, @Nonnull final EGenerator p_generator,
+                                                    final Number p_seed, final Number p_error, @Nonnull final double[] p_parameter )
+    {
+        // distributions without a seed are shared and use a generator for each thread
+        if ( p_seed == null && !p_generator.splittable() )
+            return (AbstractRealDistribution) CCreateDistribution.shared(
+                new CKey( p_distribution, p_generator.unsynchronized(), p_error == null ? 0 : p_error.doubleValue(), p_parameter ),
+                () -> CCreateDistribution.factory( p_distribution, p_error )
+                                         .apply( new CThreadLocalRandomGenerator( p_generator.unsynchronized() ), p_parameter )
+            );
+
+        final BiFunction<RandomGenerator, double[], AbstractRealDistribution> l_factory = CCreateDistribution.factory( p_distribution, p_error );
+        final RandomGenerator l_random = p_seed == null ? p_generator.get() : p_generator.get( p_seed.longValue() );
+        return l_random instanceof ISplittableRandomGenerator
+               ? new CSplittableDistribution( l_factory, p_parameter, (ISplittableRandomGenerator) l_random )
+               : l_factory.apply( l_random, p_parameter );
+    }
+
+    /**
+     * creates a multivariate or discrete distribution
+     *
+     * @param p_distribution distribution
+     * @param p_factory factory of the distribution
+     * @param p_generator generator
+     * @param p_seed seed or null
+     * @param p_parameter distribution arguments
+     * @return distribution object
+     */
+    @Nonnull
+    private static Object create( @Nonnull final IDistributionType p_distribution, @Nonnull final BiFunction<RandomGenerator, double[], ?> p_factory,
+                                  @Nonnull final EGenerator p_generator, final Number p_seed, @Nonnull final double[] p_parameter )
+    {
+        if ( p_seed == null && !p_generator.splittable() )
+            return CCreateDistribution.shared(
+                new CKey( p_distribution, p_generator.unsynchronized(), 0, p_parameter ),
+                () -> p_factory.apply( new CThreadLocalRandomGenerator( p_generator.unsynchronized() ), p_parameter )
+            );
+
+        return p_factory.apply( p_seed == null ? p_generator.get() : p_generator.get( p_seed.longValue() ), p_parameter );
+    }
+
+    /**
+     * returns a shared distribution, the distribution is created outside
+     * of the cache lock, so concurrent calls with the same key can create
+     * a distribution twice, but only the first one is stored and returned
+     *
+     * @param p_key key
+     * @param p_factory distribution factory
+     * @return shared distribution
+     */
+    @Nonnull
+    private static Object shared( @Nonnull final CKey p_key, @Nonnull final Supplier<?> p_factory )
+    {
+        final Object l_shared = CACHE.get( p_key );
+        if ( l_shared != null )
+            return l_shared;
+
+        final Object l_created = p_factory.get();
+        final Object l_previous = CACHE.putIfAbsent( p_key, l_created );
+        return l_previous == null ? l_created : l_previous;
+    }
+
+    /**
+     * returns the distribution factory
+     *
+     * @param p_distribution distribution
+     * @param p_error error bound of the tabulation or null
+     * @return factory
+     */
+    @Nonnull
+    private static BiFunction<RandomGenerator, double[], AbstractRealDistribution> factory( @Nonnull final EDistribution p_distribution,
+                                                                                          final Number p_error )
+    {
+        return p_error == null ? p_distribution : CTabulatedDistribution.factory( p_distribution, p_error.doubleValue() );
+    }
+
+    /**
+     * checks if a string argument is an option definition
+     *
+     * @param p_token string argument or null
+     * @param p_option option name
+     * @return option definition
+     */
+    private static boolean isoption( final String p_token, @Nonnull final String p_option )
+    {
+        return p_token != null && p_option.equalsIgnoreCase( p_token.trim() );
+    }
+
+
+    /**
+     * compiled arguments
+     */
+    private static final class CPlan
+    {
+        /**
+         * string arguments, null for any other argument
+         */
+        private final String[] m_tokens;
+        /**
+         * distribution definitions
+         */
+        private final CEntry[] m_entries;
+
+        /**
+         * ctor
+         *
+         * @param p_tokens string arguments
+         * @param p_entries distribution definitions
+         */
+        CPlan( @Nonnull final String[] p_tokens, @Nonnull final CEntry[] p_entries )
+        {
+            m_tokens = p_tokens;
+            m_entries = p_entries;
+        }
+
+        /**
+         * checks if the plan matches the arguments
+         *
+         * @param p_arguments flat arguments
+         * @return matching
+         */
+        boolean matches( @Nonnull final List<ITerm> p_arguments )
+        {
+            if ( m_tokens.length != p_arguments.size() )
+                return false;
+
+            for ( int i = 0; i < m_tokens.length; i++ )
+            {
+                final Object l_value = p_arguments.get( i ).raw();
+                if ( m_tokens[i] == null ? l_value instanceof String : !m_tokens[i].equals( l_value ) )
+                    return false;
+            }
+
+            return true;
+        }
+    }
+
+    /**
+     * compiled definition of a distribution
+     */
+    private static final class CEntry
+    {
+        /**
+         * distribution
+         */
+        private final IDistributionType m_distribution;
+        /**
+         * generator
+         */
+        private final EGenerator m_generator;
+        /**
+         * index of the seed or -1
+         */
+        private final int m_seed;
+        /**
+         * index of the error bound or -1
+         */
+        private final int m_error;
+        /**
+         * index of the first distribution argument
+         */
+        private final int m_parameter;
+
+        /**
+         * ctor
+         *
+         * @param p_distribution distribution
+         * @param p_generator generator
+         * @param p_seed index of the seed or -1
+         * @param p_error index of the error bound or -1
+         * @param p_parameter index of the first distribution argument
+         */
+        CEntry( @Nonnull final IDistributionType p_distribution, @Nonnull final EGenerator p_generator, final int p_seed, final int p_error,
+                final int p_parameter )
+        {
+            m_distribution = p_distribution;
+            m_generator = p_generator;
+            m_seed = p_seed;
+            m_error = p_error;
+            m_parameter = p_parameter;
+        }
+
+        /**
+         * creates the distribution
+         *
+         * @param p_context execution context
+         * @param p_arguments flat arguments
+         * @return distribution object
+         */
+        @Nonnull
+        Object apply( @Nonnull final IContext p_context, @Nonnull final List<ITerm> p_arguments )
+        {
+            if ( m_error >= 0 && !m_distribution.tabulable() )
+                throw new CExecutionIllegealArgumentException(
+                    p_context,
+                    org.lightjason.agentspeak.common.CCommon.languagestring( CCreateDistribution.class, "tabulatednotsupported", m_distribution )
+                );
+
+            final double[] l_parameter = new double[
+                Math.max( 0, Math.min( m_distribution.argumentnumber( p_arguments, m_parameter ), p_arguments.size() - m_parameter ) )
+            ];
+            for ( int i = 0; i < l_parameter.length; i++ )
+                l_parameter[i] = p_arguments.get( m_parameter + i ).<Number>raw().doubleValue();
+
+            return m_distribution.create(
+                m_generator,
+                m_seed < 0 ? null : p_arguments.get( m_seed ).<Number>raw(),
+                m_error < 0 ? null : p_arguments.get( m_error ).<Number>raw(),
+                l_parameter
+            );
+        }
+    }
+
+
+    /**
+     * key of a shared distribution
+     */
+    private static final class CKey
+    {
+        /**
+         * distribution
+         */
+        private final IDistributionType m_distribution;
+        /**
+         * generator
+         */
+        private final EGenerator m_generator;
+        /**
+         * error bound of the tabulation or zero
+         */
+        private final double m_error;
+        /**
+         * distribution arguments
+         */
+        private final double[] m_arguments;
+        /**
+         * hash code
+         */
+        private final int m_hash;
+
+        /**
+         * ctor
+         *
+         * @param p_distribution distribution
+         * @param p_generator generator
+         * @param p_error error bound of the tabulation or zero
+         * @param p_arguments distribution arguments
+         */
+        CKey( @Nonnull final IDistributionType p_distribution, @Nonnull final EGenerator p_generator, final double p_error,
+              @Nonnull final double[] p_arguments )
+        {
+            m_distribution = p_distribution;
+            m_generator = p_generator;
+            m_error = p_error;
+            m_arguments = p_arguments;
+            m_hash = ( ( p_distribution.hashCode() * 31 + p_generator.hashCode() ) * 31 + Double.hashCode( p_error ) ) * 31
+                     + Arrays.hashCode( p_arguments );
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return m_hash;
+        }
+
+        @Override
+        public boolean equals( final Object p_object )
+        {
+            return p_object instanceof CKey
+                   && m_distribution == ( (CKey) p_object ).m_distribution
+                   && m_generator == ( (CKey) p_object ).m_generator
+                   && Double.compare( m_error, ( (CKey) p_object ).m_error ) == 0
+                   && Arrays.equals( m_arguments, ( (CKey) p_object ).m_arguments );
+        }
+    }
+
+
+    /**
+     * distribution type
+     */
+    private interface IDistributionType
+    {
+        /**
+         * returns the number of distribution arguments
+         *
+         * @param p_arguments flat arguments
+         * @param p_index index of the first distribution argument
+         * @return argument number
+         */
+        int argumentnumber( @Nonnull final List<ITerm> p_arguments, final int p_index );
+
+        /**
+         * returns if the distribution can be tabulated
+         *
+         * @return tabulation support
+         */
+        boolean tabulable();
+
+        /**
+         * creates the distribution
+         *
+         * @param p_generator generator
+         * @param p_seed seed or null
+         * @param p_error error bound of the tabulation or null
+         * @param p_parameter distribution arguments
+         * @return distribution object
+         */
+        @Nonnull
+        Object create( @Nonnull final EGenerator p_generator, final Number p_seed, final Number p_error, @Nonnull final double[] p_parameter );
+    }
 
     /**
      * usable distributions
      */
-    private enum EDistribution implements BiFunction<RandomGenerator, double[], AbstractRealDistribution>
+    private enum EDistribution implements BiFunction<RandomGenerator, double[], AbstractRealDistribution>, IDistributionType
     {
         BETA( 2 )
         {
@@ -263,7 +747,7 @@ public final class CCreateDistribution extends IBaseAction
             @Override
             public AbstractRealDistribution apply( @Nonnull final RandomGenerator p_generator, final double[] p_arguments )
             {
-                return new ExponentialDistribution( p_generator, p_arguments[0] );
+                return new CZigguratExponentialDistribution( p_generator, p_arguments[0] );
             }
 
         },
@@ -333,7 +817,7 @@ public final class CCreateDistribution extends IBaseAction
             @Override
             public AbstractRealDistribution apply( @Nonnull final RandomGenerator p_generator, final double[] p_arguments )
             {
-                return new LogNormalDistribution( p_generator, p_arguments[0], p_arguments[1] );
+                return new CZigguratLogNormalDistribution( p_generator, p_arguments[0], p_arguments[1] );
             }
 
         },
@@ -356,7 +840,7 @@ public final class CCreateDistribution extends IBaseAction
             @Override
             public AbstractRealDistribution apply( @Nonnull final RandomGenerator p_generator, final double[] p_arguments )
             {
-                return new NormalDistribution( p_generator, p_arguments[0], p_arguments[1] );
+                return new CZigguratNormalDistribution( p_generator, p_arguments[0], p_arguments[1] );
             }
 
         },
@@ -458,16 +942,288 @@ public final class CCreateDistribution extends IBaseAction
             return NAMES.contains( p_value.trim().toUpperCase( Locale.ROOT ) );
         }
 
+        @Override
+        public final int argumentnumber( @Nonnull final List<ITerm> p_arguments, final int p_index )
+        {
+            return m_arguments;
+        }
+
+        @Override
+        public final boolean tabulable()
+        {
+            return true;
+        }
+
+        @Nonnull
+        @Override
+        public final Object create( @Nonnull final EGenerator p_generator, final Number p_seed, final Number p_error,
+                                    @Nonnull final double[] p_parameter )
+        {
+            return CCreateDistribution.create( this, p_generator, p_seed, p_error, p_parameter );
+        }
+
+    }
+
+    /**
+     * usable multivariate distributions, the number of arguments
+     * depends on the dimension and number of components
+     */
+    private enum EMultivariate implements BiFunction<RandomGenerator, double[], AbstractMultivariateRealDistribution>, IDistributionType
+    {
+        MULTIVARIATENORMAL
+        {
+            @Override
+            public int argumentnumber( @Nonnull final List<ITerm> p_arguments, final int p_index )
+            {
+                final int l_dimension = EMultivariate.integer( p_arguments, p_index );
+                return 1 + l_dimension + l_dimension * l_dimension;
+            }
+
+            @Nonnull
+            @Override
+            public AbstractMultivariateRealDistribution apply( @Nonnull final RandomGenerator p_generator, final double[] p_arguments )
+            {
+                final int l_dimension = (int) p_arguments[0];
+                return new CMultivariateNormalDistribution(
+                    p_generator,
+                    Arrays.copyOfRange( p_arguments, 1, 1 + l_dimension ),
+                    EMultivariate.matrix( p_arguments, 1 + l_dimension, l_dimension )
+                );
+            }
+        },
+        GAUSSIANMIXTURE
+        {
+            @Override
+            public int argumentnumber( @Nonnull final List<ITerm> p_arguments, final int p_index )
+            {
+                final int l_components = EMultivariate.integer( p_arguments, p_index );
+                final int l_dimension = EMultivariate.integer( p_arguments, p_index + 1 );
+                return 2 + l_components * ( 1 + l_dimension + l_dimension * l_dimension );
+            }
+
+            @Nonnull
+            @Override
+            public AbstractMultivariateRealDistribution apply( @Nonnull final RandomGenerator p_generator, final double[] p_arguments )
+            {
+                final int l_components = (int) p_arguments[0];
+                final int l_dimension = (int) p_arguments[1];
+                final double[][] l_mean = new double[l_components][];
+                final double[][][] l_covariance = new double[l_components][][];
+
+                for ( int i = 0, j = 2 + l_components; i < l_components; i++, j += l_dimension + l_dimension * l_dimension )
+                {
+                    l_mean[i] = Arrays.copyOfRange( p_arguments, j, j + l_dimension );
+                    l_covariance[i] = EMultivariate.matrix( p_arguments, j + l_dimension, l_dimension );
+                }
+
+                return new CGaussianMixtureDistribution( p_generator, Arrays.copyOfRange( p_arguments, 2, 2 + l_components ), l_mean, l_covariance );
+            }
+        },
+        DIRICHLET
+        {
+            @Override
+            public int argumentnumber( @Nonnull final List<ITerm> p_arguments, final int p_index )
+            {
+                return 1 + EMultivariate.integer( p_arguments, p_index );
+            }
+
+            @Nonnull
+            @Override
+            public AbstractMultivariateRealDistribution apply( @Nonnull final RandomGenerator p_generator, final double[] p_arguments )
+            {
+                return new CDirichletDistribution( p_generator, Arrays.copyOfRange( p_arguments, 1, 1 + (int) p_arguments[0] ) );
+            }
+        };
+
         /**
-         * return number of arguments
+         * enum name list
+         */
+        private static final Set<String> NAMES = Collections.unmodifiableSet(
+            Arrays.stream( EMultivariate.values() )
+                  .map( i -> i.name().toUpperCase( Locale.ROOT ) )
+                  .collect( Collectors.toSet() )
+        );
+
+        /**
+         * additional factory
          *
-         * @return argument number
+         * @param p_value string
+         * @return enum
+         */
+        @Nonnull
+        public static EMultivariate of( @Nonnull final String p_value )
+        {
+            return EMultivariate.valueOf( p_value.trim().toUpperCase( Locale.ROOT ) );
+        }
+
+        /**
+         * checks if a name exists within the enum
+         *
+         * @param p_value string name
+         * @return exist boolean
          */
-        public final int getArgumentNumber()
+        public static boolean exist( @Nonnull final String p_value )
+        {
+            return NAMES.contains( p_value.trim().toUpperCase( Locale.ROOT ) );
+        }
+
+        @Override
+        public final boolean tabulable()
+        {
+            return false;
+        }
+
+        @Nonnull
+        @Override
+        public final Object create( @Nonnull final EGenerator p_generator, final Number p_seed, final Number p_error,
+                                    @Nonnull final double[] p_parameter )
+        {
+            return CCreateDistribution.create( this, this, p_generator, p_seed, p_parameter );
+        }
+
+        /**
+         * reads an integer argument
+         *
+         * @param p_arguments flat arguments
+         * @param p_index index
+         * @return integer or zero if the index does not exist
+         */
+        private static int integer( @Nonnull final List<ITerm> p_arguments, final int p_index )
+        {
+            return p_index < p_arguments.size() ? Math.max( 0, p_arguments.get( p_index ).<Number>raw().intValue() ) : 0;
+        }
+
+        /**
+         * reads a square matrix row by row
+         *
+         * @param p_arguments arguments
+         * @param p_offset index of the first value
+         * @param p_dimension dimension
+         * @return matrix
+         */
+        @Nonnull
+        private static double[][] matrix( @Nonnull final double[] p_arguments, final int p_offset, final int p_dimension )
+        {
+            final double[][] l_matrix = new double[p_dimension][];
+            for ( int i = 0; i < p_dimension; i++ )
+                l_matrix[i] = Arrays.copyOfRange( p_arguments, p_offset + i * p_dimension, p_offset + ( i + 1 ) * p_dimension );
+            return l_matrix;
+        }
+    }
+
+    /**
+     * usable discrete distributions
+     */
+    private enum EDiscrete implements BiFunction<RandomGenerator, double[], AbstractIntegerDistribution>, IDistributionType
+    {
+        POISSON( 1 )
+        {
+            @Nonnull
+            @Override
+            public AbstractIntegerDistribution apply( @Nonnull final RandomGenerator p_generator, final double[] p_arguments )
+            {
+                return new CTransformedRejectionPoissonDistribution( p_generator, p_arguments[0] );
+            }
+
+        },
+        BINOMIAL( 2 )
+        {
+            @Nonnull
+            @Override
+            public AbstractIntegerDistribution apply( @Nonnull final RandomGenerator p_generator, final double[] p_arguments )
+            {
+                return new CTransformedRejectionBinomialDistribution( p_generator, (int) p_arguments[0], p_arguments[1] );
+            }
+
+        },
+        GEOMETRIC( 1 )
+        {
+            @Nonnull
+            @Override
+            public AbstractIntegerDistribution apply( @Nonnull final RandomGenerator p_generator, final double[] p_arguments )
+            {
+                return new CInversionGeometricDistribution( p_generator, p_arguments[0] );
+            }
+
+        },
+        ZIPF( 2 )
+        {
+            @Nonnull
+            @Override
+            public AbstractIntegerDistribution apply( @Nonnull final RandomGenerator p_generator, final double[] p_arguments )
+            {
+                return new ZipfDistribution( p_generator, (int) p_arguments[0], p_arguments[1] );
+            }
+
+        };
+
+        /**
+         * enum name list
+         */
+        private static final Set<String> NAMES = Collections.unmodifiableSet(
+            Arrays.stream( EDiscrete.values() )
+                  .map( i -> i.name().toUpperCase( Locale.ROOT ) )
+                  .collect( Collectors.toSet() )
+        );
+
+        /**
+         * number of arguments
+         */
+        private final int m_arguments;
+
+        /**
+         * ctor
+         *
+         * @param p_arguments number of arguments
+         */
+        EDiscrete( final int p_arguments )
+        {
+            m_arguments = p_arguments;
+        }
+
+        /**
+         * additional factory
+         *
+         * @param p_value string
+         * @return enum
+         */
+        @Nonnull
+        public static EDiscrete of( @Nonnull final String p_value )
+        {
+            return EDiscrete.valueOf( p_value.trim().toUpperCase( Locale.ROOT ) );
+        }
+
+        /**
+         * checks if a name exists within the enum
+         *
+         * @param p_value string name
+         * @return exist boolean
+         */
+        public static boolean exist( @Nonnull final String p_value )
+        {
+            return NAMES.contains( p_value.trim().toUpperCase( Locale.ROOT ) );
+        }
+
+        @Override
+        public final int argumentnumber( @Nonnull final List<ITerm> p_arguments, final int p_index )
         {
             return m_arguments;
         }
 
+        @Override
+        public final boolean tabulable()
+        {
+            return false;
+        }
+
+        @Nonnull
+        @Override
+        public final Object create( @Nonnull final EGenerator p_generator, final Number p_seed, final Number p_error,
+                                    @Nonnull final double[] p_parameter )
+        {
+            return CCreateDistribution.create( this, this, p_generator, p_seed, p_parameter );
+        }
+
     }
 
     /**
@@ -668,8 +1424,92 @@ public final class CCreateDistribution extends IBaseAction
                 return new SynchronizedRandomGenerator( new Well44497b() );
             }
 
+        },
+        SPLITMIX64
+        {
+
+            @Nonnull
+            @Override
+            public RandomGenerator get()
+            {
+                return new CSplitMix64RandomGenerator();
+            }
+
+            @Override
+            public boolean splittable()
+            {
+                return true;
+            }
+
+        },
+        XOROSHIRO128PLUSPLUS
+        {
+
+            @Nonnull
+            @Override
+            public RandomGenerator get()
+            {
+                return new CXoroshiro128PlusPlusRandomGenerator();
+            }
+
+            @Override
+            public boolean splittable()
+            {
+                return true;
+            }
+
         };
 
+        /**
+         * prefix of the synchronized generators
+         */
+        private static final String SYNCHRONIZED = "SYNCHRONIZED";
+        /**
+         * generators without synchronization, indexed by the ordinal
+         */
+        private static final EGenerator[] UNSYNCHRONIZED = Arrays.stream( EGenerator.values() )
+                                                                 .map( i -> i.name().startsWith( SYNCHRONIZED )
+                                                                            ? EGenerator.valueOf( i.name().substring( SYNCHRONIZED.length() ) )
+                                                                            : i )
+                                                                 .toArray( EGenerator[]::new );
+
+        /**
+         * returns the generator without synchronization, which
+         * is used for the generator of each thread, because
+         * a thread-local generator needs no lock
+         *
+         * @return generator
+         */
+        @Nonnull
+        public final EGenerator unsynchronized()
+        {
+            return UNSYNCHRONIZED[this.ordinal()];
+        }
+
+        /**
+         * returns if the generator is splittable
+         *
+         * @return splittable flag
+         */
+        public boolean splittable()
+        {
+            return false;
+        }
+
+        /**
+         * creates a generator with a seed
+         *
+         * @param p_seed seed
+         * @return generator
+         */
+        @Nonnull
+        public final RandomGenerator get( final long p_seed )
+        {
+            final RandomGenerator l_generator = this.get();
+            l_generator.setSeed( p_seed );
+            return l_generator;
+        }
+
         /**
          * additional factory
          *
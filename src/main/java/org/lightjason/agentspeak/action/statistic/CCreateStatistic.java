@@ -27,7 +27,6 @@ import edu.umd.cs.findbugs.annotations.NonNull;
 import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
 import org.apache.commons.math3.stat.descriptive.StatisticalSummary;
 import org.apache.commons.math3.stat.descriptive.SummaryStatistics;
-import org.apache.commons.math3.stat.descriptive.SynchronizedDescriptiveStatistics;
 import org.apache.commons.math3.stat.descriptive.SynchronizedSummaryStatistics;
 import org.lightjason.agentspeak.action.IBaseAction;
 import org.lightjason.agentspeak.common.IPath;
@@ -40,7 +39,9 @@ import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 import javax.annotation.Nonnull;
 import java.util.List;
 import java.util.Locale;
-import java.util.function.Function;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 
@@ -49,9 +50,27 @@ import java.util.stream.Stream;
  * The action creates statistic objects to collect data,
  * each argument must be a string with "summary" or "descriptive"
  * for a summary or descriptive statistic object, on no arguments
- * a summary statistic object is created
+ * a summary statistic object is created, numeric arguments after
+ * a name are optional parameters of the statistic
  *
- * {@code [S1|S2] = .math/statistic/createstaistic("summary", ["descriptive"]);}
+ * + summary
+ * + descriptive statistic with a cached sorted view for repeated percentile reads
+ * + striped summary statistic for many concurrent writers, which avoids a single lock on adding values
+ * + tdigest percentile estimating statistic with bounded memory and the compression (default 100) as optional argument
+ * + exponentialmoving exponentially weighted mean, variance, minimum and maximum with the half-life
+ *   as number of values (default 100) as optional argument
+ * + slidingwindow statistic over the last values with constant time reads and the window size (default 100)
+ *   as optional argument
+ * + offheap descriptive statistic with the values outside the heap and the window size (default unbounded)
+ *   as optional argument
+ * + mapped descriptive statistic with the values within a temporary memory-mapped file and the window size
+ *   (default unbounded) as optional argument
+ * + histogram statistic with buckets of a fixed width and the lowest value (default 0), the highest value
+ *   (default 100) and the number of buckets (default 100) as optional arguments
+ * + hdrhistogram statistic with logarithmic buckets and the lowest positive value (default 1), the highest
+ *   value (default 3600000000) and the number of significant digits (default 2) as optional arguments
+ *
+ * {@code [S1|S2|S3|S4] = .math/statistic/createstaistic("summary", ["descriptive", "striped"], "tdigest", 200);}
  *
  * @see <a href="http://commons.apache.org/proper/commons-math/userguide/stat.html"></a>
  */
@@ -79,12 +98,34 @@ public final class CCreateStatistic extends IBaseAction
                                            @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return )
     {
 
-        (
-            p_argument.size() == 0
-            ? Stream.of( EType.SUMMARY )
-            : CCommon.flatten( p_argument ).map( ITerm::<String>raw ).map( EType::of )
-        ).map( i -> i.apply( p_parallel ) )
-         .map( CRawTerm::of ).forEach( p_return::add );
+        if ( p_argument.size() == 0 )
+        {
+            p_return.add( CRawTerm.of( EType.SUMMARY.apply( p_parallel, new double[0] ) ) );
+            return Stream.empty();
+        }
+
+        final List<ITerm> l_arguments = CCommon.flatten( p_argument ).collect( Collectors.toList() );
+
+        IntStream.range( 0, l_arguments.size() )
+                 .filter( i -> CCommon.isssignableto( l_arguments.get( i ), String.class ) )
+                 .mapToObj( i ->
+                 {
+                     final EType l_type = EType.of( l_arguments.get( i ).raw() );
+
+                     // numeric arguments after the name are the optional parameters
+                     return l_type.apply(
+                         p_parallel,
+                         l_arguments.stream()
+                                    .skip( i + 1 )
+                                    .limit( l_type.getArgumentNumber() )
+                                    .takeWhile( j -> CCommon.isssignableto( j, Number.class ) )
+                                    .map( ITerm::<Number>raw )
+                                    .mapToDouble( Number::doubleValue )
+                                    .toArray()
+                     );
+                 } )
+                 .map( CRawTerm::of )
+                 .forEach( p_return::add );
 
         return Stream.empty();
     }
@@ -93,13 +134,13 @@ public final class CCreateStatistic extends IBaseAction
     /**
      * enume statistic type
      */
-    private enum EType implements Function<Boolean, StatisticalSummary>
+    private enum EType implements BiFunction<Boolean, double[], StatisticalSummary>
     {
-        SUMMARY
+        SUMMARY( 0 )
         {
 
             @Override
-            public StatisticalSummary apply( @NonNull final Boolean p_parallel )
+            public StatisticalSummary apply( @NonNull final Boolean p_parallel, @NonNull final double[] p_arguments )
             {
                 return p_parallel
                         ? new SynchronizedSummaryStatistics()
@@ -107,19 +148,128 @@ public final class CCreateStatistic extends IBaseAction
             }
 
         },
-        DESCRIPTIVE
+        DESCRIPTIVE( 0 )
         {
 
             @Override
-            public StatisticalSummary apply( @NonNull final Boolean p_parallel )
+            public StatisticalSummary apply( @NonNull final Boolean p_parallel, @NonNull final double[] p_arguments )
             {
                 return p_parallel
-                        ? new SynchronizedDescriptiveStatistics()
-                        : new DescriptiveStatistics();
+                        ? new CSynchronizedSortedDescriptiveStatistics()
+                        : new CSortedDescriptiveStatistics();
+            }
+
+        },
+        STRIPED( 0 )
+        {
+
+            @Override
+            public StatisticalSummary apply( @NonNull final Boolean p_parallel, @NonNull final double[] p_arguments )
+            {
+                return new CStripedSummaryStatistics();
+            }
+
+        },
+        TDIGEST( 1 )
+        {
+
+            @Override
+            public StatisticalSummary apply( @NonNull final Boolean p_parallel, @NonNull final double[] p_arguments )
+            {
+                return p_arguments.length > 0
+                       ? new CTDigestStatistic( p_arguments[0] )
+                       : new CTDigestStatistic();
+            }
+
+        },
+        EXPONENTIALMOVING( 1 )
+        {
+
+            @Override
+            public StatisticalSummary apply( @NonNull final Boolean p_parallel, @NonNull final double[] p_arguments )
+            {
+                return p_arguments.length > 0
+                       ? new CExponentialMovingStatistic( p_arguments[0] )
+                       : new CExponentialMovingStatistic();
+            }
+
+        },
+        SLIDINGWINDOW( 1 )
+        {
+
+            @Override
+            public StatisticalSummary apply( @NonNull final Boolean p_parallel, @NonNull final double[] p_arguments )
+            {
+                return p_arguments.length > 0
+                       ? new CSlidingWindowStatistic( (int) p_arguments[0] )
+                       : new CSlidingWindowStatistic();
+            }
+
+        },
+        OFFHEAP( 1 )
+        {
+
+            @Override
+            public StatisticalSummary apply( @NonNull final Boolean p_parallel, @NonNull final double[] p_arguments )
+            {
+                return new COffHeapStatistic( EType.window( p_arguments ) );
+            }
+
+        },
+        MAPPED( 1 )
+        {
+
+            @Override
+            public StatisticalSummary apply( @NonNull final Boolean p_parallel, @NonNull final double[] p_arguments )
+            {
+                return COffHeapStatistic.temporary( EType.window( p_arguments ) );
+            }
+
+        },
+        HISTOGRAM( 3 )
+        {
+
+            @Override
+            public StatisticalSummary apply( @NonNull final Boolean p_parallel, @NonNull final double[] p_arguments )
+            {
+                return CHistogramStatistic.linear(
+                    EType.argument( p_arguments, 0, 0 ),
+                    EType.argument( p_arguments, 1, 100 ),
+                    (int) EType.argument( p_arguments, 2, CHistogramStatistic.DEFAULTBUCKETS )
+                );
+            }
+
+        },
+        HDRHISTOGRAM( 3 )
+        {
+
+            @Override
+            public StatisticalSummary apply( @NonNull final Boolean p_parallel, @NonNull final double[] p_arguments )
+            {
+                return CHistogramStatistic.logarithmic(
+                    EType.argument( p_arguments, 0, 1 ),
+                    EType.argument( p_arguments, 1, 3600000000d ),
+                    (int) EType.argument( p_arguments, 2, CHistogramStatistic.DEFAULTDIGITS )
+                );
             }
 
         };
 
+        /**
+         * maximum number of optional arguments
+         */
+        private final int m_arguments;
+
+        /**
+         * ctor
+         *
+         * @param p_arguments maximum number of optional arguments
+         */
+        EType( final int p_arguments )
+        {
+            m_arguments = p_arguments;
+        }
+
         /**
          * additional factory
          *
@@ -131,5 +281,39 @@ public final class CCreateStatistic extends IBaseAction
         {
             return EType.valueOf( p_value.trim().toUpperCase( Locale.ROOT ) );
         }
+
+        /**
+         * returns the window size of the optional arguments
+         *
+         * @param p_arguments optional arguments
+         * @return window size or DescriptiveStatistics.INFINITE_WINDOW
+         */
+        private static int window( @Nonnull final double[] p_arguments )
+        {
+            return p_arguments.length > 0 ? (int) p_arguments[0] : DescriptiveStatistics.INFINITE_WINDOW;
+        }
+
+        /**
+         * returns an optional argument
+         *
+         * @param p_arguments optional arguments
+         * @param p_index index of the argument
+         * @param p_default default value
+         * @return argument or default value
+         */
+        private static double argument( @Nonnull final double[] p_arguments, final int p_index, final double p_default )
+        {
+            return p_arguments.length > p_index ? p_arguments[p_index] : p_default;
+        }
+
+        /**
+         * return maximum number of optional arguments
+         *
+         * @return argument number
+         */
+        public final int getArgumentNumber()
+        {
+            return m_arguments;
+        }
     }
 }
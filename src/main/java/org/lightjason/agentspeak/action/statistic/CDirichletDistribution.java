@@ -0,0 +1,169 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.statistic;
+
+import org.apache.commons.math3.distribution.AbstractMultivariateRealDistribution;
+import org.apache.commons.math3.exception.DimensionMismatchException;
+import org.apache.commons.math3.exception.NotStrictlyPositiveException;
+import org.apache.commons.math3.random.RandomGenerator;
+import org.apache.commons.math3.special.Gamma;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+
+
+/**
+ * Dirichlet distribution.
+ * A sample is a vector of gamma distributed values, which
+ * is normalized to the sum one, the gamma values are sampled
+ * with the method of Marsaglia and Tsang
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Dirichlet_distribution"></a>
+ * @see <a href="https://doi.org/10.1145/358407.358414"></a>
+ */
+public final class CDirichletDistribution extends AbstractMultivariateRealDistribution implements IMultivariateDistribution
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 5170524934862434609L;
+    /**
+     * tolerance of the sum of a value of the density
+     */
+    private static final double TOLERANCE = 1e-10;
+    /**
+     * concentration parameters
+     */
+    private final double[] m_alpha;
+    /**
+     * logarithm of the normalization constant
+     */
+    private final double m_normalization;
+
+    /**
+     * ctor
+     *
+     * @param p_generator generator
+     * @param p_alpha positive concentration parameters
+     */
+    public CDirichletDistribution( @Nonnull final RandomGenerator p_generator, @Nonnull final double[] p_alpha )
+    {
+        super( p_generator, p_alpha.length );
+
+        double l_sum = 0;
+        double l_normalization = 0;
+        for ( final double i : p_alpha )
+        {
+            if ( i <= 0 )
+                throw new NotStrictlyPositiveException( i );
+            l_sum += i;
+            l_normalization -= Gamma.logGamma( i );
+        }
+
+        m_alpha = p_alpha.clone();
+        m_normalization = l_normalization + Gamma.logGamma( l_sum );
+    }
+
+    /**
+     * returns the concentration parameters
+     *
+     * @return concentration parameters
+     */
+    @Nonnull
+    public double[] getAlpha()
+    {
+        return m_alpha.clone();
+    }
+
+    @Override
+    public double density( @Nonnull final double[] p_value )
+    {
+        if ( p_value.length != m_alpha.length )
+            throw new DimensionMismatchException( p_value.length, m_alpha.length );
+
+        double l_sum = 0;
+        double l_density = m_normalization;
+        for ( int i = 0; i < m_alpha.length; i++ )
+        {
+            if ( p_value[i] < 0 )
+                return 0;
+            l_sum += p_value[i];
+            l_density += ( m_alpha[i] - 1 ) * Math.log( p_value[i] );
+        }
+
+        return Math.abs( l_sum - 1 ) > TOLERANCE ? 0 : Math.exp( l_density );
+    }
+
+    @Override
+    public double[] sample()
+    {
+        final double[] l_values = new double[m_alpha.length];
+        this.sample( l_values, 0 );
+        return l_values;
+    }
+
+    @Override
+    public void sample( @Nonnull final double[] p_values, @Nonnegative final int p_offset )
+    {
+        double l_sum = 0;
+        for ( int i = 0; i < m_alpha.length; i++ )
+        {
+            p_values[p_offset + i] = this.gamma( m_alpha[i] );
+            l_sum += p_values[p_offset + i];
+        }
+
+        for ( int i = 0; i < m_alpha.length; i++ )
+            p_values[p_offset + i] /= l_sum;
+    }
+
+    /**
+     * samples a gamma distributed value with scale one
+     *
+     * @param p_shape shape
+     * @return value
+     */
+    private double gamma( final double p_shape )
+    {
+        // shape less than one is boosted by a uniform power
+        if ( p_shape < 1 )
+            return this.gamma( p_shape + 1 ) * Math.pow( 1 - random.nextDouble(), 1 / p_shape );
+
+        final double l_d = p_shape - 1.0 / 3;
+        final double l_c = 1 / Math.sqrt( 9 * l_d );
+
+        while ( true )
+        {
+            final double l_normal = CZiggurat.normal( random );
+            final double l_value = 1 + l_c * l_normal;
+            if ( l_value <= 0 )
+                continue;
+
+            final double l_cube = l_value * l_value * l_value;
+            final double l_uniform = 1 - random.nextDouble();
+            if ( l_uniform < 1 - 0.0331 * l_normal * l_normal * l_normal * l_normal
+                 || Math.log( l_uniform ) < 0.5 * l_normal * l_normal + l_d * ( 1 - l_cube + Math.log( l_cube ) ) )
+                return l_d * l_cube;
+        }
+    }
+}
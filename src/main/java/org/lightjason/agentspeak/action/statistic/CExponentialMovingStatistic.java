@@ -0,0 +1,242 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.statistic;
+
+import org.apache.commons.math3.exception.NotStrictlyPositiveException;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.function.IntFunction;
+
+
+/**
+ * exponentially weighted moving statistic.
+ * The statistic forgets old values with a half-life, which is
+ * defined as number of added values, mean and variance are
+ * weighted with the decay factor \f$ \alpha = 1 - 2^{-1/h} \f$,
+ * minimum and maximum decay towards the mean with the same factor
+ * and the sum is the exponentially decayed sum, so memory and each
+ * update are constant, the number of values counts all added values,
+ * the derived second moment, sum of squares, population variance and
+ * quadratic mean use the effective weight of the values, which is
+ * bounded by \f$ \frac{1}{\alpha} \f$
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Moving_average#Exponentially_weighted_moving_variance_and_standard_deviation"></a>
+ */
+public final class CExponentialMovingStatistic implements IStatistic, Serializable
+{
+    /**
+     * default half-life
+     */
+    public static final double DEFAULTHALFLIFE = 100;
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 5383622227513536307L;
+    /**
+     * half-life
+     */
+    private final double m_halflife;
+    /**
+     * decay factor
+     */
+    private final double m_alpha;
+    /**
+     * number of values
+     */
+    private long m_count;
+    /**
+     * weighted mean
+     */
+    private double m_mean;
+    /**
+     * weighted variance
+     */
+    private double m_variance;
+    /**
+     * decayed sum
+     */
+    private double m_sum;
+    /**
+     * decayed minimum
+     */
+    private double m_min = Double.NaN;
+    /**
+     * decayed maximum
+     */
+    private double m_max = Double.NaN;
+
+    /**
+     * ctor
+     */
+    public CExponentialMovingStatistic()
+    {
+        this( DEFAULTHALFLIFE );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_halflife half-life as number of values
+     */
+    public CExponentialMovingStatistic( @Nonnegative final double p_halflife )
+    {
+        if ( p_halflife <= 0 )
+            throw new NotStrictlyPositiveException( p_halflife );
+
+        m_halflife = p_halflife;
+        m_alpha = 1 - Math.pow( 2, -1 / p_halflife );
+    }
+
+    /**
+     * returns the half-life
+     *
+     * @return half-life
+     */
+    public double halflife()
+    {
+        return m_halflife;
+    }
+
+    @Override
+    public synchronized void addValue( final double p_value )
+    {
+        if ( m_count++ == 0 )
+        {
+            m_mean = p_value;
+            m_variance = 0;
+            m_sum = p_value;
+            m_min = p_value;
+            m_max = p_value;
+            return;
+        }
+
+        final double l_delta = p_value - m_mean;
+        m_mean += m_alpha * l_delta;
+        m_variance = ( 1 - m_alpha ) * ( m_variance + m_alpha * l_delta * l_delta );
+        m_sum = ( 1 - m_alpha ) * m_sum + p_value;
+        m_min = Math.min( p_value, m_min + m_alpha * ( m_mean - m_min ) );
+        m_max = Math.max( p_value, m_max - m_alpha * ( m_max - m_mean ) );
+    }
+
+    @Override
+    public synchronized void clear()
+    {
+        m_count = 0;
+        m_mean = 0;
+        m_variance = 0;
+        m_sum = 0;
+        m_min = Double.NaN;
+        m_max = Double.NaN;
+    }
+
+    @Override
+    public synchronized double getMean()
+    {
+        return m_count == 0 ? Double.NaN : m_mean;
+    }
+
+    @Override
+    public synchronized double getVariance()
+    {
+        return m_count == 0 ? Double.NaN : m_variance;
+    }
+
+    @Override
+    public double getStandardDeviation()
+    {
+        return Math.sqrt( this.getVariance() );
+    }
+
+    @Override
+    public synchronized double getMax()
+    {
+        return m_max;
+    }
+
+    @Override
+    public synchronized double getMin()
+    {
+        return m_min;
+    }
+
+    @Override
+    public synchronized long getN()
+    {
+        return m_count;
+    }
+
+    @Override
+    public synchronized double getSum()
+    {
+        return m_sum;
+    }
+
+    @Override
+    public synchronized double getWeight()
+    {
+        return m_count == 0 ? 0 : ( 1 - Math.pow( 1 - m_alpha, m_count ) ) / m_alpha;
+    }
+
+    @Override
+    public synchronized double getSecondMoment()
+    {
+        return m_count == 0 ? Double.NaN : m_variance * this.getWeight();
+    }
+
+    /**
+     * encodes the statistic
+     *
+     * @param p_buffer allocator of a buffer with the given size
+     * @return buffer with the encoded statistic
+     */
+    @Nonnull
+    synchronized ByteBuffer encode( @Nonnull final IntFunction<ByteBuffer> p_buffer )
+    {
+        return p_buffer.apply( 6 * Double.BYTES + Long.BYTES )
+                       .putDouble( m_halflife ).putLong( m_count ).putDouble( m_mean ).putDouble( m_variance )
+                       .putDouble( m_sum ).putDouble( m_min ).putDouble( m_max );
+    }
+
+    /**
+     * decodes a statistic
+     *
+     * @param p_buffer buffer with the encoded statistic
+     * @return statistic
+     */
+    @Nonnull
+    static CExponentialMovingStatistic decode( @Nonnull final ByteBuffer p_buffer )
+    {
+        final CExponentialMovingStatistic l_statistic = new CExponentialMovingStatistic( p_buffer.getDouble() );
+        l_statistic.m_count = p_buffer.getLong();
+        l_statistic.m_mean = p_buffer.getDouble();
+        l_statistic.m_variance = p_buffer.getDouble();
+        l_statistic.m_sum = p_buffer.getDouble();
+        l_statistic.m_min = p_buffer.getDouble();
+        l_statistic.m_max = p_buffer.getDouble();
+        return l_statistic;
+    }
+}
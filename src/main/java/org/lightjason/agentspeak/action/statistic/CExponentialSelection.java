@@ -28,17 +28,18 @@ import org.lightjason.agentspeak.language.ITerm;
 
 import javax.annotation.Nonnull;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 
 /**
  * action to define a fitness-proportinate-selection mechanism.
  * The action defines a fitness-proportinate-selection based on an exponential
  * distribution, the first and second argument must be a list, the first list contains elements, the second
- * list contains numeric values for defining the weights, the third argument is the demand / rational factor
+ * list contains numeric values for defining the weights, the third argument is the demand / rational factor,
+ * an optional fourth argument defines the number of draws and an optional fifth boolean argument
+ * disables drawing with replacement
  *
  * {@code S = .math/statistic/exponentialselection( ["a","b","c","d"], [0.5, 0.7, 0.9, 3], RationalFactor );}
+ * {@code L = .math/statistic/exponentialselection( ["a","b","c","d"], [0.5, 0.7, 0.9, 3], RationalFactor, 3, false );}
  *
  * @see <a href="https://en.wikipedia.org/wiki/Boltzmann_distribution"></a>
  * @see <a href="https://en.wikipedia.org/wiki/Log-linear_model"></a>
@@ -63,10 +64,12 @@ public final class CExponentialSelection extends IBaseSelection
 
     @Nonnull
     @Override
-    protected List<Double> weight( @Nonnull final List<?> p_items, @Nonnull final Stream<Double> p_values, @Nonnull final List<ITerm> p_argument )
+    protected double[] weight( @Nonnull final List<?> p_items, @Nonnull final double[] p_values, @Nonnull final List<ITerm> p_argument )
     {
         final double l_demand = p_argument.get( 0 ).<Number>raw().doubleValue();
-        return p_values.map( i -> Math.exp( i / l_demand ) ).collect( Collectors.toList() );
+        for ( int i = 0; i < p_values.length; i++ )
+            p_values[i] = Math.exp( p_values[i] / l_demand );
+        return p_values;
     }
 
     @Override
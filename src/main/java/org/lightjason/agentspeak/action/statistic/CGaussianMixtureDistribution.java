@@ -0,0 +1,162 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.statistic;
+
+import org.apache.commons.math3.distribution.AbstractMultivariateRealDistribution;
+import org.apache.commons.math3.exception.DimensionMismatchException;
+import org.apache.commons.math3.exception.NotPositiveException;
+import org.apache.commons.math3.exception.NotStrictlyPositiveException;
+import org.apache.commons.math3.random.RandomGenerator;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+
+
+/**
+ * mixture of multivariate normal distributions.
+ * A sample selects a component by the normalized weights
+ * and samples the multivariate normal distribution of the
+ * component, all components use the same generator
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Mixture_model#Gaussian_mixture_model"></a>
+ */
+public final class CGaussianMixtureDistribution extends AbstractMultivariateRealDistribution implements IMultivariateDistribution
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -6000283476453811392L;
+    /**
+     * normalized weights
+     */
+    private final double[] m_weights;
+    /**
+     * cumulative normalized weights
+     */
+    private final double[] m_cumulative;
+    /**
+     * components
+     */
+    private final CMultivariateNormalDistribution[] m_components;
+
+    /**
+     * ctor
+     *
+     * @param p_generator generator
+     * @param p_weights non-negative weights of the components
+     * @param p_mean mean of each component
+     * @param p_covariance covariance matrix of each component
+     */
+    public CGaussianMixtureDistribution( @Nonnull final RandomGenerator p_generator, @Nonnull final double[] p_weights,
+                                         @Nonnull final double[][] p_mean, @Nonnull final double[][][] p_covariance )
+    {
+        super( p_generator, p_mean.length == 0 ? 0 : p_mean[0].length );
+
+        if ( p_weights.length != p_mean.length )
+            throw new DimensionMismatchException( p_mean.length, p_weights.length );
+        if ( p_weights.length != p_covariance.length )
+            throw new DimensionMismatchException( p_covariance.length, p_weights.length );
+
+        double l_sum = 0;
+        for ( final double i : p_weights )
+        {
+            if ( i < 0 )
+                throw new NotPositiveException( i );
+            l_sum += i;
+        }
+        if ( l_sum <= 0 )
+            throw new NotStrictlyPositiveException( l_sum );
+
+        m_weights = new double[p_weights.length];
+        m_cumulative = new double[p_weights.length];
+        m_components = new CMultivariateNormalDistribution[p_weights.length];
+
+        double l_cumulative = 0;
+        for ( int i = 0; i < p_weights.length; i++ )
+        {
+            if ( p_mean[i].length != this.getDimension() )
+                throw new DimensionMismatchException( p_mean[i].length, this.getDimension() );
+
+            m_weights[i] = p_weights[i] / l_sum;
+            l_cumulative += m_weights[i];
+            m_cumulative[i] = l_cumulative;
+            m_components[i] = new CMultivariateNormalDistribution( p_generator, p_mean[i], p_covariance[i] );
+        }
+        m_cumulative[m_cumulative.length - 1] = 1;
+    }
+
+    /**
+     * returns the normalized weights
+     *
+     * @return weights
+     */
+    @Nonnull
+    public double[] getWeights()
+    {
+        return m_weights.clone();
+    }
+
+    @Override
+    public double density( @Nonnull final double[] p_value )
+    {
+        double l_density = 0;
+        for ( int i = 0; i < m_components.length; i++ )
+            l_density += m_weights[i] * m_components[i].density( p_value );
+        return l_density;
+    }
+
+    @Override
+    public void reseedRandomGenerator( final long p_seed )
+    {
+        // components share the generator
+        random.setSeed( p_seed );
+    }
+
+    @Override
+    public double[] sample()
+    {
+        final double[] l_values = new double[this.getDimension()];
+        this.sample( l_values, 0 );
+        return l_values;
+    }
+
+    @Override
+    public void sample( @Nonnull final double[] p_values, @Nonnegative final int p_offset )
+    {
+        // first component with a cumulative weight greater than the uniform value
+        final double l_uniform = random.nextDouble();
+        int l_lower = 0;
+        int l_upper = m_cumulative.length - 1;
+        while ( l_lower < l_upper )
+        {
+            final int l_middle = ( l_lower + l_upper ) >>> 1;
+            if ( m_cumulative[l_middle] > l_uniform )
+                l_upper = l_middle;
+            else
+                l_lower = l_middle + 1;
+        }
+
+        m_components[l_lower].sample( p_values, p_offset );
+    }
+}
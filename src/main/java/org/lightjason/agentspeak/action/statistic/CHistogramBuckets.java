@@ -0,0 +1,120 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.statistic;
+
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * exports the buckets of histogram statistics.
+ * The action returns for each histogram statistic a map with the
+ * inclusive lower bound and the number of values of each non-empty
+ * bucket in ascending order, the underflow bucket starts at the
+ * negative infinity, the overflow bucket at the highest value
+ *
+ * {@code [B1|B2] = .math/statistic/histogrambuckets( Histogram1, Histogram2 );}
+ */
+public final class CHistogramBuckets extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -5726258796260219108L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CHistogramBuckets.class, "math", "statistic" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 1;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return )
+    {
+        final List<ITerm> l_arguments = CCommon.flatten( p_argument ).collect( Collectors.toList() );
+
+        for ( int i = 0; i < l_arguments.size(); i++ )
+        {
+            if ( !CCommon.isssignableto( l_arguments.get( i ), CHistogramStatistic.class ) )
+                throw new CExecutionIllegealArgumentException(
+                    p_context,
+                    org.lightjason.agentspeak.common.CCommon.languagestring( this, "argumenterror" )
+                );
+
+            final Map<Double, Long> l_buckets = CHistogramBuckets.buckets( l_arguments.get( i ).raw() );
+            p_return.add( CRawTerm.of( p_parallel ? Collections.synchronizedMap( l_buckets ) : l_buckets ) );
+        }
+
+        return Stream.empty();
+    }
+
+    /**
+     * returns the non-empty buckets of a histogram
+     *
+     * @param p_histogram histogram
+     * @return map with lower bounds and number of values
+     */
+    @Nonnull
+    private static Map<Double, Long> buckets( @Nonnull final CHistogramStatistic p_histogram )
+    {
+        final Map<Double, Long> l_buckets = new LinkedHashMap<>();
+        for ( int i = 0; i < p_histogram.buckets(); i++ )
+        {
+            final long l_count = p_histogram.count( i );
+            if ( l_count != 0 )
+                l_buckets.put( p_histogram.lower( i ), l_count );
+        }
+        return l_buckets;
+    }
+
+}
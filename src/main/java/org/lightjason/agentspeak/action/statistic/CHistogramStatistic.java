@@ -0,0 +1,574 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.statistic;
+
+import org.apache.commons.math3.exception.DimensionMismatchException;
+import org.apache.commons.math3.exception.NotStrictlyPositiveException;
+import org.apache.commons.math3.exception.NumberIsTooLargeException;
+import org.apache.commons.math3.exception.OutOfRangeException;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
+
+
+/**
+ * histogram statistic.
+ * The values are counted within buckets of a bounded range, the
+ * buckets have a fixed width or a logarithmic layout like the HDR
+ * histogram, where each power of two is split into linear sub-buckets,
+ * so the relative error of a value is bounded by the number of
+ * significant digits, values below or above the range are counted
+ * within an underflow and an overflow bucket. Adding a value needs
+ * constant time and the memory is bounded by the number of buckets,
+ * the buckets are atomic counters, so concurrent agents add values
+ * without a lock, the percentile is estimated by the linear
+ * interpolation within a bucket, NaN values are ignored
+ *
+ * @see <a href="http://hdrhistogram.org/"></a>
+ */
+public final class CHistogramStatistic implements IStatistic, IPercentile, Serializable
+{
+    /**
+     * default number of buckets of the fixed layout
+     */
+    public static final int DEFAULTBUCKETS = 100;
+    /**
+     * default number of significant digits of the logarithmic layout
+     */
+    public static final int DEFAULTDIGITS = 2;
+    /**
+     * maximum number of buckets
+     */
+    public static final int MAXIMUMBUCKETS = 1 << 24;
+    /**
+     * maximum number of significant digits
+     */
+    public static final int MAXIMUMDIGITS = 5;
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 5599222507786928782L;
+    /**
+     * number of mantissa bits of a double value
+     */
+    private static final int MANTISSABITS = 52;
+    /**
+     * lowest value of the range
+     */
+    private final double m_lowest;
+    /**
+     * highest value of the range
+     */
+    private final double m_highest;
+    /**
+     * number of sub-bucket bits of the logarithmic layout
+     * or zero on the fixed layout
+     */
+    private final int m_subbucketbits;
+    /**
+     * bucket width of the fixed layout or bit offset of the
+     * lowest value on the logarithmic layout
+     */
+    private final double m_width;
+    /**
+     * shifted bits of the lowest value on the logarithmic layout
+     */
+    private final long m_offset;
+    /**
+     * bucket counters with the underflow bucket at the first and
+     * the overflow bucket at the last position
+     */
+    private final AtomicLongArray m_buckets;
+    /**
+     * number of values
+     */
+    private final LongAdder m_count = new LongAdder();
+    /**
+     * sum of the values shifted by the lowest value
+     */
+    private final DoubleAdder m_sum = new DoubleAdder();
+    /**
+     * sum of squares of the values shifted by the lowest value
+     */
+    private final DoubleAdder m_sumsquare = new DoubleAdder();
+    /**
+     * bits of the minimum
+     */
+    private final AtomicLong m_min = new AtomicLong( Double.doubleToRawLongBits( Double.POSITIVE_INFINITY ) );
+    /**
+     * bits of the maximum
+     */
+    private final AtomicLong m_max = new AtomicLong( Double.doubleToRawLongBits( Double.NEGATIVE_INFINITY ) );
+
+    /**
+     * ctor
+     *
+     * @param p_lowest lowest value
+     * @param p_highest highest value
+     * @param p_subbucketbits number of sub-bucket bits or zero on the fixed layout
+     * @param p_width bucket width of the fixed layout
+     * @param p_offset shifted bits of the lowest value on the logarithmic layout
+     * @param p_buckets number of buckets within the range
+     */
+    private CHistogramStatistic( final double p_lowest, final double p_highest, final int p_subbucketbits,
+                                 final double p_width, final long p_offset, final long p_buckets )
+    {
+        if ( p_buckets > MAXIMUMBUCKETS )
+            throw new NumberIsTooLargeException( p_buckets, MAXIMUMBUCKETS, true );
+
+        m_lowest = p_lowest;
+        m_highest = p_highest;
+        m_subbucketbits = p_subbucketbits;
+        m_width = p_width;
+        m_offset = p_offset;
+        m_buckets = new AtomicLongArray( (int) p_buckets + 2 );
+    }
+
+    /**
+     * creates a histogram with buckets of a fixed width
+     *
+     * @param p_lowest lowest value
+     * @param p_highest highest value
+     * @param p_buckets number of buckets
+     * @return histogram
+     */
+    @Nonnull
+    public static CHistogramStatistic linear( final double p_lowest, final double p_highest, @Nonnegative final int p_buckets )
+    {
+        if ( p_buckets <= 0 )
+            throw new NotStrictlyPositiveException( p_buckets );
+        if ( !( p_lowest < p_highest ) || Double.isInfinite( p_lowest ) || Double.isInfinite( p_highest ) )
+            throw new NumberIsTooLargeException( p_lowest, p_highest, false );
+
+        return new CHistogramStatistic( p_lowest, p_highest, 0, ( p_highest - p_lowest ) / p_buckets, 0, p_buckets );
+    }
+
+    /**
+     * creates a histogram with logarithmic buckets, each power
+     * of two is split into linear sub-buckets, so each value
+     * within the range is stored with the number of significant
+     * decimal digits
+     *
+     * @param p_lowest lowest positive value
+     * @param p_highest highest value
+     * @param p_digits number of significant decimal digits
+     * @return histogram
+     */
+    @Nonnull
+    public static CHistogramStatistic logarithmic( final double p_lowest, final double p_highest, @Nonnegative final int p_digits )
+    {
+        if ( p_digits < 1 || p_digits > MAXIMUMDIGITS )
+            throw new OutOfRangeException( p_digits, 1, MAXIMUMDIGITS );
+        if ( p_lowest <= 0 )
+            throw new NotStrictlyPositiveException( p_lowest );
+        if ( !( p_lowest < p_highest ) || Double.isInfinite( p_highest ) )
+            throw new NumberIsTooLargeException( p_lowest, p_highest, false );
+
+        final int l_bits = (int) Math.ceil( p_digits * Math.log( 10 ) / Math.log( 2 ) );
+        final long l_offset = Double.doubleToRawLongBits( p_lowest ) >>> ( MANTISSABITS - l_bits );
+        return new CHistogramStatistic(
+            p_lowest, p_highest, l_bits, 0, l_offset,
+            ( Double.doubleToRawLongBits( p_highest ) >>> ( MANTISSABITS - l_bits ) ) - l_offset + 1
+        );
+    }
+
+    /**
+     * returns the lowest value of the range
+     *
+     * @return lowest value
+     */
+    public double lowest()
+    {
+        return m_lowest;
+    }
+
+    /**
+     * returns the highest value of the range
+     *
+     * @return highest value
+     */
+    public double highest()
+    {
+        return m_highest;
+    }
+
+    /**
+     * returns the logarithmic flag
+     *
+     * @return flag of the logarithmic layout
+     */
+    public boolean logarithmic()
+    {
+        return m_subbucketbits > 0;
+    }
+
+    /**
+     * returns the number of buckets including
+     * the underflow and the overflow bucket
+     *
+     * @return number of buckets
+     */
+    public int buckets()
+    {
+        return m_buckets.length();
+    }
+
+    /**
+     * returns the number of values within a bucket
+     *
+     * @param p_bucket bucket index
+     * @return number of values
+     */
+    public long count( @Nonnegative final int p_bucket )
+    {
+        return m_buckets.get( p_bucket );
+    }
+
+    /**
+     * returns the inclusive lower bound of a bucket, the
+     * underflow bucket starts at the negative infinity
+     *
+     * @param p_bucket bucket index
+     * @return lower bound
+     */
+    public double lower( @Nonnegative final int p_bucket )
+    {
+        if ( p_bucket == 0 )
+            return Double.NEGATIVE_INFINITY;
+        if ( p_bucket == m_buckets.length() - 1 )
+            return this.upper( p_bucket - 1 );
+
+        return this.logarithmic()
+               ? Double.longBitsToDouble( ( m_offset + p_bucket - 1 ) << ( MANTISSABITS - m_subbucketbits ) )
+               : m_lowest + ( p_bucket - 1 ) * m_width;
+    }
+
+    /**
+     * returns the exclusive upper bound of a bucket, the
+     * overflow bucket ends at the positive infinity
+     *
+     * @param p_bucket bucket index
+     * @return upper bound
+     */
+    public double upper( @Nonnegative final int p_bucket )
+    {
+        if ( p_bucket == 0 )
+            return m_lowest;
+        if ( p_bucket == m_buckets.length() - 1 )
+            return Double.POSITIVE_INFINITY;
+
+        return this.logarithmic()
+               ? Double.longBitsToDouble( ( m_offset + p_bucket ) << ( MANTISSABITS - m_subbucketbits ) )
+               : p_bucket == m_buckets.length() - 2 ? m_highest : m_lowest + p_bucket * m_width;
+    }
+
+    /**
+     * checks if another histogram has the same buckets
+     *
+     * @param p_histogram histogram
+     * @return flag that both histograms can be merged
+     */
+    public boolean compatible( @Nonnull final CHistogramStatistic p_histogram )
+    {
+        return Double.compare( m_lowest, p_histogram.m_lowest ) == 0
+               && Double.compare( m_highest, p_histogram.m_highest ) == 0
+               && m_subbucketbits == p_histogram.m_subbucketbits
+               && m_buckets.length() == p_histogram.m_buckets.length();
+    }
+
+    /**
+     * creates an empty histogram with the same buckets
+     *
+     * @return histogram
+     */
+    @Nonnull
+    public CHistogramStatistic empty()
+    {
+        return new CHistogramStatistic( m_lowest, m_highest, m_subbucketbits, m_width, m_offset, m_buckets.length() - 2 );
+    }
+
+    /**
+     * merges another histogram with the same buckets into this
+     * histogram by adding the bucket counters
+     *
+     * @param p_histogram histogram
+     */
+    public void merge( @Nonnull final CHistogramStatistic p_histogram )
+    {
+        if ( !this.compatible( p_histogram ) )
+            throw new DimensionMismatchException( p_histogram.m_buckets.length(), m_buckets.length() );
+
+        for ( int i = 0; i < m_buckets.length(); i++ )
+        {
+            final long l_count = p_histogram.m_buckets.get( i );
+            if ( l_count != 0 )
+                m_buckets.addAndGet( i, l_count );
+        }
+
+        m_count.add( p_histogram.m_count.sum() );
+        m_sum.add( p_histogram.m_sum.sum() );
+        m_sumsquare.add( p_histogram.m_sumsquare.sum() );
+        CHistogramStatistic.minimum( m_min, Double.longBitsToDouble( p_histogram.m_min.get() ) );
+        CHistogramStatistic.maximum( m_max, Double.longBitsToDouble( p_histogram.m_max.get() ) );
+    }
+
+    /**
+     * encodes the histogram with the non-empty buckets, values
+     * which are added concurrently may be missing
+     *
+     * @param p_buffer allocator of a buffer with the given size
+     * @return buffer with the encoded histogram
+     */
+    @Nonnull
+    ByteBuffer encode( @Nonnull final IntFunction<ByteBuffer> p_buffer )
+    {
+        final long[] l_buckets = new long[m_buckets.length()];
+        int l_used = 0;
+        for ( int i = 0; i < l_buckets.length; i++ )
+        {
+            l_buckets[i] = m_buckets.get( i );
+            if ( l_buckets[i] != 0 )
+                l_used++;
+        }
+
+        final ByteBuffer l_buffer = p_buffer.apply(
+            3 * Double.BYTES + Long.BYTES + 2 * Integer.BYTES + 5 * Long.BYTES + Integer.BYTES + l_used * ( Integer.BYTES + Long.BYTES )
+        );
+        l_buffer.putDouble( m_lowest ).putDouble( m_highest ).putDouble( m_width ).putLong( m_offset )
+                .putInt( m_subbucketbits ).putInt( l_buckets.length - 2 )
+                .putLong( m_count.sum() ).putDouble( m_sum.sum() ).putDouble( m_sumsquare.sum() ).putLong( m_min.get() ).putLong( m_max.get() )
+                .putInt( l_used );
+        for ( int i = 0; i < l_buckets.length; i++ )
+            if ( l_buckets[i] != 0 )
+                l_buffer.putInt( i ).putLong( l_buckets[i] );
+        return l_buffer;
+    }
+
+    /**
+     * decodes a histogram, the header is checked
+     * against the buffer before any allocation
+     *
+     * @param p_buffer buffer with the encoded histogram
+     * @return histogram
+     */
+    @Nonnull
+    static CHistogramStatistic decode( @Nonnull final ByteBuffer p_buffer )
+    {
+        final double l_lowest = p_buffer.getDouble();
+        final double l_highest = p_buffer.getDouble();
+        final double l_width = p_buffer.getDouble();
+        final long l_offset = p_buffer.getLong();
+        final int l_subbucketbits = p_buffer.getInt();
+        final int l_buckets = p_buffer.getInt();
+        if ( l_buckets <= 0 )
+            throw new NotStrictlyPositiveException( l_buckets );
+
+        final long l_count = p_buffer.getLong();
+        final double l_sum = p_buffer.getDouble();
+        final double l_sumsquare = p_buffer.getDouble();
+        final long l_min = p_buffer.getLong();
+        final long l_max = p_buffer.getLong();
+        final int l_used = p_buffer.getInt();
+        if ( l_used < 0 || l_used > p_buffer.remaining() / ( Integer.BYTES + Long.BYTES ) )
+            throw new OutOfRangeException( l_used, 0, p_buffer.remaining() / ( Integer.BYTES + Long.BYTES ) );
+
+        final CHistogramStatistic l_histogram = new CHistogramStatistic( l_lowest, l_highest, l_subbucketbits, l_width, l_offset, l_buckets );
+        if ( l_used > l_histogram.m_buckets.length() )
+            throw new OutOfRangeException( l_used, 0, l_histogram.m_buckets.length() );
+
+        l_histogram.m_count.add( l_count );
+        l_histogram.m_sum.add( l_sum );
+        l_histogram.m_sumsquare.add( l_sumsquare );
+        l_histogram.m_min.set( l_min );
+        l_histogram.m_max.set( l_max );
+        for ( int i = 0; i < l_used; i++ )
+            l_histogram.m_buckets.set( p_buffer.getInt(), p_buffer.getLong() );
+        return l_histogram;
+    }
+
+    @Override
+    public void addValue( final double p_value )
+    {
+        if ( Double.isNaN( p_value ) )
+            return;
+
+        m_buckets.incrementAndGet( this.index( p_value ) );
+
+        final double l_shifted = p_value - m_lowest;
+        m_sum.add( l_shifted );
+        m_sumsquare.add( l_shifted * l_shifted );
+        CHistogramStatistic.minimum( m_min, p_value );
+        CHistogramStatistic.maximum( m_max, p_value );
+        m_count.increment();
+    }
+
+    @Override
+    public void clear()
+    {
+        m_count.reset();
+        m_sum.reset();
+        m_sumsquare.reset();
+        m_min.set( Double.doubleToRawLongBits( Double.POSITIVE_INFINITY ) );
+        m_max.set( Double.doubleToRawLongBits( Double.NEGATIVE_INFINITY ) );
+        for ( int i = 0; i < m_buckets.length(); i++ )
+            m_buckets.set( i, 0 );
+    }
+
+    @Override
+    public double getPercentile( final double p_percentile )
+    {
+        if ( p_percentile <= 0 || p_percentile > 100 )
+            throw new OutOfRangeException( p_percentile, 0, 100 );
+
+        long l_count = 0;
+        for ( int i = 0; i < m_buckets.length(); i++ )
+            l_count += m_buckets.get( i );
+        if ( l_count == 0 )
+            return Double.NaN;
+
+        // rank of the legacy estimation of commons-math, the values of a bucket are uniformly distributed
+        final double l_rank = Math.min( Math.max( p_percentile / 100d * ( l_count + 1 ), 1 ), l_count );
+        final double l_min = this.getMin();
+        final double l_max = this.getMax();
+
+        long l_cumulative = 0;
+        for ( int i = 0; i < m_buckets.length(); i++ )
+        {
+            final long l_bucket = m_buckets.get( i );
+            if ( l_bucket == 0 || l_cumulative + l_bucket < l_rank )
+            {
+                l_cumulative += l_bucket;
+                continue;
+            }
+
+            final double l_lower = Math.max( this.lower( i ), l_min );
+            final double l_upper = Math.min( this.upper( i ), l_max );
+            return Math.min( Math.max( l_lower + ( l_rank - l_cumulative - 0.5 ) / l_bucket * ( l_upper - l_lower ), l_lower ), l_upper );
+        }
+
+        return l_max;
+    }
+
+    @Override
+    public double getMean()
+    {
+        final long l_count = m_count.sum();
+        return l_count == 0 ? Double.NaN : m_lowest + m_sum.sum() / l_count;
+    }
+
+    @Override
+    public double getVariance()
+    {
+        final long l_count = m_count.sum();
+        if ( l_count == 0 )
+            return Double.NaN;
+        if ( l_count == 1 )
+            return 0;
+
+        final double l_sum = m_sum.sum();
+        return Math.max( 0, ( m_sumsquare.sum() - l_sum * l_sum / l_count ) / ( l_count - 1 ) );
+    }
+
+    @Override
+    public double getStandardDeviation()
+    {
+        return Math.sqrt( this.getVariance() );
+    }
+
+    @Override
+    public double getMax()
+    {
+        return m_count.sum() == 0 ? Double.NaN : Double.longBitsToDouble( m_max.get() );
+    }
+
+    @Override
+    public double getMin()
+    {
+        return m_count.sum() == 0 ? Double.NaN : Double.longBitsToDouble( m_min.get() );
+    }
+
+    @Override
+    public long getN()
+    {
+        return m_count.sum();
+    }
+
+    @Override
+    public double getSum()
+    {
+        return m_lowest * m_count.sum() + m_sum.sum();
+    }
+
+    /**
+     * returns the bucket index of a value
+     *
+     * @param p_value value
+     * @return index
+     */
+    private int index( final double p_value )
+    {
+        if ( p_value < m_lowest )
+            return 0;
+        if ( p_value >= m_highest && !this.logarithmic() )
+            return m_buckets.length() - 1;
+
+        // the exponent and the leading mantissa bits of a positive double value are a log-linear bucket index
+        return this.logarithmic()
+               ? (int) Math.min( ( Double.doubleToRawLongBits( p_value ) >>> ( MANTISSABITS - m_subbucketbits ) ) - m_offset + 1, m_buckets.length() - 1 )
+               : (int) Math.min( (long) ( ( p_value - m_lowest ) / m_width ) + 1, m_buckets.length() - 2 );
+    }
+
+    /**
+     * lock-free update of the minimum
+     *
+     * @param p_minimum bits of the minimum
+     * @param p_value value
+     */
+    private static void minimum( @Nonnull final AtomicLong p_minimum, final double p_value )
+    {
+        long l_current = p_minimum.get();
+        while ( p_value < Double.longBitsToDouble( l_current ) && !p_minimum.compareAndSet( l_current, Double.doubleToRawLongBits( p_value ) ) )
+            l_current = p_minimum.get();
+    }
+
+    /**
+     * lock-free update of the maximum
+     *
+     * @param p_maximum bits of the maximum
+     * @param p_value value
+     */
+    private static void maximum( @Nonnull final AtomicLong p_maximum, final double p_value )
+    {
+        long l_current = p_maximum.get();
+        while ( p_value > Double.longBitsToDouble( l_current ) && !p_maximum.compareAndSet( l_current, Double.doubleToRawLongBits( p_value ) ) )
+            l_current = p_maximum.get();
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.statistic;
+
+import org.apache.commons.math3.distribution.GeometricDistribution;
+import org.apache.commons.math3.random.RandomGenerator;
+
+import javax.annotation.Nonnull;
+
+
+/**
+ * geometric distribution with an inversion sampler.
+ * The distribution functions are defined by the commons-math
+ * distribution, the number of failures before the first success
+ * is the floor of a scaled exponential value, which is
+ * sampled with the ziggurat method
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Geometric_distribution#Related_distributions"></a>
+ */
+public final class CInversionGeometricDistribution extends GeometricDistribution
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 3457815180939305834L;
+    /**
+     * scale of the exponential value
+     */
+    private final double m_scale;
+
+    /**
+     * ctor
+     *
+     * @param p_generator generator
+     * @param p_probability success probability
+     */
+    public CInversionGeometricDistribution( @Nonnull final RandomGenerator p_generator, final double p_probability )
+    {
+        super( p_generator, p_probability );
+        m_scale = -1 / Math.log1p( -p_probability );
+    }
+
+    @Override
+    public int sample()
+    {
+        return (int) Math.min( Integer.MAX_VALUE, Math.floor( CZiggurat.exponential( random ) * m_scale ) );
+    }
+}
@@ -28,8 +28,6 @@ import org.lightjason.agentspeak.language.ITerm;
 
 import javax.annotation.Nonnull;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 
 /**
@@ -37,9 +35,11 @@ import java.util.stream.Stream;
  * The action defines a fitness-proportinate-selection based on a linear
  * distribution, the first and second argument must be a list, the first
  * list contains elements, the second list contains numeric values for defining
- * the weights
+ * the weights, an optional third argument defines the number of draws and an
+ * optional fourth boolean argument disables drawing with replacement
  *
  * {@code S = .math/statistic/linearselection( ["a","b","c","d"], [0.5, 0.7, 0.9, 3] );}
+ * {@code L = .math/statistic/linearselection( ["a","b","c","d"], [0.5, 0.7, 0.9, 3], 2, false );}
  *
  * @see <a href="https://en.wikipedia.org/wiki/Fitness_proportionate_selection"></a>
  */
@@ -63,9 +63,9 @@ public final class CLinearSelection extends IBaseSelection
 
     @Nonnull
     @Override
-    protected List<Double> weight( @Nonnull final List<?> p_items, @Nonnull final Stream<Double> p_values, @Nonnull final List<ITerm> p_argument )
+    protected double[] weight( @Nonnull final List<?> p_items, @Nonnull final double[] p_values, @Nonnull final List<ITerm> p_argument )
     {
-        return p_values.collect( Collectors.toList() );
+        return p_values;
     }
 
 }
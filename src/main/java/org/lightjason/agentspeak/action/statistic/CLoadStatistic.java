@@ -0,0 +1,107 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.statistic;
+
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * action to load statistic objects.
+ * The action reads all statistic objects of the files, which are
+ * written by the save action, each argument is a file name, summary
+ * statistics are restored as striped summary statistics, descriptive
+ * statistics as descriptive statistics with a cached sorted view and
+ * all other statistic objects with their own type
+ *
+ * {@code [S1|S2|S3] = .math/statistic/loadstatistic( "checkpoint.bin" );}
+ *
+ * @see EStatisticFormat
+ */
+public final class CLoadStatistic extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 4291512261352212993L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CLoadStatistic.class, "math", "statistic" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 1;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return )
+    {
+        final List<ITerm> l_arguments = CCommon.flatten( p_argument ).collect( Collectors.toList() );
+
+        for ( int i = 0; i < l_arguments.size(); i++ )
+        {
+            final String l_file = l_arguments.get( i ).raw();
+            try
+            {
+                EStatisticFormat.read( Paths.get( l_file ) ).stream().map( CRawTerm::of ).forEach( p_return::add );
+            }
+            catch ( final IOException l_exception )
+            {
+                throw new CExecutionIllegealArgumentException(
+                    p_context,
+                    org.lightjason.agentspeak.common.CCommon.languagestring( this, "ioerror", l_file, l_exception.getMessage() )
+                );
+            }
+        }
+
+        return Stream.empty();
+    }
+
+}
@@ -0,0 +1,297 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.statistic;
+
+import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
+import org.apache.commons.math3.stat.descriptive.SummaryStatistics;
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * action to merge statistic objects.
+ * The action merges all statistic objects of the arguments into
+ * a new statistic object without replaying the values, all arguments
+ * must be of the same kind, summary statistics are merged by their
+ * moments, the windows of descriptive statistics are concatenated
+ * into one block, which is stored without adding each value, and
+ * their sorted values are merged with a k-way merge, t-digest statistics are
+ * merged by their centroids, histograms with the same buckets are
+ * merged by their bucket counters
+ *
+ * {@code S = .math/statistic/mergestatistic( Statistic1, [Statistic2, Statistic3] );}
+ */
+public final class CMergeStatistic extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 6187286862627371702L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CMergeStatistic.class, "math", "statistic" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 1;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return )
+    {
+        final List<ITerm> l_arguments = CCommon.flatten( p_argument ).collect( Collectors.toList() );
+
+        if ( l_arguments.stream().allMatch( i -> CCommon.isssignableto( i, SummaryStatistics.class ) ) )
+            p_return.add( CRawTerm.of(
+                CStripedSummaryStatistics.of( l_arguments.stream().map( ITerm::<SummaryStatistics>raw ).collect( Collectors.toList() ) )
+            ) );
+
+        else if ( l_arguments.stream().allMatch( i -> CCommon.isssignableto( i, DescriptiveStatistics.class ) ) )
+            p_return.add( CRawTerm.of(
+                CMergeStatistic.descriptive( l_arguments.stream().map( ITerm::<DescriptiveStatistics>raw ).collect( Collectors.toList() ), p_parallel )
+            ) );
+
+        else if ( l_arguments.stream().allMatch( i -> CCommon.isssignableto( i, CTDigestStatistic.class ) ) )
+            p_return.add( CRawTerm.of(
+                CMergeStatistic.tdigest( l_arguments.stream().map( ITerm::<CTDigestStatistic>raw ).collect( Collectors.toList() ) )
+            ) );
+
+        else if ( l_arguments.stream().allMatch( i -> CCommon.isssignableto( i, CHistogramStatistic.class )
+                                                      && i.<CHistogramStatistic>raw().compatible( l_arguments.get( 0 ).raw() ) ) )
+            p_return.add( CRawTerm.of(
+                CMergeStatistic.histogram( l_arguments.stream().map( ITerm::<CHistogramStatistic>raw ).collect( Collectors.toList() ) )
+            ) );
+
+        else
+            throw new CExecutionIllegealArgumentException(
+                p_context,
+                org.lightjason.agentspeak.common.CCommon.languagestring( this, "argumenterror" )
+            );
+
+        return Stream.empty();
+    }
+
+    /**
+     * merges descriptive statistics
+     *
+     * @param p_statistics statistics
+     * @param p_parallel parallel flag
+     * @return merged statistic with presorted values
+     */
+    @Nonnull
+    private static DescriptiveStatistics descriptive( @Nonnull final List<DescriptiveStatistics> p_statistics, final boolean p_parallel )
+    {
+        final double[][] l_sorted = new double[p_statistics.size()][];
+        final double[][] l_values = new double[p_statistics.size()][];
+        int l_length = 0;
+        for ( int i = 0; i < l_sorted.length; i++ )
+        {
+            // a synchronized statistic locks each access on the object itself, so values and sorted values are read within one lock
+            final DescriptiveStatistics l_statistic = p_statistics.get( i );
+            synchronized ( l_statistic )
+            {
+                l_values[i] = l_statistic.getValues();
+                l_sorted[i] = CMergeStatistic.sorted( l_statistic, l_values[i] );
+            }
+            l_length += l_values[i].length;
+        }
+
+        // the windows are concatenated and stored as one block
+        final double[] l_concatenated = new double[l_length];
+        int l_offset = 0;
+        for ( final double[] i : l_values )
+        {
+            System.arraycopy( i, 0, l_concatenated, l_offset, i.length );
+            l_offset += i.length;
+        }
+
+        final DescriptiveStatistics l_result = p_parallel
+                                               ? new CSynchronizedSortedDescriptiveStatistics( l_concatenated )
+                                               : new CSortedDescriptiveStatistics( l_concatenated );
+
+        final double[] l_merged = CMergeStatistic.kwaymerge( l_sorted );
+        if ( l_result instanceof CSortedDescriptiveStatistics )
+            ( (CSortedDescriptiveStatistics) l_result ).presort( l_merged );
+        else
+            ( (CSynchronizedSortedDescriptiveStatistics) l_result ).presort( l_merged );
+
+        return l_result;
+    }
+
+    /**
+     * returns the sorted values of a descriptive statistic
+     * and uses a cached sorted view if it exists
+     *
+     * @param p_statistic statistic
+     * @param p_values current values of the statistic, which are not modified
+     * @return sorted values without NaN
+     */
+    @Nonnull
+    private static double[] sorted( @Nonnull final DescriptiveStatistics p_statistic, @Nonnull final double[] p_values )
+    {
+        if ( p_statistic instanceof CSortedDescriptiveStatistics )
+            return ( (CSortedDescriptiveStatistics) p_statistic ).sorted();
+
+        if ( p_statistic instanceof CSynchronizedSortedDescriptiveStatistics )
+            return ( (CSynchronizedSortedDescriptiveStatistics) p_statistic ).sorted();
+
+        return CSortedCache.sort( p_values.clone() );
+    }
+
+    /**
+     * k-way merge of sorted arrays with a min-heap of the array cursors
+     *
+     * @param p_sorted sorted arrays
+     * @return merged sorted array
+     */
+    @Nonnull
+    private static double[] kwaymerge( @Nonnull final double[][] p_sorted )
+    {
+        final int[] l_position = new int[p_sorted.length];
+        final int[] l_heap = new int[p_sorted.length];
+        int l_heapsize = 0;
+        int l_length = 0;
+
+        for ( int i = 0; i < p_sorted.length; i++ )
+        {
+            l_length += p_sorted[i].length;
+            if ( p_sorted[i].length > 0 )
+                l_heap[l_heapsize++] = i;
+        }
+
+        for ( int i = l_heapsize / 2 - 1; i >= 0; i-- )
+            CMergeStatistic.siftdown( p_sorted, l_position, l_heap, l_heapsize, i );
+
+        final double[] l_result = new double[l_length];
+        for ( int i = 0; i < l_length; i++ )
+        {
+            final int l_array = l_heap[0];
+            l_result[i] = p_sorted[l_array][l_position[l_array]++];
+
+            if ( l_position[l_array] == p_sorted[l_array].length )
+                l_heap[0] = l_heap[--l_heapsize];
+
+            CMergeStatistic.siftdown( p_sorted, l_position, l_heap, l_heapsize, 0 );
+        }
+
+        return l_result;
+    }
+
+    /**
+     * moves a cursor down within the min-heap
+     *
+     * @param p_sorted sorted arrays
+     * @param p_position cursor position of each array
+     * @param p_heap heap of array indices
+     * @param p_size heap size
+     * @param p_start start position
+     */
+    private static void siftdown( @Nonnull final double[][] p_sorted, @Nonnull final int[] p_position,
+                                  @Nonnull final int[] p_heap, final int p_size, final int p_start )
+    {
+        int l_parent = p_start;
+        while ( 2 * l_parent + 1 < p_size )
+        {
+            int l_child = 2 * l_parent + 1;
+            if ( l_child + 1 < p_size && CMergeStatistic.head( p_sorted, p_position, p_heap[l_child + 1] )
+                                         < CMergeStatistic.head( p_sorted, p_position, p_heap[l_child] ) )
+                l_child++;
+
+            if ( CMergeStatistic.head( p_sorted, p_position, p_heap[l_parent] ) <= CMergeStatistic.head( p_sorted, p_position, p_heap[l_child] ) )
+                return;
+
+            final int l_swap = p_heap[l_parent];
+            p_heap[l_parent] = p_heap[l_child];
+            p_heap[l_child] = l_swap;
+            l_parent = l_child;
+        }
+    }
+
+    /**
+     * returns the current value of an array cursor
+     *
+     * @param p_sorted sorted arrays
+     * @param p_position cursor position of each array
+     * @param p_array array index
+     * @return value
+     */
+    private static double head( @Nonnull final double[][] p_sorted, @Nonnull final int[] p_position, final int p_array )
+    {
+        return p_sorted[p_array][p_position[p_array]];
+    }
+
+    /**
+     * merges t-digest statistics
+     *
+     * @param p_statistics statistics
+     * @return merged statistic
+     */
+    @Nonnull
+    private static CTDigestStatistic tdigest( @Nonnull final List<CTDigestStatistic> p_statistics )
+    {
+        final CTDigestStatistic l_result = new CTDigestStatistic(
+            p_statistics.stream().mapToDouble( CTDigestStatistic::compression ).max().orElse( CTDigestStatistic.DEFAULTCOMPRESSION )
+        );
+        p_statistics.forEach( l_result::merge );
+        return l_result;
+    }
+
+    /**
+     * merges histogram statistics
+     *
+     * @param p_statistics statistics with the same buckets
+     * @return merged statistic
+     */
+    @Nonnull
+    private static CHistogramStatistic histogram( @Nonnull final List<CHistogramStatistic> p_statistics )
+    {
+        final CHistogramStatistic l_result = p_statistics.get( 0 ).empty();
+        p_statistics.forEach( l_result::merge );
+        return l_result;
+    }
+}
@@ -35,13 +35,13 @@ import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 
 import javax.annotation.Nonnull;
 import java.util.List;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 
 /**
  * returns percentile value.
- * gets percentile value in $[0,100]$ of the statistic
+ * gets percentile value in $[0,100]$ of the statistic, the statistic
+ * must be a descriptive statistic or a percentile estimating statistic
  *
  * {@code [V1|V2|V3] = .math/statistic/multiplepercentile( Statistic, 50, [25, 75] );}
  */
@@ -75,18 +75,28 @@ public final class CMultiplePercentile extends IBaseAction
                                            @Nonnull final List<ITerm> p_return
     )
     {
-        final List<ITerm> l_arguments = CCommon.flatten( p_argument ).collect( Collectors.toList() );
+        final List<ITerm> l_arguments = CArgument.flatten( p_argument );
         if ( l_arguments.size() < 2 )
             throw new CExecutionIllegealArgumentException( p_context, org.lightjason.agentspeak.common.CCommon.languagestring( this, "wrongargumentnumber", 2 ) );
 
-        final DescriptiveStatistics l_statistic = l_arguments.get( 0 ).raw();
-        l_arguments.stream()
-                   .skip( 1 )
-                   .map( ITerm::<Number>raw )
-                   .mapToDouble( i -> l_statistic.getPercentile( i.doubleValue() ) )
-                   .mapToObj( CRawTerm::of )
-                   .forEach( p_return::add );
+        final ITerm l_statistic = l_arguments.get( 0 );
+        for ( int i = 1; i < l_arguments.size(); i++ )
+            p_return.add( CRawTerm.of( CMultiplePercentile.percentile( l_statistic, l_arguments.get( i ).<Number>raw().doubleValue() ) ) );
 
         return Stream.empty();
     }
+
+    /**
+     * returns the percentile of a statistic
+     *
+     * @param p_statistic statistic term
+     * @param p_percentile percentile value
+     * @return percentile
+     */
+    private static double percentile( @Nonnull final ITerm p_statistic, final double p_percentile )
+    {
+        return CCommon.isssignableto( p_statistic, IPercentile.class )
+               ? p_statistic.<IPercentile>raw().getPercentile( p_percentile )
+               : p_statistic.<DescriptiveStatistics>raw().getPercentile( p_percentile );
+    }
 }
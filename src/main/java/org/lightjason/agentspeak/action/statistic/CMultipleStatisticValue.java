@@ -23,11 +23,8 @@
 
 package org.lightjason.agentspeak.action.statistic;
 
-import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
-import org.apache.commons.math3.stat.descriptive.SummaryStatistics;
 import org.lightjason.agentspeak.action.IBaseAction;
 import org.lightjason.agentspeak.common.IPath;
-import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.IContext;
@@ -36,7 +33,6 @@ import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import java.util.List;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 
@@ -81,26 +77,12 @@ public final class CMultipleStatisticValue extends IBaseAction
                                            @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
     )
     {
-        final List<ITerm> l_arguments = CCommon.flatten( p_argument ).collect( Collectors.toList() );
+        final List<ITerm> l_arguments = CArgument.flatten( p_argument );
 
-        if ( CCommon.isssignableto( l_arguments.get( 0 ), SummaryStatistics.class ) )
-            l_arguments.stream()
-                       .skip( 1 )
-                       .map( ITerm::<String>raw )
-                       .map( EStatisticValue::of )
-                       .mapToDouble( i -> i.value( l_arguments.get( 0 ).<SummaryStatistics>raw() ) )
-                       .boxed()
-                       .map( CRawTerm::of )
-                       .forEach( p_return::add );
-        else
-            l_arguments.stream()
-                       .skip( 1 )
-                       .map( ITerm::<String>raw )
-                       .map( EStatisticValue::of )
-                       .mapToDouble( i -> i.value( l_arguments.get( 0 ).<DescriptiveStatistics>raw() ) )
-                       .boxed()
-                       .map( CRawTerm::of )
-                       .forEach( p_return::add );
+        final Object l_statistic = l_arguments.get( 0 ).raw();
+        final Class<?> l_class = l_statistic.getClass();
+        for ( int i = 1; i < l_arguments.size(); i++ )
+            p_return.add( CRawTerm.of( EStatisticValue.of( l_arguments.get( i ).<String>raw() ).accessor( l_class ).applyAsDouble( l_statistic ) ) );
 
         return Stream.empty();
     }
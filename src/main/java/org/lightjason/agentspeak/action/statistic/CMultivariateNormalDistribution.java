@@ -0,0 +1,182 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.statistic;
+
+import org.apache.commons.math3.distribution.AbstractMultivariateRealDistribution;
+import org.apache.commons.math3.exception.DimensionMismatchException;
+import org.apache.commons.math3.linear.Array2DRowRealMatrix;
+import org.apache.commons.math3.linear.CholeskyDecomposition;
+import org.apache.commons.math3.linear.RealMatrix;
+import org.apache.commons.math3.random.RandomGenerator;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+
+
+/**
+ * multivariate normal distribution.
+ * The Cholesky factor \f$ L \f$ of the covariance matrix is calculated
+ * once on creation, a sample is \f$ \mu + L z \f$ with a vector of standard
+ * normal values \f$ z \f$, which are sampled with the ziggurat method
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Multivariate_normal_distribution#Drawing_values_from_the_distribution"></a>
+ */
+public final class CMultivariateNormalDistribution extends AbstractMultivariateRealDistribution implements IMultivariateDistribution
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 2931620749046118405L;
+    /**
+     * mean
+     */
+    private final double[] m_mean;
+    /**
+     * covariance matrix
+     */
+    private final double[][] m_covariance;
+    /**
+     * lower triangular Cholesky factor, packed row by row
+     */
+    private final double[] m_factor;
+    /**
+     * logarithm of the normalization constant
+     */
+    private final double m_normalization;
+
+    /**
+     * ctor
+     *
+     * @param p_generator generator
+     * @param p_mean mean
+     * @param p_covariance symmetric positive definite covariance matrix
+     */
+    public CMultivariateNormalDistribution( @Nonnull final RandomGenerator p_generator, @Nonnull final double[] p_mean,
+                                            @Nonnull final double[][] p_covariance )
+    {
+        super( p_generator, p_mean.length );
+
+        if ( p_covariance.length != p_mean.length )
+            throw new DimensionMismatchException( p_covariance.length, p_mean.length );
+
+        m_mean = p_mean.clone();
+        m_covariance = Arrays.stream( p_covariance ).map( double[]::clone ).toArray( double[][]::new );
+
+        final RealMatrix l_factor = new CholeskyDecomposition( new Array2DRowRealMatrix( m_covariance, false ) ).getL();
+        m_factor = new double[m_mean.length * ( m_mean.length + 1 ) / 2];
+
+        double l_logdeterminant = 0;
+        for ( int i = 0, k = 0; i < m_mean.length; i++ )
+        {
+            for ( int j = 0; j <= i; j++ )
+                m_factor[k++] = l_factor.getEntry( i, j );
+            l_logdeterminant += 2 * Math.log( l_factor.getEntry( i, i ) );
+        }
+
+        m_normalization = -0.5 * ( m_mean.length * Math.log( 2 * Math.PI ) + l_logdeterminant );
+    }
+
+    /**
+     * returns the mean
+     *
+     * @return mean
+     */
+    @Nonnull
+    public double[] getMeans()
+    {
+        return m_mean.clone();
+    }
+
+    /**
+     * returns the covariance matrix
+     *
+     * @return covariance matrix
+     */
+    @Nonnull
+    public double[][] getCovariances()
+    {
+        return Arrays.stream( m_covariance ).map( double[]::clone ).toArray( double[][]::new );
+    }
+
+    @Override
+    public double density( @Nonnull final double[] p_value )
+    {
+        if ( p_value.length != m_mean.length )
+            throw new DimensionMismatchException( p_value.length, m_mean.length );
+
+        return Math.exp( m_normalization - 0.5 * this.mahalanobis( p_value ) );
+    }
+
+    @Override
+    public double[] sample()
+    {
+        final double[] l_values = new double[m_mean.length];
+        this.sample( l_values, 0 );
+        return l_values;
+    }
+
+    @Override
+    public void sample( @Nonnull final double[] p_values, @Nonnegative final int p_offset )
+    {
+        for ( int i = 0; i < m_mean.length; i++ )
+            p_values[p_offset + i] = CZiggurat.normal( random );
+
+        // the row i of the factor uses only the normal values 0 to i, so the
+        // values are transformed from the last to the first value in place
+        for ( int i = m_mean.length - 1; i >= 0; i-- )
+        {
+            final int l_row = i * ( i + 1 ) / 2;
+            double l_value = m_mean[i];
+            for ( int j = 0; j <= i; j++ )
+                l_value += m_factor[l_row + j] * p_values[p_offset + j];
+            p_values[p_offset + i] = l_value;
+        }
+    }
+
+    /**
+     * squared Mahalanobis distance by forward substitution
+     *
+     * @param p_value value
+     * @return squared distance
+     */
+    private double mahalanobis( @Nonnull final double[] p_value )
+    {
+        final double[] l_solution = new double[m_mean.length];
+        double l_distance = 0;
+
+        for ( int i = 0; i < m_mean.length; i++ )
+        {
+            final int l_row = i * ( i + 1 ) / 2;
+            double l_value = p_value[i] - m_mean[i];
+            for ( int j = 0; j < i; j++ )
+                l_value -= m_factor[l_row + j] * l_solution[j];
+
+            l_solution[i] = l_value / m_factor[l_row + i];
+            l_distance += l_solution[i] * l_solution[i];
+        }
+
+        return l_distance;
+    }
+}
@@ -0,0 +1,793 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.statistic;
+
+import org.apache.commons.math3.exception.NotStrictlyPositiveException;
+import org.apache.commons.math3.exception.NumberIsTooLargeException;
+import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+
+/**
+ * descriptive statistic with off-heap storage.
+ * The values are stored within a direct buffer or a memory-mapped file,
+ * so large windows do not fill the heap, the window is fixed (the oldest
+ * value is replaced) or unbounded like the window of the descriptive statistic,
+ * the storage grows on demand up to the window size, sum and sum of squares are
+ * updated incrementally with compensated summation of the shifted values, the shift
+ * is moved to the mean and the sums are recomputed each time the fixed window wraps
+ * or the unbounded window doubles, NaN values are counted and are not part of the sums,
+ * so mean, variance and sum are NaN only while a NaN value is stored, minimum and maximum
+ * ignore NaN values and are scanned again only if an extreme value leaves the window,
+ * geometric mean, kurtosis and sum of logarithms are calculated over the stored values,
+ * the percentile uses a sorted off-heap copy of the values, which is reused until the
+ * values are modified, a temporary mapped file is deleted directly after mapping
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Kahan_summation_algorithm"></a>
+ * @see <a href="https://en.wikipedia.org/wiki/Introsort"></a>
+ */
+public final class COffHeapStatistic implements IStatistic, IPercentile, IDescriptive
+{
+    /**
+     * maximum number of values of a buffer
+     */
+    public static final int MAXIMUMCAPACITY = Integer.MAX_VALUE / Double.BYTES;
+    /**
+     * initial number of values of the storage
+     */
+    private static final int INITIALCAPACITY = 1024;
+    /**
+     * maximum length of a range sorted with insertion sort
+     */
+    private static final int INSERTIONSORT = 16;
+    /**
+     * window size or DescriptiveStatistics.INFINITE_WINDOW
+     */
+    private final int m_window;
+    /**
+     * mapped file or null for a direct buffer or a temporary file
+     */
+    private final Path m_file;
+    /**
+     * storage is mapped into temporary files
+     */
+    private final boolean m_temporary;
+    /**
+     * storage
+     */
+    private DoubleBuffer m_values;
+    /**
+     * sorted values
+     */
+    private DoubleBuffer m_sorted;
+    /**
+     * number of sorted values without NaN
+     */
+    private int m_sortedlength;
+    /**
+     * number of all added values since the last clear
+     */
+    private long m_sequence;
+    /**
+     * shift value
+     */
+    private double m_shift;
+    /**
+     * shifted sum
+     */
+    private double m_sum;
+    /**
+     * compensation of the shifted sum
+     */
+    private double m_sumcompensation;
+    /**
+     * shifted sum of squares
+     */
+    private double m_sumsquare;
+    /**
+     * compensation of the shifted sum of squares
+     */
+    private double m_sumsquarecompensation;
+    /**
+     * number of stored NaN values
+     */
+    private int m_nan;
+    /**
+     * minimum
+     */
+    private double m_min = Double.NaN;
+    /**
+     * maximum
+     */
+    private double m_max = Double.NaN;
+    /**
+     * minimum and maximum must be scanned
+     */
+    private boolean m_scan;
+    /**
+     * modification counter
+     */
+    private long m_modification;
+    /**
+     * modification counter of the sorted values
+     */
+    private long m_sortedmodification = -1;
+
+    /**
+     * ctor with an unbounded window
+     */
+    public COffHeapStatistic()
+    {
+        this( DescriptiveStatistics.INFINITE_WINDOW );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_window window size or DescriptiveStatistics.INFINITE_WINDOW
+     */
+    public COffHeapStatistic( final int p_window )
+    {
+        this( p_window, null );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_window window size or DescriptiveStatistics.INFINITE_WINDOW
+     * @param p_file file, which is mapped into the memory, the content is overwritten, or null for a direct buffer
+     */
+    public COffHeapStatistic( final int p_window, final Path p_file )
+    {
+        this( p_window, p_file, false );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_window window size or DescriptiveStatistics.INFINITE_WINDOW
+     * @param p_file file, which is mapped into the memory, or null
+     * @param p_temporary storage is mapped into temporary files
+     */
+    private COffHeapStatistic( final int p_window, final Path p_file, final boolean p_temporary )
+    {
+        if ( p_window != DescriptiveStatistics.INFINITE_WINDOW && p_window <= 0 )
+            throw new NotStrictlyPositiveException( p_window );
+        if ( p_window > MAXIMUMCAPACITY )
+            throw new NumberIsTooLargeException( p_window, MAXIMUMCAPACITY, true );
+
+        m_window = p_window;
+        m_file = p_file;
+        m_temporary = p_temporary;
+        m_values = this.allocate(
+            m_window == DescriptiveStatistics.INFINITE_WINDOW ? INITIALCAPACITY : Math.min( INITIALCAPACITY, m_window ),
+            null
+        );
+    }
+
+    /**
+     * creates a statistic with a temporary mapped file, which is
+     * deleted directly after mapping, so the file is released
+     * together with the mapping
+     *
+     * @param p_window window size or DescriptiveStatistics.INFINITE_WINDOW
+     * @return statistic
+     */
+    @Nonnull
+    public static COffHeapStatistic temporary( final int p_window )
+    {
+        return new COffHeapStatistic( p_window, null, true );
+    }
+
+    /**
+     * returns the window size
+     *
+     * @return window size or DescriptiveStatistics.INFINITE_WINDOW
+     */
+    public int window()
+    {
+        return m_window;
+    }
+
+    /**
+     * returns the mapped file
+     *
+     * @return file or null for a direct buffer or a temporary file
+     */
+    public Path file()
+    {
+        return m_file;
+    }
+
+    /**
+     * returns if the storage is a memory-mapped file
+     *
+     * @return mapped flag
+     */
+    public boolean mapped()
+    {
+        return m_file != null || m_temporary;
+    }
+
+    @Override
+    public synchronized void addValue( final double p_value )
+    {
+        if ( m_sequence == 0 )
+        {
+            m_shift = Double.isFinite( p_value ) ? p_value : 0;
+            m_min = p_value;
+            m_max = p_value;
+        }
+
+        final int l_index;
+        if ( m_window != DescriptiveStatistics.INFINITE_WINDOW && m_sequence >= m_window )
+        {
+            // remove the oldest value of the full window
+            l_index = (int) ( m_sequence % m_window );
+            final double l_old = m_values.get( l_index );
+            this.remove( l_old );
+            m_scan = m_scan || l_old == m_min || l_old == m_max;
+        }
+        else
+        {
+            l_index = (int) m_sequence;
+            if ( l_index == m_values.capacity() )
+                this.grow();
+        }
+
+        m_values.put( l_index, p_value );
+        this.add( p_value );
+
+        if ( p_value < m_min || Double.isNaN( m_min ) )
+            m_min = p_value;
+        if ( p_value > m_max || Double.isNaN( m_max ) )
+            m_max = p_value;
+
+        m_sequence++;
+        m_modification++;
+
+        // the shift follows drifting values, so it is moved each time the
+        // fixed window wraps or the unbounded window doubles its size
+        if ( m_window == DescriptiveStatistics.INFINITE_WINDOW
+             ? m_sequence >= INITIALCAPACITY && Long.bitCount( m_sequence ) == 1
+             : m_sequence % m_window == 0 )
+            this.recenter();
+    }
+
+    @Override
+    public synchronized void clear()
+    {
+        m_sequence = 0;
+        m_shift = 0;
+        m_sum = 0;
+        m_sumcompensation = 0;
+        m_sumsquare = 0;
+        m_sumsquarecompensation = 0;
+        m_nan = 0;
+        m_min = Double.NaN;
+        m_max = Double.NaN;
+        m_scan = false;
+        m_modification++;
+    }
+
+    @Override
+    public synchronized double getMean()
+    {
+        final int l_count = this.count();
+        return l_count == 0 || m_nan > 0 ? Double.NaN : m_shift + ( m_sum + m_sumcompensation ) / l_count;
+    }
+
+    @Override
+    public synchronized double getVariance()
+    {
+        final int l_count = this.count();
+        if ( l_count == 0 || m_nan > 0 )
+            return Double.NaN;
+        if ( l_count == 1 )
+            return 0;
+
+        final double l_sum = m_sum + m_sumcompensation;
+        return Math.max( 0, ( m_sumsquare + m_sumsquarecompensation - l_sum * l_sum / l_count ) / ( l_count - 1 ) );
+    }
+
+    @Override
+    public double getStandardDeviation()
+    {
+        return Math.sqrt( this.getVariance() );
+    }
+
+    @Override
+    public synchronized double getMax()
+    {
+        this.scan();
+        return m_max;
+    }
+
+    @Override
+    public synchronized double getMin()
+    {
+        this.scan();
+        return m_min;
+    }
+
+    @Override
+    public synchronized long getN()
+    {
+        return this.count();
+    }
+
+    @Override
+    public synchronized double getSum()
+    {
+        return m_nan > 0 ? Double.NaN : m_shift * this.count() + m_sum + m_sumcompensation;
+    }
+
+    @Override
+    public synchronized double getGeometricMean()
+    {
+        final int l_count = this.count();
+        return l_count == 0 ? Double.NaN : Math.exp( this.getSumOfLogs() / l_count );
+    }
+
+    @Override
+    public synchronized double getKurtosis()
+    {
+        final int l_count = this.count();
+        if ( l_count < 4 )
+            return Double.NaN;
+
+        // two-pass central moments like the kurtosis of the descriptive statistic
+        final double l_mean = this.getMean();
+        double l_secondmoment = 0;
+        double l_fourthmoment = 0;
+        for ( int i = 0; i < l_count; i++ )
+        {
+            final double l_deviation = m_values.get( i ) - l_mean;
+            final double l_square = l_deviation * l_deviation;
+            l_secondmoment += l_square;
+            l_fourthmoment += l_square * l_square;
+        }
+
+        final double l_variance = l_secondmoment / ( l_count - 1 );
+        if ( l_variance < 1e-19 )
+            return 0;
+
+        final double l_n = l_count;
+        return ( l_n * ( l_n + 1 ) * l_fourthmoment - 3 * l_secondmoment * l_secondmoment * ( l_n - 1 ) )
+               / ( ( l_n - 1 ) * ( l_n - 2 ) * ( l_n - 3 ) * l_variance * l_variance );
+    }
+
+    @Override
+    public synchronized double getSumOfLogs()
+    {
+        final int l_count = this.count();
+        double l_sum = 0;
+        for ( int i = 0; i < l_count; i++ )
+            l_sum += Math.log( m_values.get( i ) );
+        return l_sum;
+    }
+
+    @Override
+    public synchronized double getPercentile( final double p_percentile )
+    {
+        if ( m_sortedmodification != m_modification )
+        {
+            final int l_count = this.count();
+            if ( m_sorted == null || m_sorted.capacity() < l_count )
+                m_sorted = ByteBuffer.allocateDirect( m_values.capacity() * Double.BYTES ).order( ByteOrder.nativeOrder() ).asDoubleBuffer();
+
+            // NaN values are moved to the end and are not part of the sorted range
+            m_sortedlength = 0;
+            for ( int i = 0; i < l_count; i++ )
+            {
+                final double l_value = m_values.get( i );
+                if ( !Double.isNaN( l_value ) )
+                    m_sorted.put( m_sortedlength++, l_value );
+            }
+
+            COffHeapStatistic.sort( m_sorted, 0, m_sortedlength, 2 * ( 32 - Integer.numberOfLeadingZeros( m_sortedlength ) ) );
+            m_sortedmodification = m_modification;
+        }
+
+        return CSortedCache.percentile( m_sorted, m_sortedlength, p_percentile );
+    }
+
+    /**
+     * returns the values of the window from the oldest to the newest value
+     *
+     * @return values
+     */
+    @Nonnull
+    public synchronized double[] values()
+    {
+        final int l_count = this.count();
+        final double[] l_values = new double[l_count];
+        final long l_first = m_sequence - l_count;
+        for ( int i = 0; i < l_count; i++ )
+            l_values[i] = m_values.get( this.index( l_first + i ) );
+        return l_values;
+    }
+
+    /**
+     * number of stored values
+     *
+     * @return count
+     */
+    private int count()
+    {
+        return m_window == DescriptiveStatistics.INFINITE_WINDOW ? (int) m_sequence : (int) Math.min( m_sequence, m_window );
+    }
+
+    /**
+     * storage index of a sequence number
+     *
+     * @param p_sequence sequence number
+     * @return index
+     */
+    private int index( final long p_sequence )
+    {
+        return m_window == DescriptiveStatistics.INFINITE_WINDOW ? (int) p_sequence : (int) ( p_sequence % m_window );
+    }
+
+    /**
+     * scans minimum and maximum if an extreme value has left the window
+     */
+    private void scan()
+    {
+        if ( !m_scan )
+            return;
+
+        final int l_count = this.count();
+        m_min = Double.NaN;
+        m_max = Double.NaN;
+        for ( int i = 0; i < l_count; i++ )
+        {
+            final double l_value = m_values.get( i );
+            if ( l_value < m_min || Double.isNaN( m_min ) )
+                m_min = l_value;
+            if ( l_value > m_max || Double.isNaN( m_max ) )
+                m_max = l_value;
+        }
+        m_scan = false;
+    }
+
+    /**
+     * doubles the capacity of the storage up to the window size
+     */
+    private void grow()
+    {
+        final int l_limit = m_window == DescriptiveStatistics.INFINITE_WINDOW ? MAXIMUMCAPACITY : m_window;
+        if ( m_values.capacity() >= l_limit )
+            throw new NumberIsTooLargeException( m_values.capacity() + 1, l_limit, true );
+
+        m_values = this.allocate( (int) Math.min( 2L * m_values.capacity(), l_limit ), m_values );
+    }
+
+    /**
+     * allocates the storage, a mapped file keeps the
+     * values on remapping, otherwise the values are copied
+     *
+     * @param p_capacity number of values
+     * @param p_values current storage or null
+     * @return storage
+     */
+    @Nonnull
+    private DoubleBuffer allocate( final int p_capacity, final DoubleBuffer p_values )
+    {
+        if ( m_temporary )
+            return COffHeapStatistic.maptemporary( p_capacity, p_values );
+
+        if ( m_file == null )
+        {
+            final DoubleBuffer l_values = ByteBuffer.allocateDirect( p_capacity * Double.BYTES ).order( ByteOrder.nativeOrder() ).asDoubleBuffer();
+            if ( p_values != null )
+                l_values.put( p_values.duplicate().clear() );
+            return l_values;
+        }
+
+        final StandardOpenOption[] l_options = p_values == null
+                                               ? new StandardOpenOption[]{
+                                                   StandardOpenOption.CREATE, StandardOpenOption.READ,
+                                                   StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING
+                                               }
+                                               : new StandardOpenOption[]{StandardOpenOption.READ, StandardOpenOption.WRITE};
+
+        // the mapping is valid after the channel is closed
+        try ( FileChannel l_channel = FileChannel.open( m_file, l_options ) )
+        {
+            return l_channel.map( FileChannel.MapMode.READ_WRITE, 0, (long) p_capacity * Double.BYTES )
+                            .order( ByteOrder.nativeOrder() )
+                            .asDoubleBuffer();
+        }
+        catch ( final IOException l_exception )
+        {
+            throw new UncheckedIOException( l_exception );
+        }
+    }
+
+    /**
+     * moves the shift to the mean of the stored values
+     * and recomputes the shifted sums of the stored values
+     */
+    private void recenter()
+    {
+        final int l_count = this.count();
+        final double l_mean = m_shift + ( m_sum + m_sumcompensation ) / ( l_count - m_nan );
+        if ( Double.isFinite( l_mean ) )
+            m_shift = l_mean;
+        m_sum = 0;
+        m_sumcompensation = 0;
+        m_sumsquare = 0;
+        m_sumsquarecompensation = 0;
+        m_nan = 0;
+
+        for ( int i = 0; i < l_count; i++ )
+            this.add( m_values.get( i ) );
+    }
+
+    /**
+     * adds a value to the shifted sums, a NaN value is only counted
+     *
+     * @param p_value value
+     */
+    private void add( final double p_value )
+    {
+        if ( Double.isNaN( p_value ) )
+        {
+            m_nan++;
+            return;
+        }
+
+        final double l_shifted = p_value - m_shift;
+        this.sum( l_shifted );
+        this.sumsquare( l_shifted * l_shifted );
+    }
+
+    /**
+     * removes a value from the shifted sums
+     *
+     * @param p_value value
+     */
+    private void remove( final double p_value )
+    {
+        if ( Double.isNaN( p_value ) )
+        {
+            m_nan--;
+            return;
+        }
+
+        final double l_shifted = p_value - m_shift;
+        this.sum( -l_shifted );
+        this.sumsquare( -l_shifted * l_shifted );
+    }
+
+    /**
+     * maps a new temporary file, which is deleted directly after
+     * mapping, and copies the values of the current storage
+     *
+     * @param p_capacity number of values
+     * @param p_values current storage or null
+     * @return storage
+     */
+    @Nonnull
+    private static DoubleBuffer maptemporary( final int p_capacity, final DoubleBuffer p_values )
+    {
+        final DoubleBuffer l_values;
+        try
+        {
+            final Path l_file = Files.createTempFile( "statistic", ".bin" );
+            try ( FileChannel l_channel = FileChannel.open( l_file, StandardOpenOption.READ, StandardOpenOption.WRITE ) )
+            {
+                l_values = l_channel.map( FileChannel.MapMode.READ_WRITE, 0, (long) p_capacity * Double.BYTES )
+                                    .order( ByteOrder.nativeOrder() )
+                                    .asDoubleBuffer();
+            }
+            finally
+            {
+                // a mapped file cannot be deleted on all platforms, so it is deleted on exit as fallback
+                if ( !l_file.toFile().delete() )
+                    l_file.toFile().deleteOnExit();
+            }
+        }
+        catch ( final IOException l_exception )
+        {
+            throw new UncheckedIOException( l_exception );
+        }
+
+        if ( p_values != null )
+            l_values.put( p_values.duplicate().clear() );
+        return l_values;
+    }
+
+    /**
+     * Neumaier summation of the shifted sum
+     *
+     * @param p_value value
+     */
+    private void sum( final double p_value )
+    {
+        final double l_sum = m_sum + p_value;
+        m_sumcompensation += Math.abs( m_sum ) >= Math.abs( p_value )
+                             ? ( m_sum - l_sum ) + p_value
+                             : ( p_value - l_sum ) + m_sum;
+        m_sum = l_sum;
+    }
+
+    /**
+     * Neumaier summation of the shifted sum of squares
+     *
+     * @param p_value value
+     */
+    private void sumsquare( final double p_value )
+    {
+        final double l_sum = m_sumsquare + p_value;
+        m_sumsquarecompensation += Math.abs( m_sumsquare ) >= Math.abs( p_value )
+                                   ? ( m_sumsquare - l_sum ) + p_value
+                                   : ( p_value - l_sum ) + m_sumsquare;
+        m_sumsquare = l_sum;
+    }
+
+    /**
+     * sorts a range of a buffer in place with quicksort, a
+     * small range with insertion sort and a range with too
+     * many partitions with heapsort
+     *
+     * @param p_values buffer without NaN values
+     * @param p_from first index
+     * @param p_to index after the last value
+     * @param p_depth remaining partition depth
+     */
+    private static void sort( @Nonnull final DoubleBuffer p_values, final int p_from, final int p_to, final int p_depth )
+    {
+        int l_from = p_from;
+        int l_to = p_to;
+        int l_depth = p_depth;
+
+        while ( l_to - l_from > INSERTIONSORT )
+        {
+            if ( l_depth-- == 0 )
+            {
+                COffHeapStatistic.heapsort( p_values, l_from, l_to );
+                return;
+            }
+
+            // median of three pivot, the smaller partition is sorted recursively
+            final int l_middle = ( l_from + l_to ) >>> 1;
+            final double l_pivot = COffHeapStatistic.median( p_values.get( l_from ), p_values.get( l_middle ), p_values.get( l_to - 1 ) );
+
+            int l_left = l_from;
+            int l_right = l_to - 1;
+            while ( l_left <= l_right )
+            {
+                while ( p_values.get( l_left ) < l_pivot )
+                    l_left++;
+                while ( p_values.get( l_right ) > l_pivot )
+                    l_right--;
+                if ( l_left <= l_right )
+                    COffHeapStatistic.swap( p_values, l_left++, l_right-- );
+            }
+
+            if ( l_right + 1 - l_from < l_to - l_left )
+            {
+                COffHeapStatistic.sort( p_values, l_from, l_right + 1, l_depth );
+                l_from = l_left;
+            }
+            else
+            {
+                COffHeapStatistic.sort( p_values, l_left, l_to, l_depth );
+                l_to = l_right + 1;
+            }
+        }
+
+        for ( int i = l_from + 1; i < l_to; i++ )
+        {
+            final double l_value = p_values.get( i );
+            int j = i - 1;
+            for ( ; j >= l_from && p_values.get( j ) > l_value; j-- )
+                p_values.put( j + 1, p_values.get( j ) );
+            p_values.put( j + 1, l_value );
+        }
+    }
+
+    /**
+     * sorts a range of a buffer in place with heapsort
+     *
+     * @param p_values buffer
+     * @param p_from first index
+     * @param p_to index after the last value
+     */
+    private static void heapsort( @Nonnull final DoubleBuffer p_values, final int p_from, final int p_to )
+    {
+        final int l_length = p_to - p_from;
+        for ( int i = l_length / 2 - 1; i >= 0; i-- )
+            COffHeapStatistic.siftdown( p_values, p_from, i, l_length );
+
+        for ( int i = l_length - 1; i > 0; i-- )
+        {
+            COffHeapStatistic.swap( p_values, p_from, p_from + i );
+            COffHeapStatistic.siftdown( p_values, p_from, 0, i );
+        }
+    }
+
+    /**
+     * moves a value of a max-heap down
+     *
+     * @param p_values buffer
+     * @param p_offset index of the heap root
+     * @param p_index heap index of the value
+     * @param p_length heap length
+     */
+    private static void siftdown( @Nonnull final DoubleBuffer p_values, final int p_offset, final int p_index, final int p_length )
+    {
+        int l_index = p_index;
+        while ( 2 * l_index + 1 < p_length )
+        {
+            int l_child = 2 * l_index + 1;
+            if ( l_child + 1 < p_length && p_values.get( p_offset + l_child + 1 ) > p_values.get( p_offset + l_child ) )
+                l_child++;
+            if ( p_values.get( p_offset + l_index ) >= p_values.get( p_offset + l_child ) )
+                return;
+
+            COffHeapStatistic.swap( p_values, p_offset + l_index, p_offset + l_child );
+            l_index = l_child;
+        }
+    }
+
+    /**
+     * median of three values
+     *
+     * @param p_first first value
+     * @param p_second second value
+     * @param p_third third value
+     * @return median
+     */
+    private static double median( final double p_first, final double p_second, final double p_third )
+    {
+        return Math.max( Math.min( p_first, p_second ), Math.min( Math.max( p_first, p_second ), p_third ) );
+    }
+
+    /**
+     * swaps two values of a buffer
+     *
+     * @param p_values buffer
+     * @param p_first first index
+     * @param p_second second index
+     */
+    private static void swap( @Nonnull final DoubleBuffer p_values, final int p_first, final int p_second )
+    {
+        final double l_value = p_values.get( p_first );
+        p_values.put( p_first, p_values.get( p_second ) );
+        p_values.put( p_second, l_value );
+    }
+}
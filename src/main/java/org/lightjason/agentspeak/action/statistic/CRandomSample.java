@@ -23,6 +23,7 @@
 
 package org.lightjason.agentspeak.action.statistic;
 
+import org.apache.commons.math3.distribution.AbstractIntegerDistribution;
 import org.apache.commons.math3.distribution.AbstractRealDistribution;
 import org.lightjason.agentspeak.action.IBaseAction;
 import org.lightjason.agentspeak.common.IPath;
@@ -34,10 +35,16 @@ import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 
@@ -46,9 +53,21 @@ import java.util.stream.Stream;
  * The action creates a set or single random value
  * based on a distirbution, the first argument
  * is the distirbution and all other arguments defines
- * the size of the samples
+ * the size of the samples, a string argument "list", "array"
+ * or "buffer" changes the output of the following sizes
+ * to a list (default), a primitive double array or an off-heap
+ * double buffer, a double array or double buffer argument is
+ * filled with samples (a buffer from its position up to its limit)
+ * and returned, so large draws can reuse a buffer without boxing,
+ * in parallel a distribution with a splittable generator draws large
+ * samples in blocks with independent generators, samples of multivariate
+ * distributions are returned as vector for a single sample and otherwise
+ * as matrix with a sample in each row (or a buffer row by row),
+ * samples of discrete distributions are integer values, which are returned as
+ * integer list, primitive int array or int buffer, an int array, long array
+ * or int buffer argument is filled with samples
  *
- * {@code [R1|R2] = math/statistic/randomsample( Distribution, 1, 5 );}
+ * {@code [R1|R2|R3|R4] = math/statistic/randomsample( Distribution, 1, 5, "array", 1000000, DoubleArray );}
  */
 public final class CRandomSample extends IBaseAction
 {
@@ -60,6 +79,10 @@ public final class CRandomSample extends IBaseAction
      * action name
      */
     private static final IPath NAME = namebyclass( CRandomSample.class, "math", "statistic" );
+    /**
+     * number of samples of a parallel block
+     */
+    private static final int BLOCKSIZE = 65536;
 
     @Nonnull
     @Override
@@ -82,38 +105,479 @@ public final class CRandomSample extends IBaseAction
     )
     {
         final List<ITerm> l_arguments = CCommon.flatten( p_argument ).collect( Collectors.toList() );
+        if ( l_arguments.get( 0 ).raw() instanceof IMultivariateDistribution )
+        {
+            CRandomSample.multivariate( l_arguments.get( 0 ).raw(), l_arguments, p_return );
+            return Stream.empty();
+        }
+        if ( l_arguments.get( 0 ).raw() instanceof AbstractIntegerDistribution )
+        {
+            CRandomSample.discrete( l_arguments.get( 0 ).raw(), l_arguments, p_return );
+            return Stream.empty();
+        }
+
+        final AbstractRealDistribution l_distribution = l_arguments.get( 0 ).raw();
+
+        if ( l_arguments.size() < 2 )
+        {
+            p_return.add( EOutput.LIST.apply( l_distribution, 1, p_parallel ) );
+            return Stream.empty();
+        }
+
+        boolean l_size = false;
+        EOutput l_output = EOutput.LIST;
+        for ( int i = 1; i < l_arguments.size(); i++ )
+        {
+            final Object l_value = l_arguments.get( i ).raw();
 
-        (
-            l_arguments.size() < 2
-            ? Stream.of( 1 )
-            : l_arguments.stream()
-                         .skip( 1 )
-                         .map( ITerm::<Number>raw )
-        )
-            .mapToInt( Number::intValue )
-            .mapToObj( i -> CRandomSample.samples( l_arguments.get( 0 ).<AbstractRealDistribution>raw(), i, p_parallel ) )
-            .forEach( p_return::add );
+            if ( l_value instanceof String )
+            {
+                l_output = EOutput.of( (String) l_value );
+                continue;
+            }
+
+            l_size = true;
+            if ( l_value instanceof double[] )
+                p_return.add( CRawTerm.of( CRandomSample.fill( l_distribution, (double[]) l_value, p_parallel ) ) );
+            else if ( l_value instanceof DoubleBuffer )
+                p_return.add( CRawTerm.of( CRandomSample.fill( l_distribution, (DoubleBuffer) l_value, p_parallel ) ) );
+            else
+                p_return.add( l_output.apply( l_distribution, ( (Number) l_value ).intValue(), p_parallel ) );
+        }
+
+        // only an output definition creates a single sample
+        if ( !l_size )
+            p_return.add( l_output.apply( l_distribution, 1, p_parallel ) );
 
         return Stream.empty();
     }
 
     /**
-     * creates the sample structure
+     * draws samples of a multivariate distribution
+     *
+     * @param p_distribution distribution object
+     * @param p_arguments flat arguments
+     * @param p_return return arguments
+     */
+    private static void multivariate( @Nonnull final IMultivariateDistribution p_distribution, @Nonnull final List<ITerm> p_arguments,
+                                      @Nonnull final List<ITerm> p_return )
+    {
+        boolean l_size = false;
+        EOutput l_output = EOutput.LIST;
+        for ( int i = 1; i < p_arguments.size(); i++ )
+        {
+            final Object l_value = p_arguments.get( i ).raw();
+
+            if ( l_value instanceof String )
+            {
+                l_output = EOutput.of( (String) l_value );
+                continue;
+            }
+
+            l_size = true;
+            if ( l_value instanceof double[][] )
+                p_return.add( CRawTerm.of( CRandomSample.fill( p_distribution, (double[][]) l_value ) ) );
+            else if ( l_value instanceof double[] )
+                p_return.add( CRawTerm.of( CRandomSample.fill( p_distribution, (double[]) l_value ) ) );
+            else if ( l_value instanceof DoubleBuffer )
+                p_return.add( CRawTerm.of( CRandomSample.fill( p_distribution, (DoubleBuffer) l_value ) ) );
+            else
+                p_return.add( l_output.apply( p_distribution, ( (Number) l_value ).intValue() ) );
+        }
+
+        if ( !l_size )
+            p_return.add( l_output.apply( p_distribution, 1 ) );
+    }
+
+    /**
+     * draws samples of a discrete distribution
      *
      * @param p_distribution distribution object
-     * @param p_size size of the returned values
+     * @param p_arguments flat arguments
+     * @param p_return return arguments
+     */
+    private static void discrete( @Nonnull final AbstractIntegerDistribution p_distribution, @Nonnull final List<ITerm> p_arguments,
+                                  @Nonnull final List<ITerm> p_return )
+    {
+        boolean l_size = false;
+        EOutput l_output = EOutput.LIST;
+        for ( int i = 1; i < p_arguments.size(); i++ )
+        {
+            final Object l_value = p_arguments.get( i ).raw();
+
+            if ( l_value instanceof String )
+            {
+                l_output = EOutput.of( (String) l_value );
+                continue;
+            }
+
+            l_size = true;
+            if ( l_value instanceof int[] )
+                p_return.add( CRawTerm.of( CRandomSample.fill( p_distribution, (int[]) l_value ) ) );
+            else if ( l_value instanceof long[] )
+                p_return.add( CRawTerm.of( CRandomSample.fill( p_distribution, (long[]) l_value ) ) );
+            else if ( l_value instanceof IntBuffer )
+                p_return.add( CRawTerm.of( CRandomSample.fill( p_distribution, (IntBuffer) l_value ) ) );
+            else
+                p_return.add( l_output.apply( p_distribution, ( (Number) l_value ).intValue() ) );
+        }
+
+        if ( !l_size )
+            p_return.add( l_output.apply( p_distribution, 1 ) );
+    }
+
+    /**
+     * fills an int array with samples
+     *
+     * @param p_distribution distribution object
+     * @param p_values array
+     * @return filled array
+     */
+    @Nonnull
+    private static int[] fill( @Nonnull final AbstractIntegerDistribution p_distribution, @Nonnull final int[] p_values )
+    {
+        for ( int i = 0; i < p_values.length; i++ )
+            p_values[i] = p_distribution.sample();
+        return p_values;
+    }
+
+    /**
+     * fills a long array with samples
+     *
+     * @param p_distribution distribution object
+     * @param p_values array
+     * @return filled array
+     */
+    @Nonnull
+    private static long[] fill( @Nonnull final AbstractIntegerDistribution p_distribution, @Nonnull final long[] p_values )
+    {
+        for ( int i = 0; i < p_values.length; i++ )
+            p_values[i] = p_distribution.sample();
+        return p_values;
+    }
+
+    /**
+     * fills an int buffer from the position up to the limit with samples
+     *
+     * @param p_distribution distribution object
+     * @param p_values buffer
+     * @return filled buffer
+     */
+    @Nonnull
+    private static IntBuffer fill( @Nonnull final AbstractIntegerDistribution p_distribution, @Nonnull final IntBuffer p_values )
+    {
+        for ( int i = p_values.position(); i < p_values.limit(); i++ )
+            p_values.put( i, p_distribution.sample() );
+        return p_values;
+    }
+
+    /**
+     * fills each row of a matrix with a sample
+     *
+     * @param p_distribution distribution object
+     * @param p_values matrix
+     * @return filled matrix
+     */
+    @Nonnull
+    private static double[][] fill( @Nonnull final IMultivariateDistribution p_distribution, @Nonnull final double[][] p_values )
+    {
+        for ( int i = 0; i < p_values.length; i++ )
+            p_distribution.sample( p_values[i], 0 );
+        return p_values;
+    }
+
+    /**
+     * fills an array row by row with samples, a remainder
+     * smaller than the dimension is not changed
+     *
+     * @param p_distribution distribution object
+     * @param p_values array
+     * @return filled array
+     */
+    @Nonnull
+    private static double[] fill( @Nonnull final IMultivariateDistribution p_distribution, @Nonnull final double[] p_values )
+    {
+        final int l_dimension = p_distribution.getDimension();
+        for ( int i = 0; i + l_dimension <= p_values.length; i += l_dimension )
+            p_distribution.sample( p_values, i );
+        return p_values;
+    }
+
+    /**
+     * fills a buffer from the position up to the limit row by row with samples,
+     * a remainder smaller than the dimension is not changed
+     *
+     * @param p_distribution distribution object
+     * @param p_values buffer
+     * @return filled buffer
+     */
+    @Nonnull
+    private static DoubleBuffer fill( @Nonnull final IMultivariateDistribution p_distribution, @Nonnull final DoubleBuffer p_values )
+    {
+        final double[] l_sample = new double[p_distribution.getDimension()];
+        for ( int i = p_values.position(); i + l_sample.length <= p_values.limit(); i += l_sample.length )
+        {
+            p_distribution.sample( l_sample, 0 );
+            for ( int j = 0; j < l_sample.length; j++ )
+                p_values.put( i + j, l_sample[j] );
+        }
+        return p_values;
+    }
+
+    /**
+     * draws samples
+     *
+     * @param p_distribution distribution object
+     * @param p_size number of samples
+     * @param p_parallel parallel flag
+     * @return samples
+     */
+    @Nonnull
+    private static double[] sample( @Nonnull final AbstractRealDistribution p_distribution, final int p_size, final boolean p_parallel )
+    {
+        return CRandomSample.splittable( p_distribution, p_size, p_parallel )
+               ? CRandomSample.fill( p_distribution, new double[p_size], true )
+               : p_distribution.sample( p_size );
+    }
+
+    /**
+     * fills an array with samples
+     *
+     * @param p_distribution distribution object
+     * @param p_values array
+     * @param p_parallel parallel flag
+     * @return filled array
+     */
+    @Nonnull
+    private static double[] fill( @Nonnull final AbstractRealDistribution p_distribution, @Nonnull final double[] p_values,
+                                  final boolean p_parallel )
+    {
+        if ( !CRandomSample.splittable( p_distribution, p_values.length, p_parallel ) )
+        {
+            for ( int i = 0; i < p_values.length; i++ )
+                p_values[i] = p_distribution.sample();
+            return p_values;
+        }
+
+        final CSplittableDistribution[] l_distributions = CRandomSample.split( (CSplittableDistribution) p_distribution, p_values.length );
+        IntStream.range( 0, l_distributions.length )
+                 .parallel()
+                 .forEach( i ->
+                 {
+                     final int l_end = Math.min( p_values.length, ( i + 1 ) * BLOCKSIZE );
+                     for ( int j = i * BLOCKSIZE; j < l_end; j++ )
+                         p_values[j] = l_distributions[i].sample();
+                 } );
+
+        return p_values;
+    }
+
+    /**
+     * fills a buffer from the position up to the limit with samples
+     *
+     * @param p_distribution distribution object
+     * @param p_values buffer
+     * @param p_parallel parallel flag
+     * @return filled buffer
+     */
+    @Nonnull
+    private static DoubleBuffer fill( @Nonnull final AbstractRealDistribution p_distribution, @Nonnull final DoubleBuffer p_values,
+                                      final boolean p_parallel )
+    {
+        final int l_position = p_values.position();
+        final int l_size = p_values.limit() - l_position;
+
+        if ( !CRandomSample.splittable( p_distribution, l_size, p_parallel ) )
+        {
+            for ( int i = l_position; i < p_values.limit(); i++ )
+                p_values.put( i, p_distribution.sample() );
+            return p_values;
+        }
+
+        // absolute puts do not change the buffer state, so disjoint blocks can be written concurrently
+        final CSplittableDistribution[] l_distributions = CRandomSample.split( (CSplittableDistribution) p_distribution, l_size );
+        IntStream.range( 0, l_distributions.length )
+                 .parallel()
+                 .forEach( i ->
+                 {
+                     final int l_end = l_position + Math.min( l_size, ( i + 1 ) * BLOCKSIZE );
+                     for ( int j = l_position + i * BLOCKSIZE; j < l_end; j++ )
+                         p_values.put( j, l_distributions[i].sample() );
+                 } );
+
+        return p_values;
+    }
+
+    /**
+     * checks if samples are drawn in parallel blocks
+     *
+     * @param p_distribution distribution object
+     * @param p_size number of samples
      * @param p_parallel parallel flag
-     * @return term with data
+     * @return parallel drawing
+     */
+    private static boolean splittable( @Nonnull final AbstractRealDistribution p_distribution, final int p_size, final boolean p_parallel )
+    {
+        return p_parallel && p_size > BLOCKSIZE && p_distribution instanceof CSplittableDistribution;
+    }
+
+    /**
+     * splits a distribution for each block, the number of blocks depends
+     * only on the size, so a seed results in the same samples on any number of cores
+     *
+     * @param p_distribution distribution object
+     * @param p_size number of samples
+     * @return distribution for each block
      */
     @Nonnull
-    private static ITerm samples( @Nonnull final AbstractRealDistribution p_distribution, final int p_size, final boolean p_parallel )
+    private static CSplittableDistribution[] split( @Nonnull final CSplittableDistribution p_distribution, final int p_size )
+    {
+        final CSplittableDistribution[] l_distributions = new CSplittableDistribution[( p_size + BLOCKSIZE - 1 ) / BLOCKSIZE];
+        for ( int i = 0; i < l_distributions.length; i++ )
+            l_distributions[i] = p_distribution.split();
+        return l_distributions;
+    }
+
+
+    /**
+     * output structure
+     */
+    private enum EOutput
     {
-        if ( p_size < 2 )
-            return CRawTerm.of( p_distribution.sample() );
+        LIST
+        {
+            @Nonnull
+            @Override
+            public ITerm apply( @Nonnull final IMultivariateDistribution p_distribution, final int p_size )
+            {
+                return p_size < 2
+                       ? CRawTerm.of( CRandomSample.fill( p_distribution, new double[p_distribution.getDimension()] ) )
+                       : ARRAY.apply( p_distribution, p_size );
+            }
+
+            @Nonnull
+            @Override
+            public ITerm apply( @Nonnull final AbstractIntegerDistribution p_distribution, final int p_size )
+            {
+                return p_size < 2
+                       ? CRawTerm.of( p_distribution.sample() )
+                       : CRawTerm.of( Arrays.stream( p_distribution.sample( p_size ) ).boxed().collect( Collectors.toList() ) );
+            }
+
+            @Nonnull
+            @Override
+            public ITerm apply( @Nonnull final AbstractRealDistribution p_distribution, final int p_size, final boolean p_parallel )
+            {
+                if ( p_size < 2 )
+                    return CRawTerm.of( p_distribution.sample() );
+
+                final List<Double> l_list = Arrays.stream( CRandomSample.sample( p_distribution, p_size, p_parallel ) ).boxed().collect( Collectors.toList() );
+                return CRawTerm.of( p_parallel ? Collections.synchronizedList( l_list ) : l_list );
+            }
+        },
+        ARRAY
+        {
+            @Nonnull
+            @Override
+            public ITerm apply( @Nonnull final IMultivariateDistribution p_distribution, final int p_size )
+            {
+                return CRawTerm.of( CRandomSample.fill( p_distribution, new double[Math.max( 1, p_size )][p_distribution.getDimension()] ) );
+            }
+
+            @Nonnull
+            @Override
+            public ITerm apply( @Nonnull final AbstractIntegerDistribution p_distribution, final int p_size )
+            {
+                return CRawTerm.of( CRandomSample.fill( p_distribution, new int[Math.max( 1, p_size )] ) );
+            }
+
+            @Nonnull
+            @Override
+            public ITerm apply( @Nonnull final AbstractRealDistribution p_distribution, final int p_size, final boolean p_parallel )
+            {
+                return CRawTerm.of( CRandomSample.sample( p_distribution, Math.max( 1, p_size ), p_parallel ) );
+            }
+        },
+        BUFFER
+        {
+            @Nonnull
+            @Override
+            public ITerm apply( @Nonnull final IMultivariateDistribution p_distribution, final int p_size )
+            {
+                return CRawTerm.of( CRandomSample.fill(
+                    p_distribution,
+                    ByteBuffer.allocateDirect( Math.max( 1, p_size ) * p_distribution.getDimension() * Double.BYTES )
+                              .order( ByteOrder.nativeOrder() )
+                              .asDoubleBuffer()
+                ) );
+            }
+
+            @Nonnull
+            @Override
+            public ITerm apply( @Nonnull final AbstractIntegerDistribution p_distribution, final int p_size )
+            {
+                return CRawTerm.of( CRandomSample.fill(
+                    p_distribution,
+                    ByteBuffer.allocateDirect( Math.max( 1, p_size ) * Integer.BYTES ).order( ByteOrder.nativeOrder() ).asIntBuffer()
+                ) );
+            }
+
+            @Nonnull
+            @Override
+            public ITerm apply( @Nonnull final AbstractRealDistribution p_distribution, final int p_size, final boolean p_parallel )
+            {
+                return CRawTerm.of( CRandomSample.fill(
+                    p_distribution,
+                    ByteBuffer.allocateDirect( Math.max( 1, p_size ) * Double.BYTES ).order( ByteOrder.nativeOrder() ).asDoubleBuffer(),
+                    p_parallel
+                ) );
+            }
+        };
+
+        /**
+         * additional factory
+         *
+         * @param p_value string
+         * @return enum
+         */
+        @Nonnull
+        public static EOutput of( @Nonnull final String p_value )
+        {
+            return EOutput.valueOf( p_value.trim().toUpperCase( Locale.ROOT ) );
+        }
+
+        /**
+         * creates the sample structure
+         *
+         * @param p_distribution distribution object
+         * @param p_size size of the returned values
+         * @param p_parallel parallel flag
+         * @return term with data
+         */
+        @Nonnull
+        public abstract ITerm apply( @Nonnull final AbstractRealDistribution p_distribution, final int p_size, final boolean p_parallel );
 
-        final List<Double> l_list = Arrays.stream( p_distribution.sample( p_size ) ).boxed().collect( Collectors.toList() );
-        return CRawTerm.of( p_parallel ? Collections.synchronizedList( l_list ) : l_list );
+        /**
+         * creates the sample structure of a multivariate distribution,
+         * a matrix contains a sample in each row, a buffer contains the
+         * samples row by row
+         *
+         * @param p_distribution distribution object
+         * @param p_size number of samples
+         * @return term with data
+         */
+        @Nonnull
+        public abstract ITerm apply( @Nonnull final IMultivariateDistribution p_distribution, final int p_size );
 
+        /**
+         * creates the sample structure of a discrete distribution
+         *
+         * @param p_distribution distribution object
+         * @param p_size number of samples
+         * @return term with data
+         */
+        @Nonnull
+        public abstract ITerm apply( @Nonnull final AbstractIntegerDistribution p_distribution, final int p_size );
     }
 
 }
@@ -0,0 +1,106 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.statistic;
+
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * action to save statistic objects.
+ * The action writes statistic objects into a binary file, the first
+ * argument is the file name, all other arguments are statistic objects,
+ * summary statistics are stored with their moments, descriptive statistics
+ * with the values of the window and the tdigest with its centroids, an
+ * existing file is replaced after all data are written
+ *
+ * {@code .math/statistic/savestatistic( "checkpoint.bin", Statistic1, [Statistic2, [Statistic3]] );}
+ *
+ * @see EStatisticFormat
+ */
+public final class CSaveStatistic extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -3845975507853343722L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CSaveStatistic.class, "math", "statistic" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 2;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return )
+    {
+        final List<ITerm> l_arguments = CCommon.flatten( p_argument ).collect( Collectors.toList() );
+        final String l_file = l_arguments.get( 0 ).raw();
+
+        try
+        {
+            EStatisticFormat.write(
+                Paths.get( l_file ),
+                l_arguments.subList( 1, l_arguments.size() ).stream().map( ITerm::raw ).collect( Collectors.toList() )
+            );
+        }
+        catch ( final IOException | IllegalArgumentException l_exception )
+        {
+            throw new CExecutionIllegealArgumentException(
+                p_context,
+                org.lightjason.agentspeak.common.CCommon.languagestring( this, "ioerror", l_file, l_exception.getMessage() )
+            );
+        }
+
+        return Stream.empty();
+    }
+
+}
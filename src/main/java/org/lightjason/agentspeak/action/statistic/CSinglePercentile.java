@@ -35,14 +35,14 @@ import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 
 import javax.annotation.Nonnull;
 import java.util.List;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 
 /**
  * returns for any static object a percentile value.
  * The actions reutnrs for any statistic value the
- * given percentile value
+ * given percentile value, statistic objects must be descriptive
+ * statistics or percentile estimating statistics
  *
  * {@code [V1|V2|V3] = .math/statistic/multiplepercentile( 2, Statistic1, [Statistic2, Statistic3] );}
  */
@@ -76,18 +76,29 @@ public final class CSinglePercentile extends IBaseAction
                                            @Nonnull final List<ITerm> p_return
     )
     {
-        final List<ITerm> l_arguments = CCommon.flatten( p_argument ).collect( Collectors.toList() );
+        final List<ITerm> l_arguments = CArgument.flatten( p_argument );
         if ( l_arguments.size() < 2 )
             throw new CExecutionIllegealArgumentException( p_context, org.lightjason.agentspeak.common.CCommon.languagestring( this, "wrongargumentnumber" ) );
 
         final double l_value = l_arguments.get( 0 ).<Number>raw().doubleValue();
-        l_arguments.stream()
-                   .skip( 1 )
-                   .mapToDouble( i -> i.<DescriptiveStatistics>raw().getPercentile( l_value ) )
-                   .mapToObj( CRawTerm::of )
-                   .forEach( p_return::add );
+        for ( int i = 1; i < l_arguments.size(); i++ )
+            p_return.add( CRawTerm.of( CSinglePercentile.percentile( l_arguments.get( i ), l_value ) ) );
 
         return Stream.empty();
     }
 
+    /**
+     * returns the percentile of a statistic
+     *
+     * @param p_statistic statistic term
+     * @param p_percentile percentile value
+     * @return percentile
+     */
+    private static double percentile( @Nonnull final ITerm p_statistic, final double p_percentile )
+    {
+        return CCommon.isssignableto( p_statistic, IPercentile.class )
+               ? p_statistic.<IPercentile>raw().getPercentile( p_percentile )
+               : p_statistic.<DescriptiveStatistics>raw().getPercentile( p_percentile );
+    }
+
 }
@@ -23,11 +23,8 @@
 
 package org.lightjason.agentspeak.action.statistic;
 
-import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
-import org.apache.commons.math3.stat.descriptive.SummaryStatistics;
 import org.lightjason.agentspeak.action.IBaseAction;
 import org.lightjason.agentspeak.common.IPath;
-import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.IContext;
@@ -36,7 +33,6 @@ import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import java.util.List;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 
@@ -77,22 +73,15 @@ public final class CSingleStatisticValue extends IBaseAction
 
     @Nonnull
     @Override
-    @SuppressWarnings( "unchecked" )
     public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
                                            @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
     )
     {
-        final List<ITerm> l_arguments = CCommon.flatten( p_argument ).collect( Collectors.toList() );
+        final List<ITerm> l_arguments = CArgument.flatten( p_argument );
         final EStatisticValue l_value = EStatisticValue.of( l_arguments.get( 0 ).raw() );
 
-        l_arguments.stream()
-                   .skip( 1 )
-                   .mapToDouble( i -> CCommon.isssignableto( i, SummaryStatistics.class )
-                                      ? l_value.value( i.<SummaryStatistics>raw() )
-                                      : l_value.value( i.<DescriptiveStatistics>raw() ) )
-                   .boxed()
-                   .map( CRawTerm::of )
-                   .forEach( p_return::add );
+        for ( int i = 1; i < l_arguments.size(); i++ )
+            p_return.add( CRawTerm.of( l_value.value( l_arguments.get( i ).<Object>raw() ) ) );
 
         return Stream.empty();
     }
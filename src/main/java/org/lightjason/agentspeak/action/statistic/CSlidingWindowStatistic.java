@@ -0,0 +1,386 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.statistic;
+
+import org.apache.commons.math3.exception.NotStrictlyPositiveException;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.io.Serializable;
+
+
+/**
+ * sliding window statistic.
+ * The values of the window are stored within a primitive ring buffer,
+ * sum and sum of squares are updated incrementally with compensated
+ * summation of the shifted values, the shift is moved to the mean and
+ * the sums are recomputed each time the window wraps, minimum and
+ * maximum are stored within monotonic queues, so all values are read
+ * in constant time independent of the window size, the percentile
+ * uses a cached sorted view of the window
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Kahan_summation_algorithm"></a>
+ * @see <a href="https://en.wikipedia.org/wiki/Algorithms_for_calculating_variance#Computing_shifted_data"></a>
+ */
+public final class CSlidingWindowStatistic implements IStatistic, IPercentile, Serializable
+{
+    /**
+     * default window size
+     */
+    public static final int DEFAULTWINDOW = 100;
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -1425370616000522733L;
+    /**
+     * ring buffer
+     */
+    private final double[] m_values;
+    /**
+     * sequence numbers of the maximum queue
+     */
+    private final long[] m_maxqueue;
+    /**
+     * sequence numbers of the minimum queue
+     */
+    private final long[] m_minqueue;
+    /**
+     * head of the maximum queue
+     */
+    private int m_maxhead;
+    /**
+     * size of the maximum queue
+     */
+    private int m_maxsize;
+    /**
+     * head of the minimum queue
+     */
+    private int m_minhead;
+    /**
+     * size of the minimum queue
+     */
+    private int m_minsize;
+    /**
+     * sequence number of the next value
+     */
+    private long m_sequence;
+    /**
+     * shift value
+     */
+    private double m_shift;
+    /**
+     * shifted sum
+     */
+    private double m_sum;
+    /**
+     * compensation of the shifted sum
+     */
+    private double m_sumcompensation;
+    /**
+     * shifted sum of squares
+     */
+    private double m_sumsquare;
+    /**
+     * compensation of the shifted sum of squares
+     */
+    private double m_sumsquarecompensation;
+    /**
+     * cached sorted view of the window
+     */
+    private final CSortedCache m_cache = new CSortedCache();
+
+    /**
+     * ctor
+     */
+    public CSlidingWindowStatistic()
+    {
+        this( DEFAULTWINDOW );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_window window size
+     */
+    public CSlidingWindowStatistic( @Nonnegative final int p_window )
+    {
+        if ( p_window <= 0 )
+            throw new NotStrictlyPositiveException( p_window );
+
+        m_values = new double[p_window];
+        m_maxqueue = new long[p_window];
+        m_minqueue = new long[p_window];
+    }
+
+    /**
+     * returns the window size
+     *
+     * @return window size
+     */
+    public int window()
+    {
+        return m_values.length;
+    }
+
+    @Override
+    public synchronized void addValue( final double p_value )
+    {
+        if ( m_sequence == 0 )
+            m_shift = p_value;
+
+        // remove the oldest value if the window is full
+        if ( m_sequence >= m_values.length )
+        {
+            final double l_old = m_values[this.index( m_sequence )] - m_shift;
+            this.sum( -l_old );
+            this.sumsquare( -l_old * l_old );
+
+            final long l_oldest = m_sequence - m_values.length;
+            if ( m_maxsize > 0 && m_maxqueue[m_maxhead] == l_oldest )
+            {
+                m_maxhead = this.next( m_maxhead );
+                m_maxsize--;
+            }
+            if ( m_minsize > 0 && m_minqueue[m_minhead] == l_oldest )
+            {
+                m_minhead = this.next( m_minhead );
+                m_minsize--;
+            }
+        }
+
+        m_values[this.index( m_sequence )] = p_value;
+        final double l_shifted = p_value - m_shift;
+        this.sum( l_shifted );
+        this.sumsquare( l_shifted * l_shifted );
+
+        // monotonic queues, maximum queue is decreasing, minimum queue is increasing
+        while ( m_maxsize > 0 && m_values[this.index( m_maxqueue[this.tail( m_maxhead, m_maxsize )] )] <= p_value )
+            m_maxsize--;
+        m_maxqueue[this.position( m_maxhead, m_maxsize++ )] = m_sequence;
+
+        while ( m_minsize > 0 && m_values[this.index( m_minqueue[this.tail( m_minhead, m_minsize )] )] >= p_value )
+            m_minsize--;
+        m_minqueue[this.position( m_minhead, m_minsize++ )] = m_sequence;
+
+        m_sequence++;
+        m_cache.modify();
+
+        // the shift follows drifting values, so it is moved each time the window wraps
+        if ( this.index( m_sequence ) == 0 )
+            this.recenter();
+    }
+
+    @Override
+    public synchronized void clear()
+    {
+        m_sequence = 0;
+        m_shift = 0;
+        m_sum = 0;
+        m_sumcompensation = 0;
+        m_sumsquare = 0;
+        m_sumsquarecompensation = 0;
+        m_maxhead = 0;
+        m_maxsize = 0;
+        m_minhead = 0;
+        m_minsize = 0;
+        m_cache.modify();
+    }
+
+    @Override
+    public synchronized double getMean()
+    {
+        final long l_count = this.count();
+        return l_count == 0 ? Double.NaN : m_shift + ( m_sum + m_sumcompensation ) / l_count;
+    }
+
+    @Override
+    public synchronized double getVariance()
+    {
+        final long l_count = this.count();
+        if ( l_count == 0 )
+            return Double.NaN;
+        if ( l_count == 1 )
+            return 0;
+
+        final double l_sum = m_sum + m_sumcompensation;
+        return Math.max( 0, ( m_sumsquare + m_sumsquarecompensation - l_sum * l_sum / l_count ) / ( l_count - 1 ) );
+    }
+
+    @Override
+    public double getStandardDeviation()
+    {
+        return Math.sqrt( this.getVariance() );
+    }
+
+    @Override
+    public synchronized double getMax()
+    {
+        return m_maxsize == 0 ? Double.NaN : m_values[this.index( m_maxqueue[m_maxhead] )];
+    }
+
+    @Override
+    public synchronized double getMin()
+    {
+        return m_minsize == 0 ? Double.NaN : m_values[this.index( m_minqueue[m_minhead] )];
+    }
+
+    @Override
+    public synchronized long getN()
+    {
+        return this.count();
+    }
+
+    @Override
+    public synchronized double getSum()
+    {
+        return m_shift * this.count() + m_sum + m_sumcompensation;
+    }
+
+    @Override
+    public synchronized double getPercentile( final double p_percentile )
+    {
+        return CSortedCache.percentile( m_cache.sorted( this::values ), p_percentile );
+    }
+
+    /**
+     * returns the values of the window from the oldest to the newest value
+     *
+     * @return values
+     */
+    @Nonnull
+    public synchronized double[] values()
+    {
+        final int l_count = (int) this.count();
+        final double[] l_values = new double[l_count];
+        for ( int i = 0; i < l_count; i++ )
+            l_values[i] = m_values[this.index( m_sequence - l_count + i )];
+        return l_values;
+    }
+
+    /**
+     * number of values within the window
+     *
+     * @return count
+     */
+    private long count()
+    {
+        return Math.min( m_sequence, m_values.length );
+    }
+
+    /**
+     * ring buffer index of a sequence number
+     *
+     * @param p_sequence sequence number
+     * @return index
+     */
+    private int index( final long p_sequence )
+    {
+        return (int) ( p_sequence % m_values.length );
+    }
+
+    /**
+     * next queue position
+     *
+     * @param p_position position
+     * @return next position
+     */
+    private int next( final int p_position )
+    {
+        return p_position + 1 == m_values.length ? 0 : p_position + 1;
+    }
+
+    /**
+     * queue position with an offset of the head
+     *
+     * @param p_head head
+     * @param p_offset offset
+     * @return position
+     */
+    private int position( final int p_head, final int p_offset )
+    {
+        return ( p_head + p_offset ) % m_values.length;
+    }
+
+    /**
+     * last queue position
+     *
+     * @param p_head head
+     * @param p_size queue size
+     * @return position
+     */
+    private int tail( final int p_head, final int p_size )
+    {
+        return this.position( p_head, p_size - 1 );
+    }
+
+    /**
+     * moves the shift to the mean of the window
+     * and recomputes the shifted sums of the window
+     */
+    private void recenter()
+    {
+        final int l_count = (int) this.count();
+        final double l_mean = m_shift + ( m_sum + m_sumcompensation ) / l_count;
+        m_shift = Double.isFinite( l_mean ) ? l_mean : m_values[this.index( m_sequence - 1 )];
+        m_sum = 0;
+        m_sumcompensation = 0;
+        m_sumsquare = 0;
+        m_sumsquarecompensation = 0;
+
+        for ( int i = 0; i < l_count; i++ )
+        {
+            final double l_shifted = m_values[i] - m_shift;
+            this.sum( l_shifted );
+            this.sumsquare( l_shifted * l_shifted );
+        }
+    }
+
+    /**
+     * Neumaier summation of the shifted sum
+     *
+     * @param p_value value
+     */
+    private void sum( final double p_value )
+    {
+        final double l_sum = m_sum + p_value;
+        m_sumcompensation += Math.abs( m_sum ) >= Math.abs( p_value )
+                             ? ( m_sum - l_sum ) + p_value
+                             : ( p_value - l_sum ) + m_sum;
+        m_sum = l_sum;
+    }
+
+    /**
+     * Neumaier summation of the shifted sum of squares
+     *
+     * @param p_value value
+     */
+    private void sumsquare( final double p_value )
+    {
+        final double l_sum = m_sumsquare + p_value;
+        m_sumsquarecompensation += Math.abs( m_sumsquare ) >= Math.abs( p_value )
+                                   ? ( m_sumsquare - l_sum ) + p_value
+                                   : ( p_value - l_sum ) + m_sumsquare;
+        m_sumsquare = l_sum;
+    }
+}
@@ -0,0 +1,332 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.statistic;
+
+import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * gets a snapshot of multiple statistic values.
+ * The action returns for each statistic object a map with
+ * the statistic value names and values, all string arguments are
+ * the statistic value names (geometricmean, max, min, count, populationvariance,
+ * quadraticmean, secondmoment, standarddeviation, sum, sumlog, sumsquare,
+ * variance, mean, kurtiosis), all other arguments are statistic objects,
+ * the names are resolved once and the values of a descriptive statistic
+ * are calculated within a single traversal of the stored values
+ *
+ * {@code [M1|M2] = .math/statistic/snapshotstatistic( Statistic1, Statistic2, "mean", "variance", "kurtiosis" );}
+ */
+public final class CSnapshotStatistic extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 352779638086056989L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CSnapshotStatistic.class, "math", "statistic" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 2;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final List<ITerm> l_arguments = CCommon.flatten( p_argument ).collect( Collectors.toList() );
+        final List<EStatisticValue> l_values = new ArrayList<>( l_arguments.size() );
+        final List<Object> l_statistics = new ArrayList<>( l_arguments.size() );
+
+        for ( int i = 0; i < l_arguments.size(); i++ )
+        {
+            final Object l_value = l_arguments.get( i ).raw();
+            if ( l_value instanceof String )
+                l_values.add( EStatisticValue.of( (String) l_value ) );
+            else
+                l_statistics.add( l_value );
+        }
+
+        final EStatisticValue[] l_names = l_values.toArray( new EStatisticValue[0] );
+        for ( int i = 0; i < l_statistics.size(); i++ )
+        {
+            final Map<String, Double> l_snapshot = CSnapshotStatistic.snapshot( l_statistics.get( i ), l_names );
+            p_return.add( CRawTerm.of( p_parallel ? Collections.synchronizedMap( l_snapshot ) : l_snapshot ) );
+        }
+
+        return Stream.empty();
+    }
+
+    /**
+     * creates the snapshot of a statistic
+     *
+     * @param p_statistic statistic object
+     * @param p_values statistic values
+     * @return map with value names and values
+     */
+    @Nonnull
+    private static Map<String, Double> snapshot( @Nonnull final Object p_statistic, @Nonnull final EStatisticValue[] p_values )
+    {
+        final Map<String, Double> l_snapshot = new LinkedHashMap<>();
+
+        if ( p_statistic instanceof DescriptiveStatistics )
+        {
+            final CMoments l_moments = new CMoments( (DescriptiveStatistics) p_statistic );
+            for ( final EStatisticValue i : p_values )
+                l_snapshot.put( CSnapshotStatistic.name( i ), l_moments.value( i, (DescriptiveStatistics) p_statistic ) );
+        }
+        else
+            for ( final EStatisticValue i : p_values )
+                l_snapshot.put( CSnapshotStatistic.name( i ), i.accessor( p_statistic.getClass() ).applyAsDouble( p_statistic ) );
+
+        return l_snapshot;
+    }
+
+    /**
+     * returns the name of a statistic value
+     *
+     * @param p_value statistic value
+     * @return lower-case name
+     */
+    @Nonnull
+    private static String name( @Nonnull final EStatisticValue p_value )
+    {
+        return p_value.name().toLowerCase( Locale.ROOT );
+    }
+
+
+    /**
+     * moments of a descriptive statistic, which are
+     * calculated within a single traversal with the
+     * numerically stable update of the central moments
+     */
+    private static final class CMoments
+    {
+        /**
+         * number of values
+         */
+        private long m_count;
+        /**
+         * minimum
+         */
+        private double m_min = Double.NaN;
+        /**
+         * maximum
+         */
+        private double m_max = Double.NaN;
+        /**
+         * sum
+         */
+        private double m_sum;
+        /**
+         * sum of squares
+         */
+        private double m_sumsquare;
+        /**
+         * sum of logarithms
+         */
+        private double m_sumlog;
+        /**
+         * mean
+         */
+        private double m_mean;
+        /**
+         * sum of the squared deviations of the mean
+         */
+        private double m_second;
+        /**
+         * sum of the cubed deviations of the mean
+         */
+        private double m_third;
+        /**
+         * sum of the fourth power deviations of the mean
+         */
+        private double m_fourth;
+
+        /**
+         * ctor
+         *
+         * @param p_statistic descriptive statistic
+         */
+        CMoments( @Nonnull final DescriptiveStatistics p_statistic )
+        {
+            // a synchronized statistic locks each access on the object itself, so the traversal locks once
+            synchronized ( p_statistic )
+            {
+                final long l_size = p_statistic.getN();
+                for ( int i = 0; i < l_size; i++ )
+                    this.add( p_statistic.getElement( i ) );
+            }
+        }
+
+        /**
+         * adds a value
+         *
+         * @param p_value value
+         */
+        private void add( final double p_value )
+        {
+            if ( p_value < m_min || Double.isNaN( m_min ) )
+                m_min = p_value;
+            if ( p_value > m_max || Double.isNaN( m_max ) )
+                m_max = p_value;
+            m_sum += p_value;
+            m_sumsquare += p_value * p_value;
+            m_sumlog += Math.log( p_value );
+
+            final double l_count = m_count;
+            m_count++;
+
+            final double l_delta = p_value - m_mean;
+            final double l_deltacount = l_delta / m_count;
+            final double l_deltacountsquare = l_deltacount * l_deltacount;
+            final double l_term = l_delta * l_deltacount * l_count;
+
+            m_mean += l_deltacount;
+            m_fourth += l_term * l_deltacountsquare * ( m_count * m_count - 3 * m_count + 3 )
+                        + 6 * l_deltacountsquare * m_second - 4 * l_deltacount * m_third;
+            m_third += l_term * l_deltacount * ( m_count - 2 ) - 3 * l_deltacount * m_second;
+            m_second += l_term;
+        }
+
+        /**
+         * returns a statistic value with the same definition
+         * like the descriptive statistic
+         *
+         * @param p_value statistic value
+         * @param p_statistic descriptive statistic for not supported values
+         * @return value
+         */
+        double value( @Nonnull final EStatisticValue p_value, @Nonnull final DescriptiveStatistics p_statistic )
+        {
+            switch ( p_value )
+            {
+                case GEOMETRICMEAN:
+                    return Math.exp( m_sumlog / m_count );
+
+                case MAX:
+                    return m_max;
+
+                case MIN:
+                    return m_min;
+
+                case COUNT:
+                    return m_count;
+
+                case POPULATIONVARIANCE:
+                    return m_count == 0 ? Double.NaN : m_second / m_count;
+
+                case QUADRATICMEAN:
+                    return Math.sqrt( m_sumsquare / m_count );
+
+                case STANDARDDEVIATION:
+                    return Math.sqrt( this.variance() );
+
+                case SUM:
+                    return m_sum;
+
+                case SUMSQUARE:
+                    return m_sumsquare;
+
+                case VARIANCE:
+                    return this.variance();
+
+                case MEAN:
+                    return m_count == 0 ? Double.NaN : m_mean;
+
+                case KURTIOSIS:
+                    return this.kurtosis();
+
+                default:
+                    return p_value.value( p_statistic );
+            }
+        }
+
+        /**
+         * returns the bias-corrected variance
+         *
+         * @return variance
+         */
+        private double variance()
+        {
+            return m_count == 0
+                   ? Double.NaN
+                   : m_count == 1
+                     ? 0
+                     : m_second / ( m_count - 1 );
+        }
+
+        /**
+         * returns the bias-corrected excess kurtosis
+         *
+         * @return kurtosis, NaN with less than four values or zero for a zero variance
+         */
+        private double kurtosis()
+        {
+            if ( m_count < 4 )
+                return Double.NaN;
+
+            final double l_count = m_count;
+            final double l_variance = this.variance();
+            if ( l_variance < 1e-19 )
+                return 0;
+
+            return l_count * ( l_count + 1 ) / ( ( l_count - 1 ) * ( l_count - 2 ) * ( l_count - 3 ) ) * m_fourth / ( l_variance * l_variance )
+                   - 3 * ( l_count - 1 ) * ( l_count - 1 ) / ( ( l_count - 2 ) * ( l_count - 3 ) );
+        }
+    }
+
+}
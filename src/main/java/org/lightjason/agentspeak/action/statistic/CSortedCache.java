@@ -0,0 +1,189 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.statistic;
+
+import org.apache.commons.math3.exception.OutOfRangeException;
+
+import javax.annotation.Nonnull;
+import java.io.Serializable;
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Supplier;
+
+
+/**
+ * cached sorted view of statistic values.
+ * The sorted values are reused until the values are modified,
+ * NaN values are removed, the percentile is estimated in the same
+ * way like the default commons-math percentile implementation,
+ * the cache is not thread-safe, so a synchronized statistic must
+ * lock all calls
+ */
+final class CSortedCache implements Serializable
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -2844990302554775947L;
+    /**
+     * empty array
+     */
+    private static final double[] EMPTY = new double[0];
+    /**
+     * modification counter
+     */
+    private long m_modification;
+    /**
+     * modification counter of the sorted values
+     */
+    private long m_sortedmodification = -1;
+    /**
+     * sorted values without NaN
+     */
+    private double[] m_sorted = EMPTY;
+    /**
+     * flag of a custom percentile implementation
+     */
+    private boolean m_custompercentile;
+
+    /**
+     * marks the values as modified
+     */
+    void modify()
+    {
+        m_modification++;
+    }
+
+    /**
+     * marks a custom percentile implementation
+     */
+    void custom()
+    {
+        m_custompercentile = true;
+    }
+
+    /**
+     * returns the sorted view of the current values, the values
+     * are only read and sorted after a modification
+     *
+     * @param p_values supplier of an unsorted copy of the values
+     * @return sorted values without NaN, the array must not be modified
+     */
+    @Nonnull
+    double[] sorted( @Nonnull final Supplier<double[]> p_values )
+    {
+        return m_sortedmodification == m_modification ? m_sorted : this.presort( CSortedCache.sort( p_values.get() ) );
+    }
+
+    /**
+     * estimates the percentile of the current values with the
+     * sorted view or with the custom percentile implementation
+     *
+     * @param p_values supplier of an unsorted copy of the values
+     * @param p_custom percentile of the custom implementation
+     * @param p_percentile percentile in \f$ (0,100] \f$
+     * @return percentile
+     */
+    double percentile( @Nonnull final Supplier<double[]> p_values, @Nonnull final DoubleUnaryOperator p_custom, final double p_percentile )
+    {
+        return m_custompercentile
+               ? p_custom.applyAsDouble( p_percentile )
+               : CSortedCache.percentile( this.sorted( p_values ), p_percentile );
+    }
+
+    /**
+     * sets the sorted view of the current values
+     *
+     * @param p_sorted sorted values without NaN
+     * @return sorted values
+     */
+    @Nonnull
+    double[] presort( @Nonnull final double[] p_sorted )
+    {
+        m_sorted = p_sorted;
+        m_sortedmodification = m_modification;
+        return m_sorted;
+    }
+
+    /**
+     * sorts values in place and removes NaN values
+     *
+     * @param p_values values
+     * @return sorted values without NaN
+     */
+    @Nonnull
+    static double[] sort( @Nonnull final double[] p_values )
+    {
+        Arrays.sort( p_values );
+
+        // NaN values are sorted to the end and are removed like the default percentile
+        int l_length = p_values.length;
+        while ( l_length > 0 && Double.isNaN( p_values[l_length - 1] ) )
+            l_length--;
+
+        return l_length == p_values.length ? p_values : Arrays.copyOf( p_values, l_length );
+    }
+
+    /**
+     * estimates the percentile of sorted values with the
+     * legacy estimation of commons-math
+     *
+     * @param p_sorted sorted values without NaN
+     * @param p_percentile percentile in \f$ (0,100] \f$
+     * @return percentile
+     */
+    static double percentile( @Nonnull final double[] p_sorted, final double p_percentile )
+    {
+        return CSortedCache.percentile( DoubleBuffer.wrap( p_sorted ), p_sorted.length, p_percentile );
+    }
+
+    /**
+     * estimates the percentile of sorted values within a buffer with
+     * the legacy estimation of commons-math
+     *
+     * @param p_sorted buffer with sorted values without NaN from the index zero
+     * @param p_length number of sorted values
+     * @param p_percentile percentile in \f$ (0,100] \f$
+     * @return percentile
+     */
+    static double percentile( @Nonnull final DoubleBuffer p_sorted, final int p_length, final double p_percentile )
+    {
+        if ( p_percentile <= 0 || p_percentile > 100 )
+            throw new OutOfRangeException( p_percentile, 0, 100 );
+
+        if ( p_length == 0 )
+            return Double.NaN;
+
+        final double l_position = p_percentile / 100d * ( p_length + 1 );
+        if ( l_position < 1 )
+            return p_sorted.get( 0 );
+        if ( l_position >= p_length )
+            return p_sorted.get( p_length - 1 );
+
+        final int l_index = (int) Math.floor( l_position );
+        final double l_lower = p_sorted.get( l_index - 1 );
+        return l_lower + ( l_position - l_index ) * ( p_sorted.get( l_index ) - l_lower );
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.statistic;
+
+import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
+import org.apache.commons.math3.stat.descriptive.UnivariateStatistic;
+
+import javax.annotation.Nonnull;
+
+
+/**
+ * descriptive statistic with a cached sorted view.
+ * The sorted values are created on the first percentile request and
+ * reused until the values are modified, so repeated percentile reads
+ * are constant time, the percentile is estimated in the same way like
+ * the default commons-math percentile implementation
+ */
+public final class CSortedDescriptiveStatistics extends DescriptiveStatistics
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -3937005468232689624L;
+    /**
+     * cached sorted view
+     */
+    private final CSortedCache m_cache = new CSortedCache();
+
+    /**
+     * ctor
+     */
+    public CSortedDescriptiveStatistics()
+    {
+        super();
+    }
+
+    /**
+     * ctor with initial values
+     *
+     * @param p_values values, which are stored without replaying
+     */
+    CSortedDescriptiveStatistics( @Nonnull final double[] p_values )
+    {
+        super( p_values );
+    }
+
+    @Override
+    public void addValue( final double p_value )
+    {
+        super.addValue( p_value );
+        m_cache.modify();
+    }
+
+    @Override
+    public double removeMostRecentValue()
+    {
+        final double l_value = super.removeMostRecentValue();
+        m_cache.modify();
+        return l_value;
+    }
+
+    @Override
+    public double replaceMostRecentValue( final double p_value )
+    {
+        final double l_value = super.replaceMostRecentValue( p_value );
+        m_cache.modify();
+        return l_value;
+    }
+
+    @Override
+    public void setWindowSize( final int p_windowsize )
+    {
+        super.setWindowSize( p_windowsize );
+        m_cache.modify();
+    }
+
+    @Override
+    public void clear()
+    {
+        super.clear();
+        m_cache.modify();
+    }
+
+    @Override
+    public synchronized void setPercentileImpl( final UnivariateStatistic p_percentile )
+    {
+        super.setPercentileImpl( p_percentile );
+        m_cache.custom();
+    }
+
+    @Override
+    public double getPercentile( final double p_percentile )
+    {
+        return m_cache.percentile( this::getValues, super::getPercentile, p_percentile );
+    }
+
+    /**
+     * returns the cached sorted values without NaN,
+     * the array must not be modified
+     *
+     * @return sorted values
+     */
+    @Nonnull
+    double[] sorted()
+    {
+        return m_cache.sorted( this::getValues );
+    }
+
+    /**
+     * sets the sorted view of the current values
+     *
+     * @param p_sorted sorted values without NaN
+     */
+    void presort( @Nonnull final double[] p_sorted )
+    {
+        m_cache.presort( p_sorted );
+    }
+}
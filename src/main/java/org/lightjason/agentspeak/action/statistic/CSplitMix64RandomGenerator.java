@@ -0,0 +1,165 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.statistic;
+
+import org.apache.commons.math3.random.BitsStreamGenerator;
+
+import javax.annotation.Nonnull;
+
+
+/**
+ * SplitMix64 random generator.
+ * The generator adds a odd gamma value to the state and
+ * mixes the bits of the state, a split creates a new
+ * generator with a new state and a new gamma value
+ *
+ * @see <a href="https://doi.org/10.1145/2714064.2660195"></a>
+ */
+public final class CSplitMix64RandomGenerator extends BitsStreamGenerator implements ISplittableRandomGenerator
+{
+    /**
+     * default gamma value (odd integer closest to 2^64 / golden ratio)
+     */
+    private static final long GOLDENGAMMA = 0x9e3779b97f4a7c15L;
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -5381389829925880434L;
+    /**
+     * state
+     */
+    private long m_state;
+    /**
+     * gamma value
+     */
+    private long m_gamma;
+
+    /**
+     * ctor
+     */
+    public CSplitMix64RandomGenerator()
+    {
+        this( System.nanoTime() ^ System.identityHashCode( Thread.currentThread() ) );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_seed seed
+     */
+    public CSplitMix64RandomGenerator( final long p_seed )
+    {
+        this( p_seed, GOLDENGAMMA );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_state state
+     * @param p_gamma gamma value
+     */
+    private CSplitMix64RandomGenerator( final long p_state, final long p_gamma )
+    {
+        m_state = p_state;
+        m_gamma = p_gamma;
+    }
+
+    @Override
+    public void setSeed( final int p_seed )
+    {
+        this.setSeed( (long) p_seed );
+    }
+
+    @Override
+    public void setSeed( final int[] p_seed )
+    {
+        long l_seed = 0;
+        for ( final int i : p_seed )
+            l_seed = l_seed * 0x100000001b3L + i;
+        this.setSeed( l_seed );
+    }
+
+    @Override
+    public void setSeed( final long p_seed )
+    {
+        m_state = p_seed;
+        m_gamma = GOLDENGAMMA;
+        this.clear();
+    }
+
+    @Override
+    protected int next( final int p_bits )
+    {
+        return (int) ( this.nextLong() >>> ( 64 - p_bits ) );
+    }
+
+    @Override
+    public long nextLong()
+    {
+        m_state += m_gamma;
+        return mix64( m_state );
+    }
+
+    @Override
+    public double nextDouble()
+    {
+        return ( this.nextLong() >>> 11 ) * 0x1.0p-53;
+    }
+
+    @Nonnull
+    @Override
+    public ISplittableRandomGenerator split()
+    {
+        final long l_state = this.nextLong();
+        m_state += m_gamma;
+        return new CSplitMix64RandomGenerator( l_state, mixgamma( m_state ) );
+    }
+
+    /**
+     * mix function of the state
+     *
+     * @param p_value state
+     * @return mixed value
+     */
+    static long mix64( final long p_value )
+    {
+        long l_value = ( p_value ^ ( p_value >>> 30 ) ) * 0xbf58476d1ce4e5b9L;
+        l_value = ( l_value ^ ( l_value >>> 27 ) ) * 0x94d049bb133111ebL;
+        return l_value ^ ( l_value >>> 31 );
+    }
+
+    /**
+     * creates an odd gamma value with enough bit transitions
+     *
+     * @param p_value state
+     * @return gamma value
+     */
+    private static long mixgamma( final long p_value )
+    {
+        long l_value = ( p_value ^ ( p_value >>> 33 ) ) * 0xff51afd7ed558ccdL;
+        l_value = ( l_value ^ ( l_value >>> 33 ) ) * 0xc4ceb9fe1a85ec53L;
+        l_value = ( l_value ^ ( l_value >>> 33 ) ) | 1L;
+        return Long.bitCount( l_value ^ ( l_value >>> 1 ) ) < 24 ? l_value ^ 0xaaaaaaaaaaaaaaaaL : l_value;
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.statistic;
+
+import org.apache.commons.math3.distribution.AbstractRealDistribution;
+import org.apache.commons.math3.random.RandomGenerator;
+
+import javax.annotation.Nonnull;
+import java.util.function.BiFunction;
+
+
+/**
+ * distribution with a splittable generator.
+ * The distribution delegates to a distribution, which is
+ * created by a factory with a splittable generator, a split
+ * creates the same distribution with an independent generator,
+ * so a large sample can be drawn in parallel without locking
+ */
+public final class CSplittableDistribution extends AbstractRealDistribution
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -2474358003712954062L;
+    /**
+     * distribution factory
+     */
+    private final BiFunction<RandomGenerator, double[], AbstractRealDistribution> m_factory;
+    /**
+     * distribution arguments
+     */
+    private final double[] m_arguments;
+    /**
+     * generator
+     */
+    private final ISplittableRandomGenerator m_generator;
+    /**
+     * distribution
+     */
+    private final AbstractRealDistribution m_distribution;
+
+    /**
+     * ctor
+     *
+     * @param p_factory distribution factory
+     * @param p_arguments distribution arguments
+     * @param p_generator splittable generator
+     */
+    public CSplittableDistribution( @Nonnull final BiFunction<RandomGenerator, double[], AbstractRealDistribution> p_factory,
+                                    @Nonnull final double[] p_arguments, @Nonnull final ISplittableRandomGenerator p_generator )
+    {
+        super( p_generator );
+        m_factory = p_factory;
+        m_arguments = p_arguments;
+        m_generator = p_generator;
+        m_distribution = p_factory.apply( p_generator, p_arguments );
+    }
+
+    /**
+     * creates the distribution with an independent generator
+     *
+     * @return distribution
+     */
+    @Nonnull
+    public CSplittableDistribution split()
+    {
+        return new CSplittableDistribution( m_factory, m_arguments, m_generator.split() );
+    }
+
+    @Override
+    public double probability( final double p_value )
+    {
+        return m_distribution.probability( p_value );
+    }
+
+    @Override
+    public double density( final double p_value )
+    {
+        return m_distribution.density( p_value );
+    }
+
+    @Override
+    public double logDensity( final double p_value )
+    {
+        return m_distribution.logDensity( p_value );
+    }
+
+    @Override
+    public double cumulativeProbability( final double p_value )
+    {
+        return m_distribution.cumulativeProbability( p_value );
+    }
+
+    @Override
+    public double probability( final double p_lower, final double p_upper )
+    {
+        return m_distribution.probability( p_lower, p_upper );
+    }
+
+    @Override
+    public double inverseCumulativeProbability( final double p_probability )
+    {
+        return m_distribution.inverseCumulativeProbability( p_probability );
+    }
+
+    @Override
+    public double getNumericalMean()
+    {
+        return m_distribution.getNumericalMean();
+    }
+
+    @Override
+    public double getNumericalVariance()
+    {
+        return m_distribution.getNumericalVariance();
+    }
+
+    @Override
+    public double getSupportLowerBound()
+    {
+        return m_distribution.getSupportLowerBound();
+    }
+
+    @Override
+    public double getSupportUpperBound()
+    {
+        return m_distribution.getSupportUpperBound();
+    }
+
+    @Override
+    @SuppressWarnings( "deprecation" )
+    public boolean isSupportLowerBoundInclusive()
+    {
+        return m_distribution.isSupportLowerBoundInclusive();
+    }
+
+    @Override
+    @SuppressWarnings( "deprecation" )
+    public boolean isSupportUpperBoundInclusive()
+    {
+        return m_distribution.isSupportUpperBoundInclusive();
+    }
+
+    @Override
+    public boolean isSupportConnected()
+    {
+        return m_distribution.isSupportConnected();
+    }
+
+    @Override
+    public void reseedRandomGenerator( final long p_seed )
+    {
+        m_distribution.reseedRandomGenerator( p_seed );
+    }
+
+    @Override
+    public double sample()
+    {
+        return m_distribution.sample();
+    }
+
+    @Override
+    public double[] sample( final int p_size )
+    {
+        return m_distribution.sample( p_size );
+    }
+}
@@ -0,0 +1,490 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.statistic;
+
+import org.apache.commons.math3.stat.descriptive.StatisticalSummary;
+import org.apache.commons.math3.stat.descriptive.StatisticalSummaryValues;
+import org.apache.commons.math3.stat.descriptive.SummaryStatistics;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
+
+
+/**
+ * striped summary statistic.
+ * Values are added to one of several stripe accumulators, which is
+ * selected by the calling thread, so concurrent agents do not contend
+ * on a single monitor, each stripe stores the moments with the
+ * Welford update and is padded, so stripes of different threads
+ * do not share a cache line, all stripes are merged on read with
+ * the parallel algorithm of Chan et al. and the merged moments
+ * are reused until a stripe is modified
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Algorithms_for_calculating_variance#Parallel_algorithm"></a>
+ */
+public final class CStripedSummaryStatistics extends SummaryStatistics
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 3214380367529473514L;
+    /**
+     * stripes
+     */
+    private final CAccumulator[] m_stripes;
+    /**
+     * bit mask of the stripe index
+     */
+    private final int m_mask;
+    /**
+     * merged moments of the last read
+     */
+    private transient volatile CAccumulator m_merge;
+
+    /**
+     * ctor
+     */
+    public CStripedSummaryStatistics()
+    {
+        this( Runtime.getRuntime().availableProcessors() );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_threads number of expected concurrent threads
+     */
+    public CStripedSummaryStatistics( @Nonnegative final int p_threads )
+    {
+        int l_size = 1;
+        while ( l_size < 2 * p_threads )
+            l_size <<= 1;
+
+        m_mask = l_size - 1;
+        m_stripes = new CAccumulator[l_size];
+        Arrays.setAll( m_stripes, i -> new CAccumulator() );
+    }
+
+    /**
+     * merges summary statistics into a new statistic
+     *
+     * @param p_statistics summary statistics
+     * @return merged statistic
+     */
+    @Nonnull
+    public static CStripedSummaryStatistics of( @Nonnull final Collection<? extends SummaryStatistics> p_statistics )
+    {
+        final CStripedSummaryStatistics l_result = new CStripedSummaryStatistics();
+        final CAccumulator l_target = l_result.m_stripes[0];
+
+        p_statistics.forEach( i ->
+        {
+            if ( i instanceof CStripedSummaryStatistics )
+            {
+                ( (CStripedSummaryStatistics) i ).merge().mergeinto( l_target );
+                return;
+            }
+
+            // a synchronized statistic locks each getter on its own, so the moments are read from one copy
+            final SummaryStatistics l_copy = i.copy();
+            l_target.combine(
+                l_copy.getN(), l_copy.getMean(), l_copy.getSecondMoment(),
+                l_copy.getSum(), l_copy.getSumsq(), l_copy.getSumOfLogs(),
+                l_copy.getMin(), l_copy.getMax()
+            );
+        } );
+
+        return l_result;
+    }
+
+    /**
+     * creates a statistic with the moments of a value set
+     *
+     * @param p_count number of values
+     * @param p_mean mean
+     * @param p_secondmoment sum of squared deviations of the mean
+     * @param p_sum sum
+     * @param p_sumsquare sum of squares
+     * @param p_sumlog sum of logarithms
+     * @param p_min minimum
+     * @param p_max maximum
+     * @return statistic
+     */
+    @Nonnull
+    public static CStripedSummaryStatistics of( final long p_count, final double p_mean, final double p_secondmoment,
+                                                final double p_sum, final double p_sumsquare, final double p_sumlog,
+                                                final double p_min, final double p_max )
+    {
+        final CStripedSummaryStatistics l_result = new CStripedSummaryStatistics();
+        l_result.m_stripes[0].combine( p_count, p_mean, p_secondmoment, p_sum, p_sumsquare, p_sumlog, p_min, p_max );
+        return l_result;
+    }
+
+    @Override
+    public void addValue( final double p_value )
+    {
+        m_stripes[this.index()].add( p_value );
+    }
+
+    @Override
+    public void clear()
+    {
+        Arrays.stream( m_stripes ).forEach( CAccumulator::clear );
+    }
+
+    @Override
+    public long getN()
+    {
+        return this.merge().m_count;
+    }
+
+    @Override
+    public double getSum()
+    {
+        return this.merge().m_sum;
+    }
+
+    @Override
+    public double getSumsq()
+    {
+        return this.merge().m_sumsquare;
+    }
+
+    @Override
+    public double getSumOfLogs()
+    {
+        return this.merge().m_sumlog;
+    }
+
+    @Override
+    public double getMean()
+    {
+        return this.merge().mean();
+    }
+
+    @Override
+    public double getVariance()
+    {
+        return this.merge().variance();
+    }
+
+    @Override
+    public double getPopulationVariance()
+    {
+        return this.merge().populationvariance();
+    }
+
+    @Override
+    public double getStandardDeviation()
+    {
+        return Math.sqrt( this.merge().variance() );
+    }
+
+    @Override
+    public double getSecondMoment()
+    {
+        final CAccumulator l_merge = this.merge();
+        return l_merge.m_count == 0 ? Double.NaN : l_merge.m_secondmoment;
+    }
+
+    @Override
+    public double getGeometricMean()
+    {
+        final CAccumulator l_merge = this.merge();
+        return l_merge.m_count == 0 ? Double.NaN : Math.exp( l_merge.m_sumlog / l_merge.m_count );
+    }
+
+    @Override
+    public double getQuadraticMean()
+    {
+        final CAccumulator l_merge = this.merge();
+        return l_merge.m_count == 0 ? Double.NaN : Math.sqrt( l_merge.m_sumsquare / l_merge.m_count );
+    }
+
+    @Override
+    public double getMax()
+    {
+        return this.merge().m_max;
+    }
+
+    @Override
+    public double getMin()
+    {
+        return this.merge().m_min;
+    }
+
+    @Override
+    public StatisticalSummary getSummary()
+    {
+        final CAccumulator l_merge = this.merge();
+        return new StatisticalSummaryValues( l_merge.mean(), l_merge.variance(), l_merge.m_count, l_merge.m_max, l_merge.m_min, l_merge.m_sum );
+    }
+
+    @Override
+    public SummaryStatistics copy()
+    {
+        final CStripedSummaryStatistics l_copy = new CStripedSummaryStatistics( m_stripes.length / 2 );
+        this.merge().mergeinto( l_copy.m_stripes[0] );
+        return l_copy;
+    }
+
+    /**
+     * returns the stripe index of the current thread
+     *
+     * @return index
+     */
+    private int index()
+    {
+        final int l_hash = System.identityHashCode( Thread.currentThread() ) * 0x9E3779B9;
+        return ( l_hash ^ ( l_hash >>> 16 ) ) & m_mask;
+    }
+
+    /**
+     * merges all stripes, the merged accumulator is
+     * reused if no stripe has been modified since
+     * the last merge and must not be modified
+     *
+     * @return merged accumulator
+     */
+    @Nonnull
+    private CAccumulator merge()
+    {
+        // versions only increase, so an equal sum means that no stripe has been modified
+        long l_version = 0;
+        for ( final CAccumulator i : m_stripes )
+            l_version += i.m_version;
+
+        final CAccumulator l_merge = m_merge;
+        if ( l_merge != null && l_merge.m_version == l_version )
+            return l_merge;
+
+        final CAccumulator l_result = new CAccumulator();
+        l_version = 0;
+        for ( final CAccumulator i : m_stripes )
+            l_version += i.mergeinto( l_result );
+
+        l_result.m_version = l_version;
+        m_merge = l_result;
+        return l_result;
+    }
+
+
+    /**
+     * accumulator of a single stripe
+     */
+    private static final class CAccumulator implements Serializable
+    {
+        /**
+         * serial id
+         */
+        private static final long serialVersionUID = -2372063627218596087L;
+        /**
+         * number of values
+         */
+        private long m_count;
+        /**
+         * mean
+         */
+        private double m_mean;
+        /**
+         * sum of squared deviations of the mean
+         */
+        private double m_secondmoment;
+        /**
+         * sum
+         */
+        private double m_sum;
+        /**
+         * sum of squares
+         */
+        private double m_sumsquare;
+        /**
+         * sum of logarithms
+         */
+        private double m_sumlog;
+        /**
+         * minimum
+         */
+        private double m_min = Double.NaN;
+        /**
+         * maximum
+         */
+        private double m_max = Double.NaN;
+        /**
+         * modification counter of a stripe or
+         * the stripe versions of a merged accumulator
+         */
+        private volatile long m_version;
+        /**
+         * padding against false sharing with the next stripe
+         */
+        private long m_padding0;
+        /**
+         * padding against false sharing with the next stripe
+         */
+        private long m_padding1;
+        /**
+         * padding against false sharing with the next stripe
+         */
+        private long m_padding2;
+        /**
+         * padding against false sharing with the next stripe
+         */
+        private long m_padding3;
+        /**
+         * padding against false sharing with the next stripe
+         */
+        private long m_padding4;
+        /**
+         * padding against false sharing with the next stripe
+         */
+        private long m_padding5;
+        /**
+         * padding against false sharing with the next stripe
+         */
+        private long m_padding6;
+        /**
+         * padding against false sharing with the next stripe
+         */
+        private long m_padding7;
+
+        /**
+         * adds a value
+         *
+         * @param p_value value
+         */
+        synchronized void add( final double p_value )
+        {
+            m_count++;
+            final double l_delta = p_value - m_mean;
+            m_mean += l_delta / m_count;
+            m_secondmoment += l_delta * ( p_value - m_mean );
+
+            m_sum += p_value;
+            m_sumsquare += p_value * p_value;
+            m_sumlog += Math.log( p_value );
+            m_min = Double.isNaN( m_min ) ? p_value : Math.min( m_min, p_value );
+            m_max = Double.isNaN( m_max ) ? p_value : Math.max( m_max, p_value );
+            m_version++;
+        }
+
+        /**
+         * clears the values
+         */
+        synchronized void clear()
+        {
+            m_count = 0;
+            m_mean = 0;
+            m_secondmoment = 0;
+            m_sum = 0;
+            m_sumsquare = 0;
+            m_sumlog = 0;
+            m_min = Double.NaN;
+            m_max = Double.NaN;
+            m_version++;
+        }
+
+        /**
+         * merges this accumulator into the target
+         *
+         * @param p_target target accumulator, which must not be shared
+         * @return version of the merged moments
+         */
+        synchronized long mergeinto( @Nonnull final CAccumulator p_target )
+        {
+            p_target.combine( m_count, m_mean, m_secondmoment, m_sum, m_sumsquare, m_sumlog, m_min, m_max );
+            return m_version;
+        }
+
+        /**
+         * combines the moments of another value set into this accumulator
+         *
+         * @param p_count number of values
+         * @param p_mean mean
+         * @param p_secondmoment sum of squared deviations of the mean
+         * @param p_sum sum
+         * @param p_sumsquare sum of squares
+         * @param p_sumlog sum of logarithms
+         * @param p_min minimum
+         * @param p_max maximum
+         */
+        synchronized void combine( final long p_count, final double p_mean, final double p_secondmoment,
+                                   final double p_sum, final double p_sumsquare, final double p_sumlog,
+                                   final double p_min, final double p_max )
+        {
+            if ( p_count == 0 )
+                return;
+
+            final long l_count = m_count + p_count;
+            final double l_delta = p_mean - m_mean;
+
+            m_secondmoment += p_secondmoment + l_delta * l_delta * m_count * p_count / l_count;
+            m_mean += l_delta * p_count / l_count;
+            m_count = l_count;
+
+            m_sum += p_sum;
+            m_sumsquare += p_sumsquare;
+            m_sumlog += p_sumlog;
+            m_min = Double.isNaN( m_min ) ? p_min : Math.min( m_min, p_min );
+            m_max = Double.isNaN( m_max ) ? p_max : Math.max( m_max, p_max );
+            m_version++;
+        }
+
+        /**
+         * mean value
+         *
+         * @return mean or NaN if empty
+         */
+        double mean()
+        {
+            return m_count == 0 ? Double.NaN : m_mean;
+        }
+
+        /**
+         * bias-corrected variance
+         *
+         * @return variance or NaN if empty
+         */
+        double variance()
+        {
+            if ( m_count == 0 )
+                return Double.NaN;
+
+            return m_count == 1 ? 0 : m_secondmoment / ( m_count - 1 );
+        }
+
+        /**
+         * population variance
+         *
+         * @return variance or NaN if empty
+         */
+        double populationvariance()
+        {
+            return m_count == 0 ? Double.NaN : m_secondmoment / m_count;
+        }
+    }
+}
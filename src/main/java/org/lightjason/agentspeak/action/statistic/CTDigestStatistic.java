@@ -0,0 +1,501 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.statistic;
+
+import org.apache.commons.math3.exception.OutOfRangeException;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.function.IntFunction;
+
+
+/**
+ * t-digest statistic.
+ * Stores a bounded number of centroids, which estimates percentiles
+ * with small relative error at the tails, values are buffered and merged
+ * into the centroids with the \f$ k_1 \f$ scale function, the memory is
+ * bounded by the compression factor, count, sum, mean, variance,
+ * minimum and maximum are exact
+ *
+ * @see <a href="https://arxiv.org/abs/1902.04023"></a>
+ */
+public final class CTDigestStatistic implements IStatistic, IPercentile, Serializable
+{
+    /**
+     * default compression
+     */
+    public static final double DEFAULTCOMPRESSION = 100;
+    /**
+     * maximum compression
+     */
+    public static final double MAXIMUMCOMPRESSION = 100000;
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -6047718416574359290L;
+    /**
+     * compression
+     */
+    private final double m_compression;
+    /**
+     * centroid means
+     */
+    private final double[] m_means;
+    /**
+     * centroid weights
+     */
+    private final double[] m_weights;
+    /**
+     * merge buffer of means
+     */
+    private final double[] m_mergemeans;
+    /**
+     * merge buffer of weights
+     */
+    private final double[] m_mergeweights;
+    /**
+     * buffer of unmerged values
+     */
+    private final double[] m_buffer;
+    /**
+     * number of centroids
+     */
+    private int m_centroids;
+    /**
+     * number of buffered values
+     */
+    private int m_buffered;
+    /**
+     * number of values
+     */
+    private long m_count;
+    /**
+     * sum
+     */
+    private double m_sum;
+    /**
+     * mean
+     */
+    private double m_mean;
+    /**
+     * sum of squared deviations of the mean
+     */
+    private double m_secondmoment;
+    /**
+     * minimum
+     */
+    private double m_min = Double.NaN;
+    /**
+     * maximum
+     */
+    private double m_max = Double.NaN;
+
+    /**
+     * ctor
+     */
+    public CTDigestStatistic()
+    {
+        this( DEFAULTCOMPRESSION );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_compression compression, larger values increase accuracy and memory
+     */
+    public CTDigestStatistic( @Nonnegative final double p_compression )
+    {
+        if ( !( p_compression >= 10 && p_compression <= MAXIMUMCOMPRESSION ) )
+            throw new OutOfRangeException( p_compression, 10, MAXIMUMCOMPRESSION );
+
+        m_compression = p_compression;
+
+        final int l_centroids = 2 * (int) Math.ceil( p_compression ) + 16;
+        m_buffer = new double[5 * l_centroids];
+        m_means = new double[l_centroids + m_buffer.length];
+        m_weights = new double[m_means.length];
+        m_mergemeans = new double[m_means.length];
+        m_mergeweights = new double[m_means.length];
+    }
+
+    /**
+     * returns the compression
+     *
+     * @return compression
+     */
+    public double compression()
+    {
+        return m_compression;
+    }
+
+    @Override
+    public synchronized void addValue( final double p_value )
+    {
+        m_count++;
+        final double l_delta = p_value - m_mean;
+        m_mean += l_delta / m_count;
+        m_secondmoment += l_delta * ( p_value - m_mean );
+        m_sum += p_value;
+        m_min = Double.isNaN( m_min ) ? p_value : Math.min( m_min, p_value );
+        m_max = Double.isNaN( m_max ) ? p_value : Math.max( m_max, p_value );
+
+        m_buffer[m_buffered++] = p_value;
+        if ( m_buffered == m_buffer.length )
+            this.flush();
+    }
+
+    @Override
+    public synchronized void clear()
+    {
+        m_centroids = 0;
+        m_buffered = 0;
+        m_count = 0;
+        m_sum = 0;
+        m_mean = 0;
+        m_secondmoment = 0;
+        m_min = Double.NaN;
+        m_max = Double.NaN;
+    }
+
+    @Override
+    public synchronized double getPercentile( final double p_percentile )
+    {
+        if ( p_percentile <= 0 || p_percentile > 100 )
+            throw new OutOfRangeException( p_percentile, 0, 100 );
+
+        this.flush();
+        if ( m_centroids == 0 )
+            return Double.NaN;
+        if ( m_centroids == 1 )
+            return m_means[0];
+
+        final double l_target = p_percentile / 100.0 * m_count;
+
+        // left tail between minimum and first centroid
+        double l_cumulative = m_weights[0] / 2;
+        if ( l_target <= l_cumulative )
+            return m_min + ( m_means[0] - m_min ) * l_target / l_cumulative;
+
+        // interpolation between the centers of neighboured centroids
+        for ( int i = 0; i < m_centroids - 1; i++ )
+        {
+            final double l_step = ( m_weights[i] + m_weights[i + 1] ) / 2;
+            if ( l_target <= l_cumulative + l_step )
+                return m_means[i] + ( m_means[i + 1] - m_means[i] ) * ( l_target - l_cumulative ) / l_step;
+            l_cumulative += l_step;
+        }
+
+        // right tail between last centroid and maximum
+        final double l_last = m_means[m_centroids - 1];
+        return Math.min( m_max, l_last + ( m_max - l_last ) * ( l_target - l_cumulative ) / ( m_weights[m_centroids - 1] / 2 ) );
+    }
+
+    @Override
+    public synchronized double getMean()
+    {
+        return m_count == 0 ? Double.NaN : m_mean;
+    }
+
+    @Override
+    public synchronized double getVariance()
+    {
+        if ( m_count == 0 )
+            return Double.NaN;
+
+        return m_count == 1 ? 0 : m_secondmoment / ( m_count - 1 );
+    }
+
+    @Override
+    public double getStandardDeviation()
+    {
+        return Math.sqrt( this.getVariance() );
+    }
+
+    @Override
+    public synchronized double getMax()
+    {
+        return m_max;
+    }
+
+    @Override
+    public synchronized double getMin()
+    {
+        return m_min;
+    }
+
+    @Override
+    public synchronized long getN()
+    {
+        return m_count;
+    }
+
+    @Override
+    public synchronized double getSum()
+    {
+        return m_sum;
+    }
+
+    /**
+     * merges another digest into this digest, the
+     * centroids are merged like a buffer
+     *
+     * @param p_digest digest
+     */
+    public void merge( @Nonnull final CTDigestStatistic p_digest )
+    {
+        final double[] l_means;
+        final double[] l_weights;
+        final long l_count;
+        final double l_mean;
+        final double l_secondmoment;
+        final double l_sum;
+        final double l_min;
+        final double l_max;
+
+        synchronized ( p_digest )
+        {
+            p_digest.flush();
+            l_means = Arrays.copyOf( p_digest.m_means, p_digest.m_centroids );
+            l_weights = Arrays.copyOf( p_digest.m_weights, p_digest.m_centroids );
+            l_count = p_digest.m_count;
+            l_mean = p_digest.m_mean;
+            l_secondmoment = p_digest.m_secondmoment;
+            l_sum = p_digest.m_sum;
+            l_min = p_digest.m_min;
+            l_max = p_digest.m_max;
+        }
+
+        if ( l_count == 0 )
+            return;
+
+        synchronized ( this )
+        {
+            this.flush();
+
+            final long l_total = m_count + l_count;
+            final double l_delta = l_mean - m_mean;
+            m_secondmoment += l_secondmoment + l_delta * l_delta * m_count * l_count / l_total;
+            m_mean += l_delta * l_count / l_total;
+            m_count = l_total;
+            m_sum += l_sum;
+            m_min = Double.isNaN( m_min ) ? l_min : Math.min( m_min, l_min );
+            m_max = Double.isNaN( m_max ) ? l_max : Math.max( m_max, l_max );
+
+            // merge both sorted centroid lists
+            final int l_size = m_centroids + l_means.length;
+            final double[] l_mergemeans = l_size <= m_mergemeans.length ? m_mergemeans : new double[l_size];
+            final double[] l_mergeweights = l_size <= m_mergeweights.length ? m_mergeweights : new double[l_size];
+
+            int l_own = 0;
+            int l_other = 0;
+            for ( int i = 0; i < l_size; i++ )
+                if ( l_other >= l_means.length || l_own < m_centroids && m_means[l_own] <= l_means[l_other] )
+                {
+                    l_mergemeans[i] = m_means[l_own];
+                    l_mergeweights[i] = m_weights[l_own];
+                    l_own++;
+                }
+                else
+                {
+                    l_mergemeans[i] = l_means[l_other];
+                    l_mergeweights[i] = l_weights[l_other];
+                    l_other++;
+                }
+
+            this.compress( l_mergemeans, l_mergeweights, l_size );
+        }
+    }
+
+    /**
+     * number of centroids
+     *
+     * @return centroid number
+     */
+    public synchronized int centroids()
+    {
+        this.flush();
+        return m_centroids;
+    }
+
+    /**
+     * encodes the digest, the buffer is merged into the centroids
+     *
+     * @param p_buffer allocator of a buffer with the given size
+     * @return buffer with the encoded digest
+     */
+    @Nonnull
+    synchronized ByteBuffer encode( @Nonnull final IntFunction<ByteBuffer> p_buffer )
+    {
+        this.flush();
+
+        final ByteBuffer l_buffer = p_buffer.apply( 7 * Double.BYTES + Integer.BYTES + 2 * m_centroids * Double.BYTES );
+        l_buffer.putDouble( m_compression ).putLong( m_count ).putDouble( m_sum ).putDouble( m_mean )
+                .putDouble( m_secondmoment ).putDouble( m_min ).putDouble( m_max ).putInt( m_centroids );
+        for ( int i = 0; i < m_centroids; i++ )
+            l_buffer.putDouble( m_means[i] ).putDouble( m_weights[i] );
+        return l_buffer;
+    }
+
+    /**
+     * decodes a digest, the header is checked
+     * against the buffer before any allocation
+     *
+     * @param p_buffer buffer with the encoded digest
+     * @return digest
+     */
+    @Nonnull
+    static CTDigestStatistic decode( @Nonnull final ByteBuffer p_buffer )
+    {
+        final double l_compression = p_buffer.getDouble();
+        final long l_count = p_buffer.getLong();
+        final double l_sum = p_buffer.getDouble();
+        final double l_mean = p_buffer.getDouble();
+        final double l_secondmoment = p_buffer.getDouble();
+        final double l_min = p_buffer.getDouble();
+        final double l_max = p_buffer.getDouble();
+        final int l_centroids = p_buffer.getInt();
+        if ( l_centroids < 0 || l_centroids > p_buffer.remaining() / ( 2 * Double.BYTES ) )
+            throw new OutOfRangeException( l_centroids, 0, p_buffer.remaining() / ( 2 * Double.BYTES ) );
+
+        final CTDigestStatistic l_digest = new CTDigestStatistic( l_compression );
+        if ( l_centroids > l_digest.m_means.length )
+            throw new OutOfRangeException( l_centroids, 0, l_digest.m_means.length );
+
+        l_digest.m_count = l_count;
+        l_digest.m_sum = l_sum;
+        l_digest.m_mean = l_mean;
+        l_digest.m_secondmoment = l_secondmoment;
+        l_digest.m_min = l_min;
+        l_digest.m_max = l_max;
+        l_digest.m_centroids = l_centroids;
+        for ( int i = 0; i < l_digest.m_centroids; i++ )
+        {
+            l_digest.m_means[i] = p_buffer.getDouble();
+            l_digest.m_weights[i] = p_buffer.getDouble();
+        }
+        return l_digest;
+    }
+
+    /**
+     * merges the buffer into the centroids
+     */
+    private void flush()
+    {
+        if ( m_buffered == 0 )
+            return;
+
+        Arrays.sort( m_buffer, 0, m_buffered );
+
+        // merge sorted centroids and sorted buffer
+        int l_centroid = 0;
+        int l_value = 0;
+        int l_size = 0;
+        while ( l_centroid < m_centroids || l_value < m_buffered )
+        {
+            if ( l_value >= m_buffered || l_centroid < m_centroids && m_means[l_centroid] <= m_buffer[l_value] )
+            {
+                m_mergemeans[l_size] = m_means[l_centroid];
+                m_mergeweights[l_size] = m_weights[l_centroid];
+                l_centroid++;
+            }
+            else
+            {
+                m_mergemeans[l_size] = m_buffer[l_value];
+                m_mergeweights[l_size] = 1;
+                l_value++;
+            }
+            l_size++;
+        }
+        m_buffered = 0;
+
+        this.compress( m_mergemeans, m_mergeweights, l_size );
+    }
+
+    /**
+     * compresses sorted weighted means into the centroids
+     *
+     * @param p_means sorted means
+     * @param p_weights weights
+     * @param p_size number of elements
+     */
+    private void compress( @Nonnull final double[] p_means, @Nonnull final double[] p_weights, final int p_size )
+    {
+        final double l_total = m_count;
+        double l_processed = 0;
+        double l_limit = l_total * this.inversescale( this.scale( 0 ) + 1 );
+
+        double l_mean = p_means[0];
+        double l_weight = p_weights[0];
+        m_centroids = 0;
+
+        for ( int i = 1; i < p_size; i++ )
+            if ( l_processed + l_weight + p_weights[i] <= l_limit )
+            {
+                l_weight += p_weights[i];
+                l_mean += ( p_means[i] - l_mean ) * p_weights[i] / l_weight;
+            }
+            else
+            {
+                m_means[m_centroids] = l_mean;
+                m_weights[m_centroids] = l_weight;
+                m_centroids++;
+
+                l_processed += l_weight;
+                l_limit = l_total * this.inversescale( this.scale( l_processed / l_total ) + 1 );
+                l_mean = p_means[i];
+                l_weight = p_weights[i];
+            }
+
+        m_means[m_centroids] = l_mean;
+        m_weights[m_centroids] = l_weight;
+        m_centroids++;
+    }
+
+    /**
+     * k_1 scale function
+     *
+     * @param p_quantile quantile
+     * @return scale value
+     */
+    private double scale( final double p_quantile )
+    {
+        return m_compression / ( 2 * Math.PI ) * Math.asin( 2 * Math.min( 1, p_quantile ) - 1 );
+    }
+
+    /**
+     * inverse k_1 scale function
+     *
+     * @param p_scale scale value
+     * @return quantile
+     */
+    private double inversescale( final double p_scale )
+    {
+        return p_scale >= m_compression / 4
+               ? 1
+               : ( Math.sin( p_scale * 2 * Math.PI / m_compression ) + 1 ) / 2;
+    }
+}
@@ -0,0 +1,418 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.statistic;
+
+import org.apache.commons.math3.distribution.AbstractRealDistribution;
+import org.apache.commons.math3.exception.NotStrictlyPositiveException;
+import org.apache.commons.math3.random.RandomGenerator;
+
+import javax.annotation.Nonnull;
+import java.io.Serializable;
+import java.util.function.BiFunction;
+import java.util.stream.DoubleStream;
+
+
+/**
+ * distribution with a tabulated inverse cumulative distribution function.
+ * On creation the inverse cumulative distribution function of a distribution
+ * is approximated by a piecewise linear function, the segments are refined until
+ * the error at the middle of each segment is less than the error bound
+ * (relative for values with an absolute value greater than one), a sample
+ * is a table lookup with linear interpolation, the outer tails with
+ * probability less than \f$ 10^{-6} \f$ use the exact inverse function
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Inverse_transform_sampling"></a>
+ */
+public final class CTabulatedDistribution extends AbstractRealDistribution
+{
+    /**
+     * default error bound
+     */
+    public static final double DEFAULTERROR = 1e-6;
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 3588347361209498317L;
+    /**
+     * probability of each tail, which is not tabulated
+     */
+    private static final double TAIL = 1e-6;
+    /**
+     * number of initial segments
+     */
+    private static final int SEGMENTS = 64;
+    /**
+     * maximum refinement depth of a segment
+     */
+    private static final int DEPTH = 24;
+    /**
+     * exact distribution
+     */
+    private final AbstractRealDistribution m_distribution;
+    /**
+     * table
+     */
+    private final CTable m_table;
+
+    /**
+     * ctor
+     *
+     * @param p_generator generator
+     * @param p_distribution exact distribution
+     * @param p_error error bound
+     */
+    public CTabulatedDistribution( @Nonnull final RandomGenerator p_generator, @Nonnull final AbstractRealDistribution p_distribution,
+                                   final double p_error )
+    {
+        this( p_generator, p_distribution, table( p_distribution, p_error ) );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_generator generator
+     * @param p_distribution exact distribution
+     * @param p_table table
+     */
+    private CTabulatedDistribution( @Nonnull final RandomGenerator p_generator, @Nonnull final AbstractRealDistribution p_distribution,
+                                    @Nonnull final CTable p_table )
+    {
+        super( p_generator );
+        m_distribution = p_distribution;
+        m_table = p_table;
+    }
+
+    /**
+     * creates a distribution factory, which tabulates the distribution
+     * on the first call and shares the table on all further calls
+     *
+     * @param p_factory distribution factory
+     * @param p_error error bound
+     * @return distribution factory
+     */
+    @Nonnull
+    public static BiFunction<RandomGenerator, double[], AbstractRealDistribution> factory(
+        @Nonnull final BiFunction<RandomGenerator, double[], AbstractRealDistribution> p_factory, final double p_error
+    )
+    {
+        if ( p_error <= 0 )
+            throw new NotStrictlyPositiveException( p_error );
+
+        return new CFactory( p_factory, p_error );
+    }
+
+    /**
+     * number of table segments
+     *
+     * @return segment number
+     */
+    public int segments()
+    {
+        return m_table.m_probability.length - 1;
+    }
+
+    @Override
+    public double sample()
+    {
+        final double l_probability = random.nextDouble();
+        return l_probability < m_table.m_lower || l_probability > m_table.m_upper
+               ? m_distribution.inverseCumulativeProbability( l_probability )
+               : m_table.value( l_probability );
+    }
+
+    @Override
+    public double probability( final double p_value )
+    {
+        return m_distribution.probability( p_value );
+    }
+
+    @Override
+    public double density( final double p_value )
+    {
+        return m_distribution.density( p_value );
+    }
+
+    @Override
+    public double logDensity( final double p_value )
+    {
+        return m_distribution.logDensity( p_value );
+    }
+
+    @Override
+    public double cumulativeProbability( final double p_value )
+    {
+        return m_distribution.cumulativeProbability( p_value );
+    }
+
+    @Override
+    public double probability( final double p_lower, final double p_upper )
+    {
+        return m_distribution.probability( p_lower, p_upper );
+    }
+
+    @Override
+    public double inverseCumulativeProbability( final double p_probability )
+    {
+        return m_distribution.inverseCumulativeProbability( p_probability );
+    }
+
+    @Override
+    public double getNumericalMean()
+    {
+        return m_distribution.getNumericalMean();
+    }
+
+    @Override
+    public double getNumericalVariance()
+    {
+        return m_distribution.getNumericalVariance();
+    }
+
+    @Override
+    public double getSupportLowerBound()
+    {
+        return m_distribution.getSupportLowerBound();
+    }
+
+    @Override
+    public double getSupportUpperBound()
+    {
+        return m_distribution.getSupportUpperBound();
+    }
+
+    @Override
+    @SuppressWarnings( "deprecation" )
+    public boolean isSupportLowerBoundInclusive()
+    {
+        return m_distribution.isSupportLowerBoundInclusive();
+    }
+
+    @Override
+    @SuppressWarnings( "deprecation" )
+    public boolean isSupportUpperBoundInclusive()
+    {
+        return m_distribution.isSupportUpperBoundInclusive();
+    }
+
+    @Override
+    public boolean isSupportConnected()
+    {
+        return m_distribution.isSupportConnected();
+    }
+
+    /**
+     * builds the table of a distribution
+     *
+     * @param p_distribution distribution
+     * @param p_error error bound
+     * @return table
+     */
+    @Nonnull
+    private static CTable table( @Nonnull final AbstractRealDistribution p_distribution, final double p_error )
+    {
+        if ( p_error <= 0 )
+            throw new NotStrictlyPositiveException( p_error );
+
+        final DoubleStream.Builder l_probability = DoubleStream.builder();
+        final DoubleStream.Builder l_value = DoubleStream.builder();
+
+        final double l_width = ( 1 - 2 * TAIL ) / SEGMENTS;
+        double l_lower = TAIL;
+        double l_lowervalue = p_distribution.inverseCumulativeProbability( l_lower );
+        l_probability.add( l_lower );
+        l_value.add( l_lowervalue );
+
+        for ( int i = 1; i <= SEGMENTS; i++ )
+        {
+            final double l_upper = i == SEGMENTS ? 1 - TAIL : TAIL + i * l_width;
+            final double l_uppervalue = p_distribution.inverseCumulativeProbability( l_upper );
+
+            refine( p_distribution, p_error, l_lower, l_lowervalue, l_upper, l_uppervalue, DEPTH, l_probability, l_value );
+
+            l_lower = l_upper;
+            l_lowervalue = l_uppervalue;
+        }
+
+        return new CTable( l_probability.build().toArray(), l_value.build().toArray() );
+    }
+
+    /**
+     * refines a segment until the error bound is reached and adds
+     * the upper point of all refined segments
+     *
+     * @param p_distribution distribution
+     * @param p_error error bound
+     * @param p_lower lower probability
+     * @param p_lowervalue value of the lower probability
+     * @param p_upper upper probability
+     * @param p_uppervalue value of the upper probability
+     * @param p_depth remaining refinement depth
+     * @param p_probability probability builder
+     * @param p_value value builder
+     */
+    private static void refine( @Nonnull final AbstractRealDistribution p_distribution, final double p_error,
+                                final double p_lower, final double p_lowervalue, final double p_upper, final double p_uppervalue,
+                                final int p_depth, @Nonnull final DoubleStream.Builder p_probability, @Nonnull final DoubleStream.Builder p_value )
+    {
+        final double l_middle = ( p_lower + p_upper ) / 2;
+        final double l_middlevalue = p_distribution.inverseCumulativeProbability( l_middle );
+
+        if ( p_depth > 0 && Math.abs( l_middlevalue - ( p_lowervalue + p_uppervalue ) / 2 ) > p_error * Math.max( 1, Math.abs( l_middlevalue ) ) )
+        {
+            refine( p_distribution, p_error, p_lower, p_lowervalue, l_middle, l_middlevalue, p_depth - 1, p_probability, p_value );
+            refine( p_distribution, p_error, l_middle, l_middlevalue, p_upper, p_uppervalue, p_depth - 1, p_probability, p_value );
+            return;
+        }
+
+        p_probability.add( p_upper );
+        p_value.add( p_uppervalue );
+    }
+
+
+    /**
+     * piecewise linear inverse cumulative distribution function,
+     * a guide table maps a probability to the first candidate segment,
+     * so the lookup runs in constant expected time
+     */
+    private static final class CTable implements Serializable
+    {
+        /**
+         * serial id
+         */
+        private static final long serialVersionUID = -3081412370573829536L;
+        /**
+         * probabilities
+         */
+        private final double[] m_probability;
+        /**
+         * values
+         */
+        private final double[] m_value;
+        /**
+         * guide table
+         */
+        private final int[] m_guide;
+        /**
+         * lower probability
+         */
+        private final double m_lower;
+        /**
+         * upper probability
+         */
+        private final double m_upper;
+        /**
+         * scale of the guide table
+         */
+        private final double m_scale;
+
+        /**
+         * ctor
+         *
+         * @param p_probability sorted probabilities
+         * @param p_value values
+         */
+        CTable( @Nonnull final double[] p_probability, @Nonnull final double[] p_value )
+        {
+            m_probability = p_probability;
+            m_value = p_value;
+            m_lower = p_probability[0];
+            m_upper = p_probability[p_probability.length - 1];
+
+            m_guide = new int[p_probability.length - 1];
+            m_scale = m_guide.length / ( m_upper - m_lower );
+
+            for ( int i = 0, j = 0; i < m_guide.length; i++ )
+            {
+                final double l_probability = m_lower + i / m_scale;
+                while ( j < m_guide.length - 1 && m_probability[j + 1] <= l_probability )
+                    j++;
+                m_guide[i] = j;
+            }
+        }
+
+        /**
+         * interpolates the value of a probability
+         *
+         * @param p_probability probability within the table
+         * @return value
+         */
+        double value( final double p_probability )
+        {
+            int l_index = m_guide[Math.min( m_guide.length - 1, (int) ( ( p_probability - m_lower ) * m_scale ) )];
+            while ( l_index < m_guide.length - 1 && m_probability[l_index + 1] < p_probability )
+                l_index++;
+
+            return m_value[l_index] + ( p_probability - m_probability[l_index] )
+                                      / ( m_probability[l_index + 1] - m_probability[l_index] )
+                                      * ( m_value[l_index + 1] - m_value[l_index] );
+        }
+    }
+
+    /**
+     * distribution factory, which shares the table
+     */
+    private static final class CFactory implements BiFunction<RandomGenerator, double[], AbstractRealDistribution>, Serializable
+    {
+        /**
+         * serial id
+         */
+        private static final long serialVersionUID = 4923760451236815467L;
+        /**
+         * distribution factory
+         */
+        private final BiFunction<RandomGenerator, double[], AbstractRealDistribution> m_factory;
+        /**
+         * error bound
+         */
+        private final double m_error;
+        /**
+         * table
+         */
+        private volatile CTable m_table;
+
+        /**
+         * ctor
+         *
+         * @param p_factory distribution factory
+         * @param p_error error bound
+         */
+        CFactory( @Nonnull final BiFunction<RandomGenerator, double[], AbstractRealDistribution> p_factory, final double p_error )
+        {
+            m_factory = p_factory;
+            m_error = p_error;
+        }
+
+        @Override
+        public AbstractRealDistribution apply( @Nonnull final RandomGenerator p_generator, @Nonnull final double[] p_arguments )
+        {
+            final AbstractRealDistribution l_distribution = m_factory.apply( p_generator, p_arguments );
+
+            // the factory is created for one set of arguments, so the table is build once
+            if ( m_table == null )
+                m_table = table( l_distribution, m_error );
+
+            return new CTabulatedDistribution( p_generator, l_distribution, m_table );
+        }
+    }
+}
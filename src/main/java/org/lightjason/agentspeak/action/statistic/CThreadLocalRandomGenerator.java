@@ -0,0 +1,149 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.statistic;
+
+import org.apache.commons.math3.exception.MathUnsupportedOperationException;
+import org.apache.commons.math3.random.RandomGenerator;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.function.Supplier;
+
+
+/**
+ * random generator with a state for each thread.
+ * Each thread uses its own generator, which is created on the
+ * first use, so a distribution with this generator can be shared
+ * by many agents without a lock and without a generator for each
+ * distribution, the generator of a thread is used by all agents of the
+ * thread, so seeding is not supported, because it would change the
+ * samples of all agents, a reproducible distribution needs an own seed
+ */
+public final class CThreadLocalRandomGenerator implements RandomGenerator, Serializable
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 6406823935418573394L;
+    /**
+     * generator factory
+     */
+    private final Supplier<RandomGenerator> m_factory;
+    /**
+     * generator of each thread
+     */
+    private transient ThreadLocal<RandomGenerator> m_generator;
+
+    /**
+     * ctor
+     *
+     * @param p_factory serializable generator factory
+     */
+    public CThreadLocalRandomGenerator( @Nonnull final Supplier<RandomGenerator> p_factory )
+    {
+        m_factory = p_factory;
+        m_generator = ThreadLocal.withInitial( p_factory );
+    }
+
+    @Override
+    public void setSeed( final int p_seed )
+    {
+        throw new MathUnsupportedOperationException();
+    }
+
+    @Override
+    public void setSeed( final int[] p_seed )
+    {
+        throw new MathUnsupportedOperationException();
+    }
+
+    @Override
+    public void setSeed( final long p_seed )
+    {
+        throw new MathUnsupportedOperationException();
+    }
+
+    @Override
+    public void nextBytes( final byte[] p_bytes )
+    {
+        m_generator.get().nextBytes( p_bytes );
+    }
+
+    @Override
+    public int nextInt()
+    {
+        return m_generator.get().nextInt();
+    }
+
+    @Override
+    public int nextInt( final int p_bound )
+    {
+        return m_generator.get().nextInt( p_bound );
+    }
+
+    @Override
+    public long nextLong()
+    {
+        return m_generator.get().nextLong();
+    }
+
+    @Override
+    public boolean nextBoolean()
+    {
+        return m_generator.get().nextBoolean();
+    }
+
+    @Override
+    public float nextFloat()
+    {
+        return m_generator.get().nextFloat();
+    }
+
+    @Override
+    public double nextDouble()
+    {
+        return m_generator.get().nextDouble();
+    }
+
+    @Override
+    public double nextGaussian()
+    {
+        return m_generator.get().nextGaussian();
+    }
+
+    /**
+     * deserialization
+     *
+     * @param p_stream input stream
+     * @throws IOException on reading error
+     * @throws ClassNotFoundException on class error
+     */
+    private void readObject( final ObjectInputStream p_stream ) throws IOException, ClassNotFoundException
+    {
+        p_stream.defaultReadObject();
+        m_generator = ThreadLocal.withInitial( m_factory );
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.statistic;
+
+import org.apache.commons.math3.distribution.BinomialDistribution;
+import org.apache.commons.math3.random.RandomGenerator;
+import org.apache.commons.math3.special.Gamma;
+
+import javax.annotation.Nonnull;
+
+
+/**
+ * binomial distribution with a transformed rejection sampler.
+ * The distribution functions are defined by the commons-math
+ * distribution, for \f$ n \cdot \min(p, 1-p) \geq 10 \f$ the
+ * sample uses the transformed rejection method with squeeze (BTRS),
+ * otherwise the sequential inversion, a probability greater than
+ * 0.5 is sampled by the symmetric distribution
+ *
+ * @see <a href="https://doi.org/10.1080/00949659308811496"></a>
+ */
+public final class CTransformedRejectionBinomialDistribution extends BinomialDistribution
+{
+    /**
+     * minimal mean of the rejection method
+     */
+    private static final double REJECTIONMEAN = 10;
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 1946290716346316283L;
+    /**
+     * number of trials
+     */
+    private final int m_trials;
+    /**
+     * probability not greater than 0.5
+     */
+    private final double m_probability;
+    /**
+     * flag if the symmetric distribution is sampled
+     */
+    private final boolean m_symmetric;
+    /**
+     * use the rejection method
+     */
+    private final boolean m_rejection;
+    /**
+     * probability of zero successes for the inversion
+     */
+    private final double m_zero;
+    /**
+     * hat parameter a
+     */
+    private final double m_a;
+    /**
+     * hat parameter b
+     */
+    private final double m_b;
+    /**
+     * hat parameter c
+     */
+    private final double m_c;
+    /**
+     * hat parameter alpha
+     */
+    private final double m_alpha;
+    /**
+     * squeeze bound
+     */
+    private final double m_squeeze;
+    /**
+     * logarithm of the odds
+     */
+    private final double m_logodds;
+    /**
+     * mode
+     */
+    private final double m_mode;
+    /**
+     * logarithm of the factorials of the mode
+     */
+    private final double m_modefactorial;
+
+    /**
+     * ctor
+     *
+     * @param p_generator generator
+     * @param p_trials number of trials
+     * @param p_probability success probability
+     */
+    public CTransformedRejectionBinomialDistribution( @Nonnull final RandomGenerator p_generator, final int p_trials, final double p_probability )
+    {
+        super( p_generator, p_trials, p_probability );
+
+        m_trials = p_trials;
+        m_symmetric = p_probability > 0.5;
+        m_probability = m_symmetric ? 1 - p_probability : p_probability;
+        m_rejection = p_trials * m_probability >= REJECTIONMEAN;
+        m_zero = Math.pow( 1 - m_probability, p_trials );
+
+        final double l_deviation = Math.sqrt( p_trials * m_probability * ( 1 - m_probability ) );
+        m_b = 1.15 + 2.53 * l_deviation;
+        m_a = -0.0873 + 0.0248 * m_b + 0.01 * m_probability;
+        m_c = p_trials * m_probability + 0.5;
+        m_alpha = ( 2.83 + 5.1 / m_b ) * l_deviation;
+        m_squeeze = 0.92 - 4.2 / m_b;
+        m_logodds = Math.log( m_probability / ( 1 - m_probability ) );
+        m_mode = Math.floor( ( p_trials + 1 ) * m_probability );
+        m_modefactorial = Gamma.logGamma( m_mode + 1 ) + Gamma.logGamma( p_trials - m_mode + 1 );
+    }
+
+    @Override
+    public int sample()
+    {
+        final int l_value = m_rejection ? this.rejection() : this.inversion();
+        return m_symmetric ? m_trials - l_value : l_value;
+    }
+
+    /**
+     * sequential inversion
+     *
+     * @return number of successes
+     */
+    private int inversion()
+    {
+        final double l_odds = m_probability / ( 1 - m_probability );
+        final double l_factor = ( m_trials + 1 ) * l_odds;
+
+        double l_uniform = random.nextDouble();
+        double l_probability = m_zero;
+        int l_value = 0;
+        while ( l_uniform > l_probability && l_value < m_trials )
+        {
+            l_uniform -= l_probability;
+            l_value++;
+            l_probability *= l_factor / l_value - l_odds;
+        }
+        return l_value;
+    }
+
+    /**
+     * transformed rejection with squeeze
+     *
+     * @return number of successes
+     */
+    private int rejection()
+    {
+        while ( true )
+        {
+            final double l_uniform = random.nextDouble() - 0.5;
+            final double l_check = random.nextDouble();
+            final double l_distance = 0.5 - Math.abs( l_uniform );
+            final double l_value = Math.floor( ( 2 * m_a / l_distance + m_b ) * l_uniform + m_c );
+
+            if ( l_value < 0 || l_value > m_trials )
+                continue;
+
+            if ( l_distance >= 0.07 && l_check <= m_squeeze )
+                return (int) l_value;
+
+            if ( Math.log( l_check * m_alpha / ( m_a / ( l_distance * l_distance ) + m_b ) )
+                 <= m_modefactorial - Gamma.logGamma( l_value + 1 ) - Gamma.logGamma( m_trials - l_value + 1 ) + ( l_value - m_mode ) * m_logodds )
+                return (int) l_value;
+        }
+    }
+}
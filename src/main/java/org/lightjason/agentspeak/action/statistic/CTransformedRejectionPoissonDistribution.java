@@ -0,0 +1,129 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.statistic;
+
+import org.apache.commons.math3.distribution.PoissonDistribution;
+import org.apache.commons.math3.random.RandomGenerator;
+import org.apache.commons.math3.special.Gamma;
+
+import javax.annotation.Nonnull;
+
+
+/**
+ * poisson distribution with a transformed rejection sampler.
+ * The distribution functions are defined by the commons-math
+ * distribution, a mean of at least 10 is sampled with the
+ * transformed rejection method with squeeze (PTRS), a smaller
+ * mean with the multiplication of uniform values
+ *
+ * @see <a href="https://doi.org/10.1016/0167-6687(93)90997-4"></a>
+ */
+public final class CTransformedRejectionPoissonDistribution extends PoissonDistribution
+{
+    /**
+     * minimal mean of the rejection method
+     */
+    private static final double REJECTIONMEAN = 10;
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -8163733373359547817L;
+    /**
+     * exponential of the negative mean
+     */
+    private final double m_exponential;
+    /**
+     * logarithm of the mean
+     */
+    private final double m_logmean;
+    /**
+     * hat parameter a
+     */
+    private final double m_a;
+    /**
+     * hat parameter b
+     */
+    private final double m_b;
+    /**
+     * logarithm of the inverse alpha value
+     */
+    private final double m_loginversealpha;
+    /**
+     * squeeze bound
+     */
+    private final double m_squeeze;
+
+    /**
+     * ctor
+     *
+     * @param p_generator generator
+     * @param p_mean mean
+     */
+    public CTransformedRejectionPoissonDistribution( @Nonnull final RandomGenerator p_generator, final double p_mean )
+    {
+        super( p_generator, p_mean, DEFAULT_EPSILON, DEFAULT_MAX_ITERATIONS );
+
+        m_exponential = Math.exp( -p_mean );
+        m_logmean = Math.log( p_mean );
+        m_b = 0.931 + 2.53 * Math.sqrt( p_mean );
+        m_a = -0.059 + 0.02483 * m_b;
+        m_loginversealpha = Math.log( 1.1239 + 1.1328 / ( m_b - 3.4 ) );
+        m_squeeze = 0.9277 - 3.6224 / ( m_b - 2 );
+    }
+
+    @Override
+    public int sample()
+    {
+        final double l_mean = this.getMean();
+        if ( l_mean < REJECTIONMEAN )
+        {
+            int l_value = 0;
+            double l_product = random.nextDouble();
+            while ( l_product > m_exponential )
+            {
+                l_value++;
+                l_product *= random.nextDouble();
+            }
+            return l_value;
+        }
+
+        while ( true )
+        {
+            final double l_uniform = random.nextDouble() - 0.5;
+            final double l_check = random.nextDouble();
+            final double l_distance = 0.5 - Math.abs( l_uniform );
+            final double l_value = Math.floor( ( 2 * m_a / l_distance + m_b ) * l_uniform + l_mean + 0.43 );
+
+            if ( l_distance >= 0.07 && l_check <= m_squeeze )
+                return (int) l_value;
+
+            if ( l_value < 0 || l_distance < 0.013 && l_check > l_distance )
+                continue;
+
+            if ( Math.log( l_check ) + m_loginversealpha - Math.log( m_a / ( l_distance * l_distance ) + m_b )
+                 <= -l_mean + l_value * m_logmean - Gamma.logGamma( l_value + 1 ) )
+                return (int) l_value;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.statistic;
+
+import org.apache.commons.math3.random.BitsStreamGenerator;
+
+import javax.annotation.Nonnull;
+
+
+/**
+ * Xoroshiro128++ random generator.
+ * The generator uses a 128 bit state, a split creates a
+ * generator with the current state and jumps this generator
+ * \f$ 2^{64} \f$ values ahead, so the generators use
+ * non-overlapping subsequences
+ *
+ * @see <a href="https://prng.di.unimi.it/"></a>
+ */
+public final class CXoroshiro128PlusPlusRandomGenerator extends BitsStreamGenerator implements ISplittableRandomGenerator
+{
+    /**
+     * jump polynomial for 2^64 values
+     */
+    private static final long[] JUMP = {0x2bd7a6a6e99c2ddcL, 0x0992ccaf6a6fca05L};
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 3045785137418386470L;
+    /**
+     * first state value
+     */
+    private long m_state0;
+    /**
+     * second state value
+     */
+    private long m_state1;
+
+    /**
+     * ctor
+     */
+    public CXoroshiro128PlusPlusRandomGenerator()
+    {
+        this( System.nanoTime() ^ System.identityHashCode( Thread.currentThread() ) );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_seed seed
+     */
+    public CXoroshiro128PlusPlusRandomGenerator( final long p_seed )
+    {
+        this.setSeed( p_seed );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_state0 first state value
+     * @param p_state1 second state value
+     */
+    private CXoroshiro128PlusPlusRandomGenerator( final long p_state0, final long p_state1 )
+    {
+        m_state0 = p_state0;
+        m_state1 = p_state1;
+    }
+
+    @Override
+    public void setSeed( final int p_seed )
+    {
+        this.setSeed( (long) p_seed );
+    }
+
+    @Override
+    public void setSeed( final int[] p_seed )
+    {
+        long l_seed = 0;
+        for ( final int i : p_seed )
+            l_seed = l_seed * 0x100000001b3L + i;
+        this.setSeed( l_seed );
+    }
+
+    @Override
+    public void setSeed( final long p_seed )
+    {
+        // the state is expanded with SplitMix64, so it is never zero
+        m_state0 = CSplitMix64RandomGenerator.mix64( p_seed + 0x9e3779b97f4a7c15L );
+        m_state1 = CSplitMix64RandomGenerator.mix64( p_seed + 2 * 0x9e3779b97f4a7c15L );
+        this.clear();
+    }
+
+    @Override
+    protected int next( final int p_bits )
+    {
+        return (int) ( this.nextLong() >>> ( 64 - p_bits ) );
+    }
+
+    @Override
+    public long nextLong()
+    {
+        final long l_state0 = m_state0;
+        long l_state1 = m_state1;
+        final long l_result = Long.rotateLeft( l_state0 + l_state1, 17 ) + l_state0;
+
+        l_state1 ^= l_state0;
+        m_state0 = Long.rotateLeft( l_state0, 49 ) ^ l_state1 ^ ( l_state1 << 21 );
+        m_state1 = Long.rotateLeft( l_state1, 28 );
+
+        return l_result;
+    }
+
+    @Override
+    public double nextDouble()
+    {
+        return ( this.nextLong() >>> 11 ) * 0x1.0p-53;
+    }
+
+    @Nonnull
+    @Override
+    public ISplittableRandomGenerator split()
+    {
+        final ISplittableRandomGenerator l_generator = new CXoroshiro128PlusPlusRandomGenerator( m_state0, m_state1 );
+        this.jump();
+        return l_generator;
+    }
+
+    /**
+     * advances the state by 2^64 values
+     */
+    private void jump()
+    {
+        long l_state0 = 0;
+        long l_state1 = 0;
+
+        for ( final long i : JUMP )
+            for ( int j = 0; j < 64; j++ )
+            {
+                if ( ( i & ( 1L << j ) ) != 0 )
+                {
+                    l_state0 ^= m_state0;
+                    l_state1 ^= m_state1;
+                }
+                this.nextLong();
+            }
+
+        m_state0 = l_state0;
+        m_state1 = l_state1;
+        this.clear();
+    }
+}
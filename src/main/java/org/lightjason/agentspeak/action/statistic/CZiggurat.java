@@ -0,0 +1,212 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.statistic;
+
+import org.apache.commons.math3.random.RandomGenerator;
+
+import javax.annotation.Nonnull;
+
+
+/**
+ * ziggurat sampler of the standard normal and the standard exponential distribution.
+ * The density is covered by layers of equal area, a sample selects a layer and
+ * accepts in the most cases a value within the rectangle of the layer, so a sample
+ * needs mostly one random number and one multiplication, the layer index and the
+ * value are taken from different bits of the random number
+ *
+ * @see <a href="https://doi.org/10.18637/jss.v005.i08"></a>
+ */
+final class CZiggurat
+{
+    /**
+     * number of normal layers
+     */
+    private static final int NORMALLAYERS = 128;
+    /**
+     * start of the normal tail
+     */
+    private static final double NORMALTAIL = 3.442619855899;
+    /**
+     * area of a normal layer
+     */
+    private static final double NORMALAREA = 9.91256303526217e-3;
+    /**
+     * number of exponential layers
+     */
+    private static final int EXPONENTIALLAYERS = 256;
+    /**
+     * start of the exponential tail
+     */
+    private static final double EXPONENTIALTAIL = 7.697117470131487;
+    /**
+     * area of an exponential layer
+     */
+    private static final double EXPONENTIALAREA = 3.949659822581572e-3;
+    /**
+     * normal acceptance bounds
+     */
+    private static final long[] NORMALBOUND = new long[NORMALLAYERS];
+    /**
+     * normal layer widths
+     */
+    private static final double[] NORMALWIDTH = new double[NORMALLAYERS];
+    /**
+     * normal density at the layer bounds
+     */
+    private static final double[] NORMALDENSITY = new double[NORMALLAYERS];
+    /**
+     * exponential acceptance bounds
+     */
+    private static final long[] EXPONENTIALBOUND = new long[EXPONENTIALLAYERS];
+    /**
+     * exponential layer widths
+     */
+    private static final double[] EXPONENTIALWIDTH = new double[EXPONENTIALLAYERS];
+    /**
+     * exponential density at the layer bounds
+     */
+    private static final double[] EXPONENTIALDENSITY = new double[EXPONENTIALLAYERS];
+
+    static
+    {
+        // normal tables with 31 bit values
+        final double l_normalscale = 0x1.0p31;
+        double l_normal = NORMALTAIL;
+        double l_normalprevious = NORMALTAIL;
+        final double l_normalbase = NORMALAREA / Math.exp( -0.5 * l_normal * l_normal );
+
+        NORMALBOUND[0] = (long) ( l_normal / l_normalbase * l_normalscale );
+        NORMALBOUND[1] = 0;
+        NORMALWIDTH[0] = l_normalbase / l_normalscale;
+        NORMALWIDTH[NORMALLAYERS - 1] = l_normal / l_normalscale;
+        NORMALDENSITY[0] = 1;
+        NORMALDENSITY[NORMALLAYERS - 1] = Math.exp( -0.5 * l_normal * l_normal );
+
+        for ( int i = NORMALLAYERS - 2; i >= 1; i-- )
+        {
+            l_normal = Math.sqrt( -2 * Math.log( NORMALAREA / l_normal + Math.exp( -0.5 * l_normal * l_normal ) ) );
+            NORMALBOUND[i + 1] = (long) ( l_normal / l_normalprevious * l_normalscale );
+            l_normalprevious = l_normal;
+            NORMALDENSITY[i] = Math.exp( -0.5 * l_normal * l_normal );
+            NORMALWIDTH[i] = l_normal / l_normalscale;
+        }
+
+        // exponential tables with 32 bit values
+        final double l_exponentialscale = 0x1.0p32;
+        double l_exponential = EXPONENTIALTAIL;
+        double l_exponentialprevious = EXPONENTIALTAIL;
+        final double l_exponentialbase = EXPONENTIALAREA / Math.exp( -l_exponential );
+
+        EXPONENTIALBOUND[0] = (long) ( l_exponential / l_exponentialbase * l_exponentialscale );
+        EXPONENTIALBOUND[1] = 0;
+        EXPONENTIALWIDTH[0] = l_exponentialbase / l_exponentialscale;
+        EXPONENTIALWIDTH[EXPONENTIALLAYERS - 1] = l_exponential / l_exponentialscale;
+        EXPONENTIALDENSITY[0] = 1;
+        EXPONENTIALDENSITY[EXPONENTIALLAYERS - 1] = Math.exp( -l_exponential );
+
+        for ( int i = EXPONENTIALLAYERS - 2; i >= 1; i-- )
+        {
+            l_exponential = -Math.log( EXPONENTIALAREA / l_exponential + Math.exp( -l_exponential ) );
+            EXPONENTIALBOUND[i + 1] = (long) ( l_exponential / l_exponentialprevious * l_exponentialscale );
+            l_exponentialprevious = l_exponential;
+            EXPONENTIALDENSITY[i] = Math.exp( -l_exponential );
+            EXPONENTIALWIDTH[i] = l_exponential / l_exponentialscale;
+        }
+    }
+
+    /**
+     * ctor
+     */
+    private CZiggurat()
+    {
+    }
+
+    /**
+     * samples a standard normal value
+     *
+     * @param p_generator generator
+     * @return value
+     */
+    static double normal( @Nonnull final RandomGenerator p_generator )
+    {
+        while ( true )
+        {
+            final long l_random = p_generator.nextLong();
+            final int l_value = (int) l_random;
+            final int l_layer = (int) ( l_random >>> 57 );
+
+            if ( Math.abs( (long) l_value ) < NORMALBOUND[l_layer] )
+                return l_value * NORMALWIDTH[l_layer];
+
+            // tail
+            if ( l_layer == 0 )
+            {
+                double l_tail;
+                double l_height;
+                do
+                {
+                    l_tail = -Math.log( 1 - p_generator.nextDouble() ) / NORMALTAIL;
+                    l_height = -Math.log( 1 - p_generator.nextDouble() );
+                } while ( l_height + l_height < l_tail * l_tail );
+
+                return l_value > 0 ? NORMALTAIL + l_tail : -NORMALTAIL - l_tail;
+            }
+
+            // wedge
+            final double l_result = l_value * NORMALWIDTH[l_layer];
+            if ( NORMALDENSITY[l_layer] + p_generator.nextDouble() * ( NORMALDENSITY[l_layer - 1] - NORMALDENSITY[l_layer] )
+                 < Math.exp( -0.5 * l_result * l_result ) )
+                return l_result;
+        }
+    }
+
+    /**
+     * samples a standard exponential value
+     *
+     * @param p_generator generator
+     * @return value
+     */
+    static double exponential( @Nonnull final RandomGenerator p_generator )
+    {
+        while ( true )
+        {
+            final long l_random = p_generator.nextLong();
+            final long l_value = l_random & 0xffffffffL;
+            final int l_layer = (int) ( l_random >>> 56 );
+
+            if ( l_value < EXPONENTIALBOUND[l_layer] )
+                return l_value * EXPONENTIALWIDTH[l_layer];
+
+            // tail, the exponential distribution is memoryless
+            if ( l_layer == 0 )
+                return EXPONENTIALTAIL - Math.log( 1 - p_generator.nextDouble() );
+
+            // wedge
+            final double l_result = l_value * EXPONENTIALWIDTH[l_layer];
+            if ( EXPONENTIALDENSITY[l_layer] + p_generator.nextDouble() * ( EXPONENTIALDENSITY[l_layer - 1] - EXPONENTIALDENSITY[l_layer] )
+                 < Math.exp( -l_result ) )
+                return l_result;
+        }
+    }
+}
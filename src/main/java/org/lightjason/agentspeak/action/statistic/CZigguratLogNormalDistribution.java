@@ -0,0 +1,64 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.statistic;
+
+import org.apache.commons.math3.distribution.LogNormalDistribution;
+import org.apache.commons.math3.random.RandomGenerator;
+
+import javax.annotation.Nonnull;
+
+
+/**
+ * lognormal distribution with a ziggurat sampler.
+ * The distribution functions are defined by the
+ * commons-math distribution, only the sampling uses
+ * the ziggurat method without any allocation
+ *
+ * @see <a href="https://doi.org/10.18637/jss.v005.i08"></a>
+ */
+public final class CZigguratLogNormalDistribution extends LogNormalDistribution
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 2315590046152409921L;
+
+    /**
+     * ctor
+     *
+     * @param p_generator generator
+     * @param p_scale scale
+     * @param p_shape shape
+     */
+    public CZigguratLogNormalDistribution( @Nonnull final RandomGenerator p_generator, final double p_scale, final double p_shape )
+    {
+        super( p_generator, p_scale, p_shape );
+    }
+
+    @Override
+    public double sample()
+    {
+        return Math.exp( this.getScale() + this.getShape() * CZiggurat.normal( random ) );
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.statistic;
+
+import org.apache.commons.math3.distribution.NormalDistribution;
+import org.apache.commons.math3.random.RandomGenerator;
+
+import javax.annotation.Nonnull;
+
+
+/**
+ * normal distribution with a ziggurat sampler.
+ * The distribution functions are defined by the
+ * commons-math distribution, only the sampling uses
+ * the ziggurat method without any allocation
+ *
+ * @see <a href="https://doi.org/10.18637/jss.v005.i08"></a>
+ */
+public final class CZigguratNormalDistribution extends NormalDistribution
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -4470016378921863263L;
+
+    /**
+     * ctor
+     *
+     * @param p_generator generator
+     * @param p_mean mean
+     * @param p_deviation standard deviation
+     */
+    public CZigguratNormalDistribution( @Nonnull final RandomGenerator p_generator, final double p_mean, final double p_deviation )
+    {
+        super( p_generator, p_mean, p_deviation );
+    }
+
+    @Override
+    public double sample()
+    {
+        return this.getMean() + this.getStandardDeviation() * CZiggurat.normal( random );
+    }
+}
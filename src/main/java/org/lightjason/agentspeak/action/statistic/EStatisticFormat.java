@@ -0,0 +1,484 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.statistic;
+
+import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
+import org.apache.commons.math3.stat.descriptive.SummaryStatistics;
+import org.apache.commons.math3.stat.descriptive.SynchronizedDescriptiveStatistics;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+
+/**
+ * binary format of statistic objects.
+ * A file starts with a magic number, the format version and the number of
+ * statistic objects, each statistic object is stored as record with the type,
+ * the length and the encoded state, all numbers are little-endian, summary
+ * statistics are stored with their moments, descriptive statistics with the
+ * values of the window, sketches with their centroids and histograms
+ * with their non-empty buckets
+ */
+public enum EStatisticFormat
+{
+    SUMMARY( 1 )
+    {
+        @Override
+        public final boolean accepts( @Nonnull final Object p_statistic )
+        {
+            return p_statistic instanceof SummaryStatistics;
+        }
+
+        @Nonnull
+        @Override
+        protected final ByteBuffer encode( @Nonnull final Object p_statistic )
+        {
+            // a copy is consistent for synchronized and striped statistics
+            final SummaryStatistics l_statistic = ( (SummaryStatistics) p_statistic ).copy();
+            return EStatisticFormat.allocate( Long.BYTES + 7 * Double.BYTES )
+                                   .putLong( l_statistic.getN() ).putDouble( l_statistic.getMean() ).putDouble( l_statistic.getSecondMoment() )
+                                   .putDouble( l_statistic.getSum() ).putDouble( l_statistic.getSumsq() ).putDouble( l_statistic.getSumOfLogs() )
+                                   .putDouble( l_statistic.getMin() ).putDouble( l_statistic.getMax() );
+        }
+
+        @Nonnull
+        @Override
+        protected final Object decode( @Nonnull final ByteBuffer p_buffer )
+        {
+            return CStripedSummaryStatistics.of(
+                p_buffer.getLong(), p_buffer.getDouble(), p_buffer.getDouble(), p_buffer.getDouble(),
+                p_buffer.getDouble(), p_buffer.getDouble(), p_buffer.getDouble(), p_buffer.getDouble()
+            );
+        }
+    },
+    DESCRIPTIVE( 2 )
+    {
+        @Override
+        public final boolean accepts( @Nonnull final Object p_statistic )
+        {
+            return p_statistic instanceof DescriptiveStatistics;
+        }
+
+        @Nonnull
+        @Override
+        protected final ByteBuffer encode( @Nonnull final Object p_statistic )
+        {
+            final DescriptiveStatistics l_statistic = (DescriptiveStatistics) p_statistic;
+            final int l_window;
+            final double[] l_values;
+            synchronized ( l_statistic )
+            {
+                l_window = l_statistic.getWindowSize();
+                l_values = l_statistic.getValues();
+            }
+
+            return EStatisticFormat.encodevalues(
+                EStatisticFormat.allocate( 1 + Integer.BYTES + EStatisticFormat.size( l_values ) )
+                                .put( (byte) ( l_statistic instanceof SynchronizedDescriptiveStatistics ? 1 : 0 ) )
+                                .putInt( l_window ),
+                l_values
+            );
+        }
+
+        @Nonnull
+        @Override
+        protected final Object decode( @Nonnull final ByteBuffer p_buffer )
+        {
+            final DescriptiveStatistics l_statistic = p_buffer.get() == 0
+                                                      ? new CSortedDescriptiveStatistics()
+                                                      : new CSynchronizedSortedDescriptiveStatistics();
+            l_statistic.setWindowSize( p_buffer.getInt() );
+            Arrays.stream( EStatisticFormat.decodevalues( p_buffer ) ).forEach( l_statistic::addValue );
+            return l_statistic;
+        }
+    },
+    TDIGEST( 3 )
+    {
+        @Override
+        public final boolean accepts( @Nonnull final Object p_statistic )
+        {
+            return p_statistic instanceof CTDigestStatistic;
+        }
+
+        @Nonnull
+        @Override
+        protected final ByteBuffer encode( @Nonnull final Object p_statistic )
+        {
+            return ( (CTDigestStatistic) p_statistic ).encode( EStatisticFormat::allocate );
+        }
+
+        @Nonnull
+        @Override
+        protected final Object decode( @Nonnull final ByteBuffer p_buffer )
+        {
+            return CTDigestStatistic.decode( p_buffer );
+        }
+    },
+    EXPONENTIALMOVING( 4 )
+    {
+        @Override
+        public final boolean accepts( @Nonnull final Object p_statistic )
+        {
+            return p_statistic instanceof CExponentialMovingStatistic;
+        }
+
+        @Nonnull
+        @Override
+        protected final ByteBuffer encode( @Nonnull final Object p_statistic )
+        {
+            return ( (CExponentialMovingStatistic) p_statistic ).encode( EStatisticFormat::allocate );
+        }
+
+        @Nonnull
+        @Override
+        protected final Object decode( @Nonnull final ByteBuffer p_buffer )
+        {
+            return CExponentialMovingStatistic.decode( p_buffer );
+        }
+    },
+    SLIDINGWINDOW( 5 )
+    {
+        @Override
+        public final boolean accepts( @Nonnull final Object p_statistic )
+        {
+            return p_statistic instanceof CSlidingWindowStatistic;
+        }
+
+        @Nonnull
+        @Override
+        protected final ByteBuffer encode( @Nonnull final Object p_statistic )
+        {
+            final CSlidingWindowStatistic l_statistic = (CSlidingWindowStatistic) p_statistic;
+            final double[] l_values = l_statistic.values();
+            return EStatisticFormat.encodevalues(
+                EStatisticFormat.allocate( Integer.BYTES + EStatisticFormat.size( l_values ) ).putInt( l_statistic.window() ),
+                l_values
+            );
+        }
+
+        @Nonnull
+        @Override
+        protected final Object decode( @Nonnull final ByteBuffer p_buffer )
+        {
+            final CSlidingWindowStatistic l_statistic = new CSlidingWindowStatistic( p_buffer.getInt() );
+            Arrays.stream( EStatisticFormat.decodevalues( p_buffer ) ).forEach( l_statistic::addValue );
+            return l_statistic;
+        }
+    },
+    OFFHEAP( 6 )
+    {
+        @Override
+        public final boolean accepts( @Nonnull final Object p_statistic )
+        {
+            return p_statistic instanceof COffHeapStatistic;
+        }
+
+        @Nonnull
+        @Override
+        protected final ByteBuffer encode( @Nonnull final Object p_statistic )
+        {
+            final COffHeapStatistic l_statistic = (COffHeapStatistic) p_statistic;
+            final double[] l_values = l_statistic.values();
+            return EStatisticFormat.encodevalues(
+                EStatisticFormat.allocate( 1 + Integer.BYTES + EStatisticFormat.size( l_values ) )
+                                .put( (byte) ( l_statistic.mapped() ? 1 : 0 ) )
+                                .putInt( l_statistic.window() ),
+                l_values
+            );
+        }
+
+        @Nonnull
+        @Override
+        protected final Object decode( @Nonnull final ByteBuffer p_buffer )
+        {
+            // a mapped statistic is restored into a new temporary file
+            final boolean l_mapped = p_buffer.get() != 0;
+            final int l_window = p_buffer.getInt();
+            final COffHeapStatistic l_statistic = l_mapped ? COffHeapStatistic.temporary( l_window ) : new COffHeapStatistic( l_window );
+            Arrays.stream( EStatisticFormat.decodevalues( p_buffer ) ).forEach( l_statistic::addValue );
+            return l_statistic;
+        }
+    },
+    HISTOGRAM( 7 )
+    {
+        @Override
+        public final boolean accepts( @Nonnull final Object p_statistic )
+        {
+            return p_statistic instanceof CHistogramStatistic;
+        }
+
+        @Nonnull
+        @Override
+        protected final ByteBuffer encode( @Nonnull final Object p_statistic )
+        {
+            return ( (CHistogramStatistic) p_statistic ).encode( EStatisticFormat::allocate );
+        }
+
+        @Nonnull
+        @Override
+        protected final Object decode( @Nonnull final ByteBuffer p_buffer )
+        {
+            return CHistogramStatistic.decode( p_buffer );
+        }
+    };
+
+    /**
+     * magic number of a statistic file
+     */
+    public static final int MAGIC = 0x4c4a5354;
+    /**
+     * format version
+     */
+    public static final int VERSION = 1;
+    /**
+     * size of the file header
+     */
+    private static final int HEADERSIZE = 3 * Integer.BYTES;
+    /**
+     * size of the record header
+     */
+    private static final int RECORDSIZE = 1 + Integer.BYTES;
+    /**
+     * type identifier
+     */
+    private final byte m_type;
+
+    /**
+     * ctor
+     *
+     * @param p_type type identifier
+     */
+    EStatisticFormat( final int p_type )
+    {
+        m_type = (byte) p_type;
+    }
+
+    /**
+     * returns the format of a statistic object
+     *
+     * @param p_statistic statistic object
+     * @return format
+     * @throws IllegalArgumentException if the statistic object is not supported
+     */
+    @Nonnull
+    public static EStatisticFormat of( @Nonnull final Object p_statistic )
+    {
+        return Arrays.stream( EStatisticFormat.values() )
+                     .filter( i -> i.accepts( p_statistic ) )
+                     .findFirst()
+                     .orElseThrow( () -> new IllegalArgumentException( p_statistic.getClass().getName() ) );
+    }
+
+    /**
+     * writes statistic objects into a file, the file
+     * is replaced after all data are written
+     *
+     * @param p_file file
+     * @param p_statistics statistic objects
+     * @throws IOException on writing error
+     */
+    public static void write( @Nonnull final Path p_file, @Nonnull final List<?> p_statistics ) throws IOException
+    {
+        // header, record header and record of each statistic are written with a single gathering write
+        final ByteBuffer[] l_buffers = new ByteBuffer[1 + 2 * p_statistics.size()];
+        l_buffers[0] = EStatisticFormat.allocate( HEADERSIZE ).putInt( MAGIC ).putInt( VERSION ).putInt( p_statistics.size() ).flip();
+
+        for ( int i = 0; i < p_statistics.size(); i++ )
+        {
+            final EStatisticFormat l_format = EStatisticFormat.of( p_statistics.get( i ) );
+            final ByteBuffer l_record = l_format.encode( p_statistics.get( i ) ).flip();
+
+            l_buffers[2 * i + 1] = EStatisticFormat.allocate( RECORDSIZE ).put( l_format.m_type ).putInt( l_record.remaining() ).flip();
+            l_buffers[2 * i + 2] = l_record;
+        }
+
+        final Path l_temporary = p_file.resolveSibling( p_file.getFileName() + ".tmp" );
+        try ( FileChannel l_channel = FileChannel.open(
+            l_temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING ) )
+        {
+            while ( l_buffers[l_buffers.length - 1].hasRemaining() )
+                l_channel.write( l_buffers );
+        }
+
+        try
+        {
+            Files.move( l_temporary, p_file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+        }
+        catch ( final AtomicMoveNotSupportedException l_exception )
+        {
+            Files.move( l_temporary, p_file, StandardCopyOption.REPLACE_EXISTING );
+        }
+    }
+
+    /**
+     * reads statistic objects of a file
+     *
+     * @param p_file file
+     * @return statistic objects
+     * @throws IOException on reading error or an invalid file
+     */
+    @Nonnull
+    public static List<Object> read( @Nonnull final Path p_file ) throws IOException
+    {
+        final ByteBuffer l_buffer;
+        try ( FileChannel l_channel = FileChannel.open( p_file, StandardOpenOption.READ ) )
+        {
+            l_buffer = l_channel.map( FileChannel.MapMode.READ_ONLY, 0, l_channel.size() ).order( ByteOrder.LITTLE_ENDIAN );
+        }
+
+        if ( l_buffer.remaining() < HEADERSIZE || l_buffer.getInt() != MAGIC )
+            throw new IOException( p_file + " is not a statistic file" );
+
+        final int l_version = l_buffer.getInt();
+        if ( l_version != VERSION )
+            throw new IOException( p_file + " has the unsupported version " + l_version );
+
+        final int l_size = l_buffer.getInt();
+        final List<Object> l_statistics = new ArrayList<>( Math.max( 0, l_size ) );
+        try
+        {
+            for ( int i = 0; i < l_size; i++ )
+            {
+                final EStatisticFormat l_format = EStatisticFormat.of( l_buffer.get() );
+                final int l_length = l_buffer.getInt();
+                final int l_end = l_buffer.position() + l_length;
+
+                l_statistics.add( l_format.decode( l_buffer.slice().limit( l_length ).order( ByteOrder.LITTLE_ENDIAN ) ) );
+                l_buffer.position( l_end );
+            }
+        }
+        catch ( final RuntimeException l_exception )
+        {
+            throw new IOException( p_file + " is corrupted", l_exception );
+        }
+
+        return l_statistics;
+    }
+
+    /**
+     * returns the format of a type identifier
+     *
+     * @param p_type type identifier
+     * @return format
+     */
+    @Nonnull
+    private static EStatisticFormat of( final byte p_type )
+    {
+        return Arrays.stream( EStatisticFormat.values() )
+                     .filter( i -> i.m_type == p_type )
+                     .findFirst()
+                     .orElseThrow( () -> new IllegalArgumentException( Byte.toString( p_type ) ) );
+    }
+
+    /**
+     * allocates a little-endian buffer
+     *
+     * @param p_size size in bytes
+     * @return buffer
+     */
+    @Nonnull
+    private static ByteBuffer allocate( final int p_size )
+    {
+        return ByteBuffer.allocate( p_size ).order( ByteOrder.LITTLE_ENDIAN );
+    }
+
+    /**
+     * size of encoded values
+     *
+     * @param p_values values
+     * @return size in bytes
+     */
+    private static int size( @Nonnull final double[] p_values )
+    {
+        return Integer.BYTES + p_values.length * Double.BYTES;
+    }
+
+    /**
+     * writes values with a bulk copy
+     *
+     * @param p_buffer buffer
+     * @param p_values values
+     * @return buffer
+     */
+    @Nonnull
+    private static ByteBuffer encodevalues( @Nonnull final ByteBuffer p_buffer, @Nonnull final double[] p_values )
+    {
+        p_buffer.putInt( p_values.length );
+        p_buffer.asDoubleBuffer().put( p_values );
+        return p_buffer.position( p_buffer.position() + p_values.length * Double.BYTES );
+    }
+
+    /**
+     * reads values with a bulk copy
+     *
+     * @param p_buffer buffer
+     * @return values
+     */
+    @Nonnull
+    private static double[] decodevalues( @Nonnull final ByteBuffer p_buffer )
+    {
+        final double[] l_values = new double[p_buffer.getInt()];
+        p_buffer.asDoubleBuffer().get( l_values );
+        p_buffer.position( p_buffer.position() + l_values.length * Double.BYTES );
+        return l_values;
+    }
+
+    /**
+     * checks if a statistic object can be stored with this format
+     *
+     * @param p_statistic statistic object
+     * @return acceptance
+     */
+    public abstract boolean accepts( @Nonnull final Object p_statistic );
+
+    /**
+     * encodes a statistic object
+     *
+     * @param p_statistic statistic object
+     * @return buffer with the encoded statistic, the position is the end of the data
+     */
+    @Nonnull
+    protected abstract ByteBuffer encode( @Nonnull final Object p_statistic );
+
+    /**
+     * decodes a statistic object
+     *
+     * @param p_buffer buffer with the encoded statistic
+     * @return statistic object
+     */
+    @Nonnull
+    protected abstract Object decode( @Nonnull final ByteBuffer p_buffer );
+
+}
@@ -28,11 +28,20 @@ import org.apache.commons.math3.stat.descriptive.SummaryStatistics;
 import org.lightjason.agentspeak.error.CEnumConstantNotPresentException;
 
 import javax.annotation.Nonnull;
+import java.util.Arrays;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
 
 
 /**
- * enum of statistic value types
+ * enum of statistic value types.
+ * The names are resolved with a cache of the argument strings and
+ * each value has an accessor for each concrete statistic class, so
+ * reading a value does not parse the name or check the statistic type
  */
 public enum EStatisticValue implements IStatisticValue
 {
@@ -51,6 +60,15 @@ public enum EStatisticValue implements IStatisticValue
             return p_statistic.getGeometricMean();
         }
 
+        @Override
+        public double value( @Nonnull final IStatistic p_statistic )
+        {
+            if ( p_statistic instanceof IDescriptive )
+                return ( (IDescriptive) p_statistic ).getGeometricMean();
+
+            throw new CEnumConstantNotPresentException( this.getClass(), this.toString() );
+        }
+
     },
     MAX
     {
@@ -67,6 +85,12 @@ public enum EStatisticValue implements IStatisticValue
             return p_statistic.getMax();
         }
 
+        @Override
+        public double value( @Nonnull final IStatistic p_statistic )
+        {
+            return p_statistic.getMax();
+        }
+
     },
     MIN
     {
@@ -83,6 +107,12 @@ public enum EStatisticValue implements IStatisticValue
             return p_statistic.getMin();
         }
 
+        @Override
+        public double value( @Nonnull final IStatistic p_statistic )
+        {
+            return p_statistic.getMin();
+        }
+
     },
     COUNT
     {
@@ -99,6 +129,12 @@ public enum EStatisticValue implements IStatisticValue
             return p_statistic.getN();
         }
 
+        @Override
+        public double value( @Nonnull final IStatistic p_statistic )
+        {
+            return p_statistic.getN();
+        }
+
     },
     POPULATIONVARIANCE
     {
@@ -115,6 +151,12 @@ public enum EStatisticValue implements IStatisticValue
             return p_statistic.getPopulationVariance();
         }
 
+        @Override
+        public double value( @Nonnull final IStatistic p_statistic )
+        {
+            return p_statistic.getSecondMoment() / p_statistic.getWeight();
+        }
+
     },
     QUADRATICMEAN
     {
@@ -131,6 +173,12 @@ public enum EStatisticValue implements IStatisticValue
             return p_statistic.getQuadraticMean();
         }
 
+        @Override
+        public double value( @Nonnull final IStatistic p_statistic )
+        {
+            return Math.sqrt( p_statistic.getSecondMoment() / p_statistic.getWeight() + p_statistic.getMean() * p_statistic.getMean() );
+        }
+
     },
     SECONDMOMENT
     {
@@ -147,6 +195,12 @@ public enum EStatisticValue implements IStatisticValue
             throw new CEnumConstantNotPresentException( this.getClass(), this.toString() );
         }
 
+        @Override
+        public double value( @Nonnull final IStatistic p_statistic )
+        {
+            return p_statistic.getSecondMoment();
+        }
+
     },
     STANDARDDEVIATION
     {
@@ -163,6 +217,12 @@ public enum EStatisticValue implements IStatisticValue
             return p_statistic.getStandardDeviation();
         }
 
+        @Override
+        public double value( @Nonnull final IStatistic p_statistic )
+        {
+            return p_statistic.getStandardDeviation();
+        }
+
     },
     SUM
     {
@@ -179,6 +239,12 @@ public enum EStatisticValue implements IStatisticValue
             return p_statistic.getSum();
         }
 
+        @Override
+        public double value( @Nonnull final IStatistic p_statistic )
+        {
+            return p_statistic.getSum();
+        }
+
     },
     SUMLOG
     {
@@ -195,6 +261,15 @@ public enum EStatisticValue implements IStatisticValue
             throw new CEnumConstantNotPresentException( this.getClass(), this.toString() );
         }
 
+        @Override
+        public double value( @Nonnull final IStatistic p_statistic )
+        {
+            if ( p_statistic instanceof IDescriptive )
+                return ( (IDescriptive) p_statistic ).getSumOfLogs();
+
+            throw new CEnumConstantNotPresentException( this.getClass(), this.toString() );
+        }
+
     },
     SUMSQUARE
     {
@@ -211,6 +286,12 @@ public enum EStatisticValue implements IStatisticValue
             return p_statistic.getSumsq();
         }
 
+        @Override
+        public double value( @Nonnull final IStatistic p_statistic )
+        {
+            return p_statistic.getSecondMoment() + p_statistic.getWeight() * p_statistic.getMean() * p_statistic.getMean();
+        }
+
     },
     VARIANCE
     {
@@ -227,6 +308,12 @@ public enum EStatisticValue implements IStatisticValue
             return p_statistic.getVariance();
         }
 
+        @Override
+        public double value( @Nonnull final IStatistic p_statistic )
+        {
+            return p_statistic.getVariance();
+        }
+
     },
     MEAN
     {
@@ -243,6 +330,12 @@ public enum EStatisticValue implements IStatisticValue
             return p_statistic.getMean();
         }
 
+        @Override
+        public double value( @Nonnull final IStatistic p_statistic )
+        {
+            return p_statistic.getMean();
+        }
+
     },
     KURTIOSIS
     {
@@ -259,6 +352,40 @@ public enum EStatisticValue implements IStatisticValue
             return p_statistic.getKurtosis();
         }
 
+        @Override
+        public double value( @Nonnull final IStatistic p_statistic )
+        {
+            if ( p_statistic instanceof IDescriptive )
+                return ( (IDescriptive) p_statistic ).getKurtosis();
+
+            throw new CEnumConstantNotPresentException( this.getClass(), this.toString() );
+        }
+
+    };
+
+    /**
+     * maximum number of cached names
+     */
+    private static final int NAMESIZE = 1024;
+    /**
+     * cache of the names, the lower-case names are defined initially
+     */
+    private static final Map<String, EStatisticValue> NAMES = new ConcurrentHashMap<>(
+        Arrays.stream( EStatisticValue.values() ).collect( Collectors.toMap( i -> i.name().toLowerCase( Locale.ROOT ), Function.identity() ) )
+    );
+    /**
+     * accessors of each statistic class, indexed by the ordinal
+     */
+    private static final ClassValue<ToDoubleFunction<Object>[]> ACCESSORS = new ClassValue<>()
+    {
+        @Override
+        @SuppressWarnings( "unchecked" )
+        protected ToDoubleFunction<Object>[] computeValue( final Class<?> p_class )
+        {
+            return Arrays.stream( EStatisticValue.values() )
+                         .map( i -> i.compile( p_class ) )
+                         .toArray( ToDoubleFunction[]::new );
+        }
     };
 
     /**
@@ -270,7 +397,55 @@ public enum EStatisticValue implements IStatisticValue
     @Nonnull
     public static EStatisticValue of( @Nonnull final String p_value )
     {
-        return EStatisticValue.valueOf( p_value.trim().toUpperCase( Locale.ROOT ) );
+        final EStatisticValue l_value = NAMES.get( p_value );
+        if ( l_value != null )
+            return l_value;
+
+        final EStatisticValue l_resolved = EStatisticValue.valueOf( p_value.trim().toUpperCase( Locale.ROOT ) );
+        if ( NAMES.size() < NAMESIZE )
+            NAMES.put( p_value, l_resolved );
+        return l_resolved;
+    }
+
+    /**
+     * returns the accessor of the value for a statistic class
+     *
+     * @param p_class statistic class
+     * @return accessor
+     */
+    @Nonnull
+    public final ToDoubleFunction<Object> accessor( @Nonnull final Class<?> p_class )
+    {
+        return ACCESSORS.get( p_class )[this.ordinal()];
+    }
+
+    /**
+     * returns the value of a statistic object
+     *
+     * @param p_statistic statistic object
+     * @return value
+     */
+    public final double value( @Nonnull final Object p_statistic )
+    {
+        return ACCESSORS.get( p_statistic.getClass() )[this.ordinal()].applyAsDouble( p_statistic );
+    }
+
+    /**
+     * creates the accessor of the value for a statistic class
+     *
+     * @param p_class statistic class
+     * @return accessor
+     */
+    @Nonnull
+    private ToDoubleFunction<Object> compile( @Nonnull final Class<?> p_class )
+    {
+        if ( SummaryStatistics.class.isAssignableFrom( p_class ) )
+            return i -> this.value( (SummaryStatistics) i );
+
+        if ( IStatistic.class.isAssignableFrom( p_class ) )
+            return i -> this.value( (IStatistic) i );
+
+        return i -> this.value( (DescriptiveStatistics) i );
     }
 
 }
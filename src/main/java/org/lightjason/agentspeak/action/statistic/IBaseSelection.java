@@ -33,6 +33,8 @@ import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
@@ -41,7 +43,17 @@ import java.util.stream.Stream;
 
 /**
  * abstract class for creating a selection one element
- * of a list based on a fitness weight
+ * of a list based on a fitness weight, a single selection
+ * is drawn with a linear scan of the cumulative weights,
+ * after the required arguments an optional number of draws
+ * and an optional boolean replacement flag (default true) can
+ * be set, if a number of draws is set a list is returned, draws with
+ * replacement are drawn from an alias table, which is built once
+ * for all draws of the call, draws without replacement are
+ * calculated with the A-Res algorithm of Efraimidis and Spirakis,
+ * if all weights are zero the first items are selected
+ *
+ * @see <a href="https://doi.org/10.1016/j.ipl.2005.11.003"></a>
  */
 public abstract class IBaseSelection extends IBaseAction
 {
@@ -59,50 +71,194 @@ public abstract class IBaseSelection extends IBaseAction
 
     @Nonnull
     @Override
-    @SuppressWarnings( "unchecked" )
     public final Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
                                                  @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return )
     {
         // first and second parameter are lists with values or variables, other values are possible passing arguments
-        final List<Object> l_items = p_argument.get( 0 )
-                                               .<List<Object>>raw()
-                                               .stream()
-                                               .map( i -> IBaseSelection.type( p_context, i ) )
-                                               .collect( Collectors.toList() );
-
-        final List<Double> l_weight = this.weight(
-            l_items,
-
-            p_argument.get( 1 )
-                      .<List<Object>>raw()
-                      .stream()
-                      .map( i -> IBaseSelection.<Number>type( p_context, i ) )
-                      .map( Number::doubleValue )
-                      .map( Math::abs ),
-
-            p_argument.subList( 2, p_argument.size() )
-        );
-
-        if ( l_items.isEmpty() || l_items.size() != l_weight.size() )
+        final List<?> l_items = p_argument.get( 0 ).raw();
+        final List<?> l_values = p_argument.get( 1 ).raw();
+
+        final double[] l_weight = new double[l_values.size()];
+        for ( int i = 0; i < l_weight.length; i++ )
+            l_weight[i] = Math.abs( IBaseSelection.<Number>type( p_context, l_values.get( i ) ).doubleValue() );
+
+        final double[] l_modified = this.weight( l_items, l_weight, p_argument.subList( 2, p_argument.size() ) );
+
+        if ( l_items.isEmpty() || l_items.size() != l_modified.length )
             throw new CExecutionIllegealArgumentException(
                 p_context, org.lightjason.agentspeak.common.CCommon.languagestring( IBaseSelection.class, "novaluepresent" )
             );
 
-        // select a random value and scale with the sum and caluclate result item
-        double l_random = ThreadLocalRandom.current().nextDouble() * l_weight.stream().mapToDouble( i -> i ).sum();
-        for ( int i = 0; i < l_weight.size(); i++ )
+        // a single draw scans the weights, only the selected item is resolved
+        final int l_optional = 2 + this.additionalArgumentNumber();
+        if ( p_argument.size() <= l_optional )
+        {
+            p_return.add( CRawTerm.of( IBaseSelection.type( p_context, l_items.get( IBaseSelection.single( l_modified ) ) ) ) );
+            return Stream.empty();
+        }
+
+        final Object l_count = IBaseSelection.type( p_context, p_argument.get( l_optional ) );
+        final Object l_replacement = p_argument.size() <= l_optional + 1 ? Boolean.TRUE : IBaseSelection.type( p_context, p_argument.get( l_optional + 1 ) );
+        if ( !( l_count instanceof Number ) || !( l_replacement instanceof Boolean ) )
+            throw new CExecutionIllegealArgumentException(
+                p_context, org.lightjason.agentspeak.common.CCommon.languagestring( IBaseSelection.class, "argumenterror", l_count, l_replacement )
+            );
+
+        final int[] l_selection = (Boolean) l_replacement
+                                  ? IBaseSelection.replacement( l_modified, Math.max( 0, ( (Number) l_count ).intValue() ) )
+                                  : IBaseSelection.withoutreplacement( l_modified, Math.max( 0, ( (Number) l_count ).intValue() ) );
+
+        final List<Object> l_result = Arrays.stream( l_selection )
+                                            .mapToObj( i -> IBaseSelection.type( p_context, l_items.get( i ) ) )
+                                            .collect( Collectors.toList() );
+        p_return.add( CRawTerm.of( p_parallel ? Collections.synchronizedList( l_result ) : l_result ) );
+        return Stream.empty();
+    }
+
+    /**
+     * draws an index with a linear scan of the cumulative weights
+     *
+     * @param p_weight weights
+     * @return index, the first index if all weights are zero
+     */
+    @Nonnegative
+    private static int single( @Nonnull final double[] p_weight )
+    {
+        double l_sum = 0;
+        for ( final double i : p_weight )
+            l_sum += i;
+
+        // select a random value and scale with the sum, on rounding error return last element
+        double l_random = ThreadLocalRandom.current().nextDouble() * l_sum;
+        for ( int i = 0; i < p_weight.length; i++ )
         {
-            l_random -= l_weight.get( i );
+            l_random -= p_weight[i];
             if ( l_random <= 0 )
+                return i;
+        }
+
+        return p_weight.length - 1;
+    }
+
+    /**
+     * draws indices with replacement from an alias table
+     *
+     * @param p_weight weights
+     * @param p_count number of draws
+     * @return indices
+     */
+    @Nonnull
+    private static int[] replacement( @Nonnull final double[] p_weight, @Nonnegative final int p_count )
+    {
+        final int[] l_selection = new int[p_count];
+        if ( p_count == 0 || Arrays.stream( p_weight ).allMatch( i -> i == 0 ) )
+            return l_selection;
+
+        final CAliasTable l_table = new CAliasTable( p_weight );
+        for ( int i = 0; i < p_count; i++ )
+            l_selection[i] = l_table.getAsInt();
+        return l_selection;
+    }
+
+    /**
+     * draws indices without replacement, each element gets the key \f$ \frac{ \log u }{ w } \f$
+     * and the elements with the largest keys are kept within a min-heap
+     *
+     * @param p_weight weights
+     * @param p_count number of draws
+     * @return indices, at most the number of weights
+     */
+    @Nonnull
+    private static int[] withoutreplacement( @Nonnull final double[] p_weight, @Nonnegative final int p_count )
+    {
+        final int l_size = Math.min( p_count, p_weight.length );
+        final double[] l_key = new double[l_size];
+        final int[] l_index = new int[l_size];
+        final ThreadLocalRandom l_random = ThreadLocalRandom.current();
+
+        for ( int i = 0; i < p_weight.length; i++ )
+        {
+            final double l_value = p_weight[i] > 0
+                                   ? Math.log( 1 - l_random.nextDouble() ) / p_weight[i]
+                                   : Double.NEGATIVE_INFINITY;
+            if ( i < l_size )
             {
-                p_return.add( CRawTerm.of( l_items.get( i ) ) );
-                return Stream.empty();
+                l_key[i] = l_value;
+                l_index[i] = i;
+                IBaseSelection.siftup( l_key, l_index, i );
+            }
+            else if ( l_size > 0 && l_value > l_key[0] )
+            {
+                l_key[0] = l_value;
+                l_index[0] = i;
+                IBaseSelection.siftdown( l_key, l_index, l_size );
             }
         }
 
-        // on rounding error return last element
-        p_return.add( CRawTerm.of( l_items.get( l_items.size() - 1 ) ) );
-        return Stream.empty();
+        return l_index;
+    }
+
+    /**
+     * moves the element up within the min-heap
+     *
+     * @param p_key keys
+     * @param p_index indices
+     * @param p_position position of the element
+     */
+    private static void siftup( @Nonnull final double[] p_key, @Nonnull final int[] p_index, final int p_position )
+    {
+        int l_child = p_position;
+        while ( l_child > 0 )
+        {
+            final int l_parent = ( l_child - 1 ) / 2;
+            if ( p_key[l_parent] <= p_key[l_child] )
+                return;
+
+            IBaseSelection.swap( p_key, p_index, l_parent, l_child );
+            l_child = l_parent;
+        }
+    }
+
+    /**
+     * moves the root element down within the min-heap
+     *
+     * @param p_key keys
+     * @param p_index indices
+     * @param p_size heap size
+     */
+    private static void siftdown( @Nonnull final double[] p_key, @Nonnull final int[] p_index, final int p_size )
+    {
+        int l_parent = 0;
+        while ( 2 * l_parent + 1 < p_size )
+        {
+            int l_child = 2 * l_parent + 1;
+            if ( l_child + 1 < p_size && p_key[l_child + 1] < p_key[l_child] )
+                l_child++;
+            if ( p_key[l_parent] <= p_key[l_child] )
+                return;
+
+            IBaseSelection.swap( p_key, p_index, l_parent, l_child );
+            l_parent = l_child;
+        }
+    }
+
+    /**
+     * swaps two heap elements
+     *
+     * @param p_key keys
+     * @param p_index indices
+     * @param p_first first position
+     * @param p_second second position
+     */
+    private static void swap( @Nonnull final double[] p_key, @Nonnull final int[] p_index, final int p_first, final int p_second )
+    {
+        final double l_key = p_key[p_first];
+        p_key[p_first] = p_key[p_second];
+        p_key[p_second] = l_key;
+
+        final int l_index = p_index[p_first];
+        p_index[p_first] = p_index[p_second];
+        p_index[p_second] = l_index;
     }
 
     /**
@@ -125,12 +281,12 @@ public abstract class IBaseSelection extends IBaseAction
      * modifies the weights
      *
      * @param p_items item list
-     * @param p_values stream of weights
+     * @param p_values absolute weights, which can be modified in-place
      * @param p_argument additional arguments
-     * @return list with weights
+     * @return array with weights
      */
     @Nonnull
-    protected abstract List<Double> weight( @Nonnull final List<?> p_items, @Nonnull final Stream<Double> p_values, @Nonnull final List<ITerm> p_argument );
+    protected abstract double[] weight( @Nonnull final List<?> p_items, @Nonnull final double[] p_values, @Nonnull final List<ITerm> p_argument );
 
     /**
      * number of additional parameter
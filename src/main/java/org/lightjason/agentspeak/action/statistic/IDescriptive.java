@@ -0,0 +1,55 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.statistic;
+
+
+/**
+ * statistic object, which stores its values, so
+ * the values of a descriptive statistic, which
+ * are not part of the summary, can be calculated
+ */
+public interface IDescriptive
+{
+    /**
+     * returns the geometric mean
+     *
+     * @return geometric mean or NaN if the statistic is empty
+     */
+    double getGeometricMean();
+
+    /**
+     * returns the sample kurtosis
+     *
+     * @return kurtosis or NaN if there are less than four values
+     */
+    double getKurtosis();
+
+    /**
+     * returns the sum of the natural logarithms
+     *
+     * @return sum of logarithms
+     */
+    double getSumOfLogs();
+
+}
@@ -0,0 +1,71 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.statistic;
+
+import org.apache.commons.math3.stat.descriptive.StatisticalSummary;
+
+
+/**
+ * statistic object, which is not part of commons-math.
+ * Statistic objects of this type can be used with all
+ * actions, which accept summary or descriptive statistics
+ */
+public interface IStatistic extends StatisticalSummary
+{
+    /**
+     * adds a value
+     *
+     * @param p_value value
+     */
+    void addValue( final double p_value );
+
+    /**
+     * clears all values
+     */
+    void clear();
+
+    /**
+     * returns the sum of the weights of the values,
+     * which is the number of values for unweighted statistics
+     *
+     * @return weight
+     */
+    default double getWeight()
+    {
+        return this.getN();
+    }
+
+    /**
+     * returns the weighted sum of squared deviations of the mean
+     *
+     * @return second moment or NaN if the statistic is empty
+     */
+    default double getSecondMoment()
+    {
+        return this.getN() == 0
+               ? Double.NaN
+               : this.getVariance() * ( this.getN() - 1 );
+    }
+
+}
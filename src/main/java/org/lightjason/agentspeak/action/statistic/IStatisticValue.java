@@ -49,4 +49,12 @@ public interface IStatisticValue
      */
     double value( @Nonnull final DescriptiveStatistics p_statistic );
 
+    /**
+     * returns the statistic values
+     *
+     * @param p_statistic statistic
+     * @return value
+     */
+    double value( @Nonnull final IStatistic p_statistic );
+
 }
@@ -23,6 +23,7 @@
 
 package org.lightjason.agentspeak.action.statistic;
 
+import org.apache.commons.math3.distribution.AbstractRealDistribution;
 import org.apache.commons.math3.distribution.BetaDistribution;
 import org.apache.commons.math3.distribution.CauchyDistribution;
 import org.apache.commons.math3.distribution.ChiSquaredDistribution;
@@ -41,21 +42,37 @@ import org.apache.commons.math3.distribution.TDistribution;
 import org.apache.commons.math3.distribution.TriangularDistribution;
 import org.apache.commons.math3.distribution.UniformRealDistribution;
 import org.apache.commons.math3.distribution.WeibullDistribution;
+import org.apache.commons.math3.exception.MathUnsupportedOperationException;
 import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
+import org.apache.commons.math3.stat.descriptive.StatisticalSummary;
+import org.apache.commons.math3.stat.descriptive.StatisticalSummaryValues;
 import org.apache.commons.math3.stat.descriptive.SummaryStatistics;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
 import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.IContext;
 import org.lightjason.agentspeak.testing.IBaseTest;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.function.LongFunction;
 import java.util.stream.Collectors;
+import java.util.stream.DoubleStream;
 import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 
@@ -117,6 +134,46 @@ public final class TestCActionMathStatistics extends IBaseTest
         Assertions.assertTrue( l_return.get( 3 ).raw() instanceof DescriptiveStatistics );
     }
 
+    /**
+     * test striped statistic with concurrent adding
+     */
+    @Test
+    public void stripedstatistic()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+        new CCreateStatistic().execute(
+            true, IContext.EMPTYPLAN,
+            Stream.of( "striped" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 1, l_return.size() );
+        Assertions.assertTrue( l_return.get( 0 ).raw() instanceof CStripedSummaryStatistics );
+
+        final SummaryStatistics l_striped = l_return.get( 0 ).raw();
+        final SummaryStatistics l_reference = new SummaryStatistics();
+        IntStream.range( 1, 1001 ).forEach( l_reference::addValue );
+
+        IntStream.range( 1, 1001 )
+                 .parallel()
+                 .forEach( i -> new CAddStatisticValue().execute(
+                     true, IContext.EMPTYPLAN,
+                     Stream.of( l_striped, i ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                     Collections.emptyList()
+                 ) );
+
+        Assertions.assertEquals( l_reference.getN(), l_striped.getN() );
+        Assertions.assertEquals( l_reference.getSum(), l_striped.getSum(), 1e-6 );
+        Assertions.assertEquals( l_reference.getMean(), l_striped.getMean(), 1e-6 );
+        Assertions.assertEquals( l_reference.getVariance(), l_striped.getVariance(), 1e-6 );
+        Assertions.assertEquals( l_reference.getGeometricMean(), l_striped.getGeometricMean(), 1e-6 );
+        Assertions.assertEquals( l_reference.getMin(), l_striped.getMin(), 0 );
+        Assertions.assertEquals( l_reference.getMax(), l_striped.getMax(), 0 );
+
+        l_striped.clear();
+        Assertions.assertEquals( 0, l_striped.getN() );
+    }
+
     /**
      * test percentile
      */
@@ -136,193 +193,1281 @@ public final class TestCActionMathStatistics extends IBaseTest
             l_return
         );
 
-        new CMultiplePercentile().execute(
-            false, IContext.EMPTYPLAN,
-            Stream.of( l_statistic1, 25, 75 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+        new CMultiplePercentile().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_statistic1, 25, 75 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+
+        Assertions.assertEquals( 4, l_return.size() );
+        Assertions.assertArrayEquals(
+            Stream.of( 49.5, 495, 24.25, 74.75 ).mapToDouble( Number::doubleValue ).boxed().toArray(),
+            l_return.stream().map( i -> i.<Number>raw().doubleValue() ).toArray()
+        );
+    }
+
+    /**
+     * test cached sorted percentile
+     */
+    @Test
+    public void sortedpercentile()
+    {
+        final DescriptiveStatistics l_reference = new DescriptiveStatistics();
+        final DescriptiveStatistics l_sorted = new CSortedDescriptiveStatistics();
+        final DescriptiveStatistics l_synchronized = new CSynchronizedSortedDescriptiveStatistics();
+
+        IntStream.range( 0, 250 ).map( i -> ( i * 37 ) % 101 ).forEach( i ->
+        {
+            l_reference.addValue( i );
+            l_sorted.addValue( i );
+            l_synchronized.addValue( i );
+        } );
+
+        Stream.of( 0.5, 10.0, 25.0, 50.0, 73.3, 99.0, 100.0 ).forEach( i ->
+        {
+            Assertions.assertEquals( l_reference.getPercentile( i ), l_sorted.getPercentile( i ), 1e-10 );
+            Assertions.assertEquals( l_reference.getPercentile( i ), l_synchronized.getPercentile( i ), 1e-10 );
+        } );
+
+        l_reference.addValue( 500 );
+        l_sorted.addValue( 500 );
+        l_synchronized.addValue( 500 );
+
+        Assertions.assertEquals( l_reference.getPercentile( 100 ), l_sorted.getPercentile( 100 ), 0 );
+        Assertions.assertEquals( l_reference.getPercentile( 100 ), l_synchronized.getPercentile( 100 ), 0 );
+
+        l_sorted.clear();
+        Assertions.assertTrue( Double.isNaN( l_sorted.getPercentile( 50 ) ) );
+    }
+
+    /**
+     * test t-digest statistic
+     */
+    @Test
+    public void tdigest()
+    {
+        final List<ITerm> l_statistic = new ArrayList<>();
+        new CCreateStatistic().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "tdigest", 200 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_statistic
+        );
+
+        Assertions.assertEquals( 1, l_statistic.size() );
+        Assertions.assertTrue( l_statistic.get( 0 ).raw() instanceof CTDigestStatistic );
+        Assertions.assertEquals( 200, l_statistic.get( 0 ).<CTDigestStatistic>raw().compression(), 0 );
+
+        new CAddStatisticValue().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_statistic.get( 0 ).raw(), IntStream.range( 0, 100000 ).boxed().collect( Collectors.toList() ) )
+                  .map( CRawTerm::of ).collect( Collectors.toList() ),
+            Collections.emptyList()
+        );
+
+        final List<ITerm> l_return = new ArrayList<>();
+        new CMultiplePercentile().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_statistic.get( 0 ).raw(), 25, 50, 99 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+        new CSingleStatisticValue().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "count", l_statistic.get( 0 ).raw() ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 4, l_return.size() );
+        Assertions.assertEquals( 25000, l_return.get( 0 ).<Number>raw().doubleValue(), 250 );
+        Assertions.assertEquals( 50000, l_return.get( 1 ).<Number>raw().doubleValue(), 250 );
+        Assertions.assertEquals( 99000, l_return.get( 2 ).<Number>raw().doubleValue(), 250 );
+        Assertions.assertEquals( 100000, l_return.get( 3 ).<Number>raw().doubleValue(), 0 );
+        Assertions.assertTrue( l_statistic.get( 0 ).<CTDigestStatistic>raw().centroids() <= 200 );
+    }
+
+    /**
+     * test exponential moving statistic
+     */
+    @Test
+    public void exponentialmovingstatistic()
+    {
+        final List<ITerm> l_statistic = new ArrayList<>();
+        new CCreateStatistic().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "exponentialmoving", 1 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_statistic
+        );
+
+        Assertions.assertEquals( 1, l_statistic.size() );
+        Assertions.assertTrue( l_statistic.get( 0 ).raw() instanceof CExponentialMovingStatistic );
+
+        new CAddStatisticValue().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_statistic.get( 0 ).raw(), 0, 10, 10 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Collections.emptyList()
+        );
+
+        final List<ITerm> l_return = new ArrayList<>();
+        new CMultipleStatisticValue().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_statistic.get( 0 ).raw(), "mean", "count", "max", "variance" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 4, l_return.size() );
+        Assertions.assertEquals( 7.5, l_return.get( 0 ).<Number>raw().doubleValue(), 1e-10 );
+        Assertions.assertEquals( 3, l_return.get( 1 ).<Number>raw().doubleValue(), 0 );
+        Assertions.assertEquals( 10, l_return.get( 2 ).<Number>raw().doubleValue(), 0 );
+        Assertions.assertEquals( 18.75, l_return.get( 3 ).<Number>raw().doubleValue(), 1e-10 );
+
+        // derived values use the effective weight 1.75 of the three values
+        l_return.clear();
+        new CMultipleStatisticValue().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_statistic.get( 0 ).raw(), "secondmoment", "sumsquare", "populationvariance", "quadraticmean" )
+                  .map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 4, l_return.size() );
+        Assertions.assertEquals( 32.8125, l_return.get( 0 ).<Number>raw().doubleValue(), 1e-10 );
+        Assertions.assertEquals( 131.25, l_return.get( 1 ).<Number>raw().doubleValue(), 1e-10 );
+        Assertions.assertEquals( 18.75, l_return.get( 2 ).<Number>raw().doubleValue(), 1e-10 );
+        Assertions.assertEquals( Math.sqrt( 75 ), l_return.get( 3 ).<Number>raw().doubleValue(), 1e-10 );
+    }
+
+    /**
+     * test bounded derived values of the exponential moving statistic
+     */
+    @Test
+    public void exponentialmovingstatisticbounded()
+    {
+        final CExponentialMovingStatistic l_statistic = new CExponentialMovingStatistic( 10 );
+        final double l_weight = 1 / ( 1 - Math.pow( 2, -1 / 10.0 ) );
+        IntStream.range( 0, 100000 ).forEach( i -> l_statistic.addValue( 2 ) );
+
+        Assertions.assertEquals( 100000, EStatisticValue.COUNT.value( l_statistic ), 0 );
+        Assertions.assertEquals( l_weight, l_statistic.getWeight(), 1e-8 );
+        Assertions.assertEquals( 0, EStatisticValue.SECONDMOMENT.value( l_statistic ), 1e-10 );
+        Assertions.assertEquals( 4 * l_weight, EStatisticValue.SUMSQUARE.value( l_statistic ), 1e-8 );
+        Assertions.assertEquals( 0, EStatisticValue.POPULATIONVARIANCE.value( l_statistic ), 1e-10 );
+        Assertions.assertEquals( 2, EStatisticValue.QUADRATICMEAN.value( l_statistic ), 1e-10 );
+    }
+
+    /**
+     * test sliding window statistic
+     */
+    @Test
+    public void slidingwindowstatistic()
+    {
+        final List<ITerm> l_statistic = new ArrayList<>();
+        new CCreateStatistic().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "slidingwindow", 3 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_statistic
+        );
+
+        Assertions.assertEquals( 1, l_statistic.size() );
+        Assertions.assertTrue( l_statistic.get( 0 ).raw() instanceof CSlidingWindowStatistic );
+
+        new CAddStatisticValue().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_statistic.get( 0 ).raw(), 5, 1, 9, 2, 7 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Collections.emptyList()
+        );
+
+        final List<ITerm> l_return = new ArrayList<>();
+        new CMultipleStatisticValue().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_statistic.get( 0 ).raw(), "mean", "count", "min", "max", "variance", "sum" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        new CSinglePercentile().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( 50, l_statistic.get( 0 ).raw() ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 7, l_return.size() );
+        Assertions.assertEquals( 6, l_return.get( 0 ).<Number>raw().doubleValue(), 1e-10 );
+        Assertions.assertEquals( 3, l_return.get( 1 ).<Number>raw().doubleValue(), 0 );
+        Assertions.assertEquals( 2, l_return.get( 2 ).<Number>raw().doubleValue(), 0 );
+        Assertions.assertEquals( 9, l_return.get( 3 ).<Number>raw().doubleValue(), 0 );
+        Assertions.assertEquals( 13, l_return.get( 4 ).<Number>raw().doubleValue(), 1e-10 );
+        Assertions.assertEquals( 18, l_return.get( 5 ).<Number>raw().doubleValue(), 1e-10 );
+        Assertions.assertEquals( 7, l_return.get( 6 ).<Number>raw().doubleValue(), 1e-10 );
+    }
+
+    /**
+     * test off-heap statistic
+     */
+    @Test
+    public void offheapstatistic()
+    {
+        final List<ITerm> l_statistic = new ArrayList<>();
+        new CCreateStatistic().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "offheap", 3, "mapped", "offheap" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_statistic
+        );
+
+        Assertions.assertEquals( 3, l_statistic.size() );
+        Assertions.assertEquals( 3, l_statistic.get( 0 ).<COffHeapStatistic>raw().window() );
+        Assertions.assertTrue( l_statistic.get( 1 ).<COffHeapStatistic>raw().mapped() );
+        Assertions.assertNull( l_statistic.get( 1 ).<COffHeapStatistic>raw().file() );
+        Assertions.assertEquals( DescriptiveStatistics.INFINITE_WINDOW, l_statistic.get( 2 ).<COffHeapStatistic>raw().window() );
+
+        new CAddStatisticValue().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_statistic.get( 0 ).raw(), l_statistic.get( 1 ).raw(), 5, 1, 9, 2, 7 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Collections.emptyList()
+        );
+
+        final List<ITerm> l_return = new ArrayList<>();
+        new CMultipleStatisticValue().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_statistic.get( 0 ).raw(), "mean", "count", "min", "max", "variance", "sum" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+        new CSinglePercentile().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( 50, l_statistic.get( 0 ).raw(), l_statistic.get( 1 ).raw() ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 8, l_return.size() );
+        Assertions.assertEquals( 6, l_return.get( 0 ).<Number>raw().doubleValue(), 1e-10 );
+        Assertions.assertEquals( 3, l_return.get( 1 ).<Number>raw().doubleValue(), 0 );
+        Assertions.assertEquals( 2, l_return.get( 2 ).<Number>raw().doubleValue(), 0 );
+        Assertions.assertEquals( 9, l_return.get( 3 ).<Number>raw().doubleValue(), 0 );
+        Assertions.assertEquals( 13, l_return.get( 4 ).<Number>raw().doubleValue(), 1e-10 );
+        Assertions.assertEquals( 18, l_return.get( 5 ).<Number>raw().doubleValue(), 1e-10 );
+        Assertions.assertEquals( 7, l_return.get( 6 ).<Number>raw().doubleValue(), 1e-10 );
+        Assertions.assertEquals( 5, l_return.get( 7 ).<Number>raw().doubleValue(), 1e-10 );
+
+        final COffHeapStatistic l_unbounded = l_statistic.get( 2 ).raw();
+        final DescriptiveStatistics l_reference = new DescriptiveStatistics();
+        IntStream.range( 0, 5000 ).mapToDouble( i -> 1e6 + Math.sin( i ) ).forEach( i ->
+        {
+            l_unbounded.addValue( i );
+            l_reference.addValue( i );
+        } );
+
+        Assertions.assertEquals( 5000, l_unbounded.getN() );
+        Assertions.assertEquals( l_reference.getMean(), l_unbounded.getMean(), 1e-9 );
+        Assertions.assertEquals( l_reference.getVariance(), l_unbounded.getVariance(), 1e-9 );
+        Assertions.assertEquals( l_reference.getPercentile( 90 ), l_unbounded.getPercentile( 90 ), 0 );
+
+        new CClearStatistic().execute(
+            false, IContext.EMPTYPLAN,
+            l_statistic.stream().map( ITerm::raw ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Collections.emptyList()
+        );
+
+        Assertions.assertTrue( l_statistic.stream().allMatch( i -> i.<COffHeapStatistic>raw().getN() == 0 ) );
+    }
+
+    /**
+     * test off-heap statistic values over the stored
+     * values and NaN values, which leave the window
+     */
+    @Test
+    public void offheapstatisticvalues()
+    {
+        final COffHeapStatistic l_statistic = COffHeapStatistic.temporary( 5 );
+        final DescriptiveStatistics l_reference = new DescriptiveStatistics( 5 );
+        DoubleStream.of( 4, Double.NaN, 3, 8, 1, 6, 2, 9 ).forEach( i ->
+        {
+            l_statistic.addValue( i );
+            l_reference.addValue( i );
+        } );
+
+        Assertions.assertEquals( 5, l_statistic.getN() );
+        Assertions.assertEquals( l_reference.getMean(), l_statistic.getMean(), 1e-10 );
+        Assertions.assertEquals( l_reference.getVariance(), l_statistic.getVariance(), 1e-10 );
+        Assertions.assertEquals( l_reference.getSum(), EStatisticValue.SUM.value( l_statistic ), 1e-10 );
+        Assertions.assertEquals( l_reference.getMin(), EStatisticValue.MIN.value( l_statistic ), 0 );
+        Assertions.assertEquals( l_reference.getGeometricMean(), EStatisticValue.GEOMETRICMEAN.value( l_statistic ), 1e-10 );
+        Assertions.assertEquals( l_reference.getKurtosis(), EStatisticValue.KURTIOSIS.value( l_statistic ), 1e-10 );
+        Assertions.assertEquals(
+            Arrays.stream( l_reference.getValues() ).map( Math::log ).sum(), EStatisticValue.SUMLOG.value( l_statistic ), 1e-10
+        );
+
+        l_statistic.addValue( Double.NaN );
+        Assertions.assertTrue( Double.isNaN( l_statistic.getMean() ) );
+        Assertions.assertEquals( 1, l_statistic.getMin(), 0 );
+    }
+
+    /**
+     * test window statistics with values, which drift
+     * from values around zero to values around 1e9
+     */
+    @Test
+    public void windowstatisticdrift()
+    {
+        final CSlidingWindowStatistic l_sliding = new CSlidingWindowStatistic( 100 );
+        final COffHeapStatistic l_offheap = new COffHeapStatistic( 100 );
+        IntStream.range( 0, 10000 ).mapToDouble( i -> ( i < 1000 ? 0 : 1e9 ) + Math.sin( i ) ).forEach( i ->
+        {
+            l_sliding.addValue( i );
+            l_offheap.addValue( i );
+        } );
+
+        final DescriptiveStatistics l_reference = new DescriptiveStatistics( 100 );
+        Arrays.stream( l_sliding.values() ).forEach( l_reference::addValue );
+
+        Assertions.assertEquals( l_reference.getMean(), l_sliding.getMean(), 1e-6 );
+        Assertions.assertEquals( l_reference.getVariance(), l_sliding.getVariance(), 1e-6 );
+        Assertions.assertEquals( l_reference.getMean(), l_offheap.getMean(), 1e-6 );
+        Assertions.assertEquals( l_reference.getVariance(), l_offheap.getVariance(), 1e-6 );
+    }
+
+    /**
+     * test save and load statistic
+     *
+     * @throws IOException is thrown on file error
+     */
+    @Test
+    public void saveloadstatistic() throws IOException
+    {
+        final List<ITerm> l_statistic = new ArrayList<>();
+        new CCreateStatistic().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "summary", "descriptive", "tdigest", "exponentialmoving", 10, "slidingwindow", 50, "offheap" )
+                  .map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_statistic
+        );
+
+        new CAddStatisticValue().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.concat(
+                l_statistic.stream().map( ITerm::raw ),
+                IntStream.range( 0, 200 ).mapToObj( i -> 100 + 10 * Math.sin( i ) )
+            ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Collections.emptyList()
+        );
+
+        final Path l_file = Files.createTempFile( "statistic", ".bin" );
+        try
+        {
+            new CSaveStatistic().execute(
+                false, IContext.EMPTYPLAN,
+                Stream.concat( Stream.of( l_file.toString() ), l_statistic.stream().map( ITerm::raw ) ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                Collections.emptyList()
+            );
+
+            final List<ITerm> l_return = new ArrayList<>();
+            new CLoadStatistic().execute(
+                false, IContext.EMPTYPLAN,
+                Stream.of( l_file.toString() ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                l_return
+            );
+
+            Assertions.assertEquals( l_statistic.size(), l_return.size() );
+            IntStream.range( 0, l_statistic.size() ).forEach( i ->
+            {
+                final StatisticalSummary l_source = l_statistic.get( i ).raw();
+                final StatisticalSummary l_target = l_return.get( i ).raw();
+
+                Assertions.assertEquals( l_source.getN(), l_target.getN() );
+                Assertions.assertEquals( l_source.getMean(), l_target.getMean(), 1e-10 );
+                Assertions.assertEquals( l_source.getVariance(), l_target.getVariance(), 1e-10 );
+                Assertions.assertEquals( l_source.getMin(), l_target.getMin(), 0 );
+                Assertions.assertEquals( l_source.getMax(), l_target.getMax(), 0 );
+
+                if ( l_source instanceof IPercentile )
+                    Assertions.assertEquals(
+                        ( (IPercentile) l_source ).getPercentile( 75 ), ( (IPercentile) l_target ).getPercentile( 75 ), 1e-10
+                    );
+            } );
+        }
+        finally
+        {
+            Files.deleteIfExists( l_file );
+        }
+
+        Assertions.assertThrows( CExecutionIllegealArgumentException.class, () -> new CLoadStatistic().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_file.toString() ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Collections.emptyList()
+        ) );
+    }
+
+    /**
+     * test loading a file with a corrupted size field
+     *
+     * @throws IOException is thrown on file error
+     */
+    @Test
+    public void loadcorruptedstatistic() throws IOException
+    {
+        final CTDigestStatistic l_digest = new CTDigestStatistic();
+        IntStream.range( 0, 100 ).forEach( l_digest::addValue );
+
+        final Path l_file = Files.createTempFile( "statistic", ".bin" );
+        try
+        {
+            EStatisticFormat.write( l_file, Collections.singletonList( l_digest ) );
+
+            // compression behind the file and the record header
+            final byte[] l_data = Files.readAllBytes( l_file );
+            ByteBuffer.wrap( l_data ).order( ByteOrder.LITTLE_ENDIAN ).putDouble( 3 * Integer.BYTES + 1 + Integer.BYTES, 1e300 );
+            Files.write( l_file, l_data );
+
+            Assertions.assertThrows( CExecutionIllegealArgumentException.class, () -> new CLoadStatistic().execute(
+                false, IContext.EMPTYPLAN,
+                Stream.of( l_file.toString() ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                Collections.emptyList()
+            ) );
+        }
+        finally
+        {
+            Files.deleteIfExists( l_file );
+        }
+    }
+
+    /**
+     * test histogram statistic
+     */
+    @Test
+    public void histogramstatistic()
+    {
+        final List<ITerm> l_statistic = new ArrayList<>();
+        new CCreateStatistic().execute(
+            true, IContext.EMPTYPLAN,
+            Stream.of( "histogram", 0, 10, 10, "histogram", 0, 10, 10, "hdrhistogram" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_statistic
+        );
+
+        Assertions.assertEquals( 3, l_statistic.size() );
+        Assertions.assertEquals( 12, l_statistic.get( 0 ).<CHistogramStatistic>raw().buckets() );
+        Assertions.assertTrue( l_statistic.get( 2 ).<CHistogramStatistic>raw().logarithmic() );
+
+        new CAddStatisticValue().execute(
+            true, IContext.EMPTYPLAN,
+            Stream.of( l_statistic.get( 0 ).raw(), 0.5, 1.5, 1.5, 2.5, 12 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Collections.emptyList()
+        );
+        new CAddStatisticValue().execute(
+            true, IContext.EMPTYPLAN,
+            Stream.of( l_statistic.get( 1 ).raw(), 3.5, -1 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Collections.emptyList()
+        );
+
+        final List<ITerm> l_return = new ArrayList<>();
+        new CMultipleStatisticValue().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_statistic.get( 0 ).raw(), "count", "mean", "min", "max" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+        new CSinglePercentile().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( 50, l_statistic.get( 0 ).raw() ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+        new CMergeStatistic().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_statistic.get( 0 ).raw(), l_statistic.get( 1 ).raw() ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+        new CHistogramBuckets().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_return.get( 5 ).raw() ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 7, l_return.size() );
+        Assertions.assertEquals( 5, l_return.get( 0 ).<Number>raw().longValue() );
+        Assertions.assertEquals( 3.6, l_return.get( 1 ).<Number>raw().doubleValue(), 1e-10 );
+        Assertions.assertEquals( 0.5, l_return.get( 2 ).<Number>raw().doubleValue(), 0 );
+        Assertions.assertEquals( 12, l_return.get( 3 ).<Number>raw().doubleValue(), 0 );
+        Assertions.assertEquals( 1.75, l_return.get( 4 ).<Number>raw().doubleValue(), 1e-10 );
+        Assertions.assertEquals( 7, l_return.get( 5 ).<CHistogramStatistic>raw().getN() );
+        Assertions.assertEquals(
+            Map.of( Double.NEGATIVE_INFINITY, 1L, 0.0, 1L, 1.0, 2L, 2.0, 1L, 3.0, 1L, 10.0, 1L ),
+            l_return.get( 6 ).<Map<Double, Long>>raw()
+        );
+
+        final CHistogramStatistic l_hdr = l_statistic.get( 2 ).raw();
+        final DescriptiveStatistics l_reference = new DescriptiveStatistics();
+        IntStream.range( 1, 10000 ).mapToDouble( i -> i * 7.3 ).forEach( i ->
+        {
+            l_hdr.addValue( i );
+            l_reference.addValue( i );
+        } );
+
+        Assertions.assertEquals( l_reference.getMean(), l_hdr.getMean(), 1e-8 );
+        Assertions.assertEquals( l_reference.getVariance(), l_hdr.getVariance(), 1e-10 * l_reference.getVariance() );
+        Stream.of( 1, 10, 50, 90, 99, 100 ).forEach( i -> Assertions.assertEquals(
+            1, l_hdr.getPercentile( i ) / l_reference.getPercentile( i ), 0.01
+        ) );
+
+        Assertions.assertThrows( CExecutionIllegealArgumentException.class, () -> new CMergeStatistic().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_statistic.get( 0 ).raw(), l_statistic.get( 2 ).raw() ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Collections.emptyList()
+        ) );
+    }
+
+    /**
+     * test clear
+     */
+    @Test
+    public void clear()
+    {
+        new CClearStatistic().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( m_summarystatistic, m_descriptivestatistic ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Collections.emptyList()
+        );
+
+        Assertions.assertEquals( 0, m_summarystatistic.getSum(), 0 );
+        Assertions.assertEquals( 0, m_descriptivestatistic.getSum(), 0 );
+    }
+
+    /**
+     * test merge statistic
+     */
+    @Test
+    public void mergestatistic()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+        final SummaryStatistics l_summary = new SummaryStatistics();
+        final DescriptiveStatistics l_descriptive = new DescriptiveStatistics();
+        final SummaryStatistics l_summaryreference = new SummaryStatistics();
+        final DescriptiveStatistics l_descriptivereference = new DescriptiveStatistics();
+
+        IntStream.range( 10, 50 ).peek( l_summary::addValue ).forEach( l_descriptive::addValue );
+        IntStream.concat( IntStream.of( 2, 5, 3 ), IntStream.range( 10, 50 ) ).forEach( l_summaryreference::addValue );
+        IntStream.concat( IntStream.of( 3, 4, 5 ), IntStream.range( 10, 50 ) ).forEach( l_descriptivereference::addValue );
+
+        new CMergeStatistic().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( m_summarystatistic, l_summary ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+        new CMergeStatistic().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( m_descriptivestatistic, l_descriptive ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 2, l_return.size() );
+
+        final SummaryStatistics l_mergedsummary = l_return.get( 0 ).raw();
+        Assertions.assertEquals( 43, l_mergedsummary.getN() );
+        Assertions.assertEquals( l_summaryreference.getMean(), l_mergedsummary.getMean(), 1e-10 );
+        Assertions.assertEquals( l_summaryreference.getVariance(), l_mergedsummary.getVariance(), 1e-10 );
+        Assertions.assertEquals( l_summaryreference.getSumOfLogs(), l_mergedsummary.getSumOfLogs(), 1e-10 );
+
+        final DescriptiveStatistics l_mergeddescriptive = l_return.get( 1 ).raw();
+        Assertions.assertEquals( 43, l_mergeddescriptive.getN() );
+        Assertions.assertEquals( l_descriptivereference.getPercentile( 30 ), l_mergeddescriptive.getPercentile( 30 ), 1e-10 );
+        Assertions.assertEquals( l_descriptivereference.getVariance(), l_mergeddescriptive.getVariance(), 1e-10 );
+
+        new CMergeStatistic().execute(
+            true, IContext.EMPTYPLAN,
+            Stream.of( m_descriptivestatistic, l_descriptive ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        final DescriptiveStatistics l_mergedparallel = l_return.get( 2 ).raw();
+        Assertions.assertTrue( l_mergedparallel instanceof CSynchronizedSortedDescriptiveStatistics );
+        Assertions.assertArrayEquals( l_descriptivereference.getValues(), l_mergedparallel.getValues(), 0 );
+        Assertions.assertEquals( l_descriptivereference.getPercentile( 30 ), l_mergedparallel.getPercentile( 30 ), 1e-10 );
+
+        Assertions.assertThrows(
+            CExecutionIllegealArgumentException.class,
+            () -> new CMergeStatistic().execute(
+                false, IContext.EMPTYPLAN,
+                Stream.of( m_summarystatistic, m_descriptivestatistic ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                l_return
+            )
+        );
+    }
+
+    /**
+     * test create distribution
+     */
+    @Test
+    public void createdistribution()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+
+        new CCreateDistribution().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of(
+                        "normal", "ISAAC", 20, 10,
+                        "beta", "SYNCHRONIZEDMERSENNETWISTER", 20, 10,
+                        "cauchy", "SYNCHRONIZEDISAAC", 10, 20,
+                        "CHISQUARE", "INTERNAL", 10,
+                        "EXPONENTIAL", "SYNCHRONIZEDINTERNAL", 5,
+                        "F", "WELL512A", 2, 6,
+                        "GAMMA", "SYNCHRONIZEDWELL512A", 6, 9,
+                        "GUMBLE", "WELL1024A", 2, 7,
+                        "LAPLACE", "SYNCHRONIZEDWELL1024A", 20, 18,
+                        "LEVY", "WELL19937A", 15, 20,
+                        "LOGISTIC", "SYNCHRONIZEDWELL19937A", 10, 17,
+                        "LOGNORMAL", "WELL19937C", 12, 14,
+                        "NAKAGAMI", "SYNCHRONIZEDWELL19937C", 20, 18,
+                        "PARETO", "WELL4449A", 20, 10,
+                        "T", "SYNCHRONIZEDWELL4449A", 10,
+                        "TRIANGULAR", "WELL44497B", 10, 15, 20,
+                        "UNIFORM", "SYNCHRONIZEDWELL44497B", 10, 25,
+                        "WEIBULL", 10, 23
+                ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 18, l_return.size() );
+        Assertions.assertTrue( l_return.get( 0 ).raw() instanceof NormalDistribution );
+        Assertions.assertTrue( l_return.get( 1 ).raw() instanceof BetaDistribution );
+        Assertions.assertTrue( l_return.get( 2 ).raw() instanceof CauchyDistribution );
+        Assertions.assertTrue( l_return.get( 3 ).raw() instanceof ChiSquaredDistribution );
+        Assertions.assertTrue( l_return.get( 4 ).raw() instanceof ExponentialDistribution );
+        Assertions.assertTrue( l_return.get( 5 ).raw() instanceof FDistribution );
+        Assertions.assertTrue( l_return.get( 6 ).raw() instanceof GammaDistribution );
+        Assertions.assertTrue( l_return.get( 7 ).raw() instanceof GumbelDistribution );
+        Assertions.assertTrue( l_return.get( 8 ).raw() instanceof LaplaceDistribution );
+        Assertions.assertTrue( l_return.get( 9 ).raw() instanceof LevyDistribution );
+        Assertions.assertTrue( l_return.get( 10 ).raw() instanceof LogisticDistribution );
+        Assertions.assertTrue( l_return.get( 11 ).raw() instanceof LogNormalDistribution );
+        Assertions.assertTrue( l_return.get( 12 ).raw() instanceof NakagamiDistribution );
+        Assertions.assertTrue( l_return.get( 13 ).raw() instanceof ParetoDistribution );
+        Assertions.assertTrue( l_return.get( 14 ).raw() instanceof TDistribution );
+        Assertions.assertTrue( l_return.get( 15 ).raw() instanceof TriangularDistribution );
+        Assertions.assertTrue( l_return.get( 16 ).raw() instanceof UniformRealDistribution );
+        Assertions.assertTrue( l_return.get( 17 ).raw() instanceof WeibullDistribution );
+    }
+
+    /**
+     * test add statistics value
+     */
+    @Test
+    public void addstatisticvalue()
+    {
+        new CAddStatisticValue().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( m_descriptivestatistic, m_summarystatistic, 1, 2, 3 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Collections.emptyList()
+        );
+
+        Assertions.assertEquals( 6, m_descriptivestatistic.getN(), 0 );
+        Assertions.assertEquals( 6, m_summarystatistic.getN() );
+    }
+
+    /**
+     * test add statistics value with primitive arrays
+     */
+    @Test
+    public void addstatisticvalueprimitive()
+    {
+        final double[] l_values = IntStream.range( 0, 20000 ).asDoubleStream().toArray();
+
+        new CAddStatisticValue().execute(
+            true, IContext.EMPTYPLAN,
+            Stream.of( m_descriptivestatistic, l_values, m_summarystatistic, Stream.of( 1, 2 ).collect( Collectors.toList() ) )
+                  .map( CRawTerm::of ).collect( Collectors.toList() ),
+            Collections.emptyList()
+        );
+
+        Assertions.assertEquals( 20005, m_descriptivestatistic.getN() );
+        Assertions.assertEquals( 20005, m_summarystatistic.getN() );
+        Assertions.assertEquals( 199990013, m_summarystatistic.getSum(), 0 );
+    }
+
+    /**
+     * test add statistics value with nested arguments
+     */
+    @Test
+    public void addstatisticvaluenested()
+    {
+        final CSlidingWindowStatistic l_window = new CSlidingWindowStatistic( 3 );
+
+        new CAddStatisticValue().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of(
+                m_summarystatistic,
+                Stream.of( 4, m_descriptivestatistic, new double[]{5, 6} ).collect( Collectors.toList() ),
+                Collections.singleton( l_window ),
+                7
+            ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Collections.emptyList()
+        );
+
+        Assertions.assertEquals( 7, m_summarystatistic.getN() );
+        Assertions.assertEquals( 7, m_descriptivestatistic.getN() );
+        Assertions.assertEquals( 3, l_window.getN() );
+        Assertions.assertEquals( 18, l_window.getSum(), 0 );
+
+        Assertions.assertThrows( CExecutionIllegealArgumentException.class, () -> new CAddStatisticValue().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( new StatisticalSummaryValues( 0, 0, 0, 0, 0, 0 ), 1 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Collections.emptyList()
+        ) );
+    }
+
+    /**
+     * test multiple statistics value of summary
+     */
+    @Test
+    public void summarymultiplestatisticvalue()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+
+        new CMultipleStatisticValue().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of(
+                    m_summarystatistic,
+                    "variance", "mean",
+                    "max", "geometricmean",
+                    "populationvariance", "quadraticmean",
+                    "secondmoment", "standarddeviation",
+                    "sumlog", "sumsquare"
+                ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 10, l_return.size() );
+        Assertions.assertArrayEquals(
+            Stream.of(
+                m_summarystatistic.getVariance(), m_summarystatistic.getMean(),
+                m_summarystatistic.getMax(), m_summarystatistic.getGeometricMean(),
+                m_summarystatistic.getPopulationVariance(), m_summarystatistic.getQuadraticMean(),
+                m_summarystatistic.getSecondMoment(), m_summarystatistic.getStandardDeviation(),
+                m_summarystatistic.getSumOfLogs(), m_summarystatistic.getSumsq()
+            ).toArray(),
+
+            l_return.stream().map( ITerm::raw ).toArray()
+        );
+    }
+
+    /**
+     * test multiple statistics value of descriptive
+     */
+    @Test
+    public void descriptivemultiplestatisticvalue()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+
+        new CMultipleStatisticValue().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of(
+                    m_descriptivestatistic,
+                    "variance", "mean",
+                    "max", "geometricmean",
+                    "populationvariance", "quadraticmean",
+                    "standarddeviation", "sumsquare",
+                    "kurtiosis", "count", "sum"
+                ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( l_return.size(), 11 );
+        Assertions.assertArrayEquals(
+                Stream.of(
+                        m_descriptivestatistic.getVariance(), m_descriptivestatistic.getMean(),
+                        m_descriptivestatistic.getMax(), m_descriptivestatistic.getGeometricMean(),
+                        m_descriptivestatistic.getPopulationVariance(), m_descriptivestatistic.getQuadraticMean(),
+                        m_descriptivestatistic.getStandardDeviation(), m_descriptivestatistic.getSumsq(),
+                        m_descriptivestatistic.getKurtosis(), (double) m_descriptivestatistic.getN(), m_descriptivestatistic.getSum()
+                ).toArray(),
+
+                l_return.stream().map( ITerm::raw ).toArray()
+        );
+    }
+
+    /**
+     * test statistic value accessors
+     */
+    @Test
+    public void statisticvalueaccessor()
+    {
+        Assertions.assertEquals( EStatisticValue.MEAN, EStatisticValue.of( "mean" ) );
+        Assertions.assertEquals( EStatisticValue.MEAN, EStatisticValue.of( " Mean " ) );
+        // second call reads the cached name
+        Assertions.assertEquals( EStatisticValue.MEAN, EStatisticValue.of( " Mean " ) );
+
+        Assertions.assertEquals(
+            m_summarystatistic.getMean(),
+            EStatisticValue.MEAN.accessor( m_summarystatistic.getClass() ).applyAsDouble( m_summarystatistic ),
+            0
+        );
+        Assertions.assertEquals( m_descriptivestatistic.getMax(), EStatisticValue.MAX.value( (Object) m_descriptivestatistic ), 0 );
+        Assertions.assertSame(
+            EStatisticValue.SUM.accessor( m_descriptivestatistic.getClass() ),
+            EStatisticValue.SUM.accessor( m_descriptivestatistic.getClass() )
+        );
+    }
+
+    /**
+     * test statistic snapshot
+     */
+    @Test
+    public void snapshotstatistic()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+
+        new CSnapshotStatistic().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of(
+                    m_descriptivestatistic, m_summarystatistic,
+                    "variance", "mean", "max", "min", "geometricmean",
+                    "populationvariance", "quadraticmean", "standarddeviation", "count", "sum", "sumsquare"
+                ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 2, l_return.size() );
+
+        final Map<String, Double> l_descriptive = l_return.get( 0 ).raw();
+        final Map<String, Double> l_summary = l_return.get( 1 ).raw();
+
+        Assertions.assertEquals( 11, l_descriptive.size() );
+        Assertions.assertArrayEquals(
+            Stream.of(
+                m_descriptivestatistic.getVariance(), m_descriptivestatistic.getMean(),
+                m_descriptivestatistic.getMax(), m_descriptivestatistic.getMin(), m_descriptivestatistic.getGeometricMean(),
+                m_descriptivestatistic.getPopulationVariance(), m_descriptivestatistic.getQuadraticMean(),
+                m_descriptivestatistic.getStandardDeviation(), (double) m_descriptivestatistic.getN(),
+                m_descriptivestatistic.getSum(), m_descriptivestatistic.getSumsq()
+            ).mapToDouble( i -> i ).toArray(),
+            l_descriptive.values().stream().mapToDouble( i -> i ).toArray(),
+            1e-8
+        );
+        Assertions.assertEquals( m_summarystatistic.getVariance(), l_summary.get( "variance" ), 0 );
+        Assertions.assertEquals( m_summarystatistic.getMean(), l_summary.get( "mean" ), 0 );
+
+        final DescriptiveStatistics l_statistic = new DescriptiveStatistics();
+        IntStream.range( 0, 1000 ).mapToDouble( i -> 1e6 + Math.sin( i ) ).forEach( l_statistic::addValue );
+        l_return.clear();
+
+        new CSnapshotStatistic().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_statistic, "kurtiosis", "variance" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( l_statistic.getKurtosis(), l_return.get( 0 ).<Map<String, Double>>raw().get( "kurtiosis" ), 1e-6 );
+        Assertions.assertEquals( l_statistic.getVariance(), l_return.get( 0 ).<Map<String, Double>>raw().get( "variance" ), 1e-9 );
+
+        // constant values have a zero variance and a zero kurtosis
+        final DescriptiveStatistics l_constant = new DescriptiveStatistics();
+        IntStream.range( 0, 10 ).forEach( i -> l_constant.addValue( 3 ) );
+        l_return.clear();
+
+        new CSnapshotStatistic().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_constant, "kurtiosis" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 0, l_return.get( 0 ).<Map<String, Double>>raw().get( "kurtiosis" ), 0 );
+        Assertions.assertEquals( EStatisticValue.KURTIOSIS.value( l_constant ), l_return.get( 0 ).<Map<String, Double>>raw().get( "kurtiosis" ), 0 );
+
+        // a leading NaN value is ignored by minimum and maximum
+        final DescriptiveStatistics l_nan = new DescriptiveStatistics();
+        DoubleStream.of( Double.NaN, 4, 1, 7 ).forEach( l_nan::addValue );
+        l_return.clear();
+
+        new CSnapshotStatistic().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_nan, "min", "max" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( l_nan.getMin(), l_return.get( 0 ).<Map<String, Double>>raw().get( "min" ), 0 );
+        Assertions.assertEquals( l_nan.getMax(), l_return.get( 0 ).<Map<String, Double>>raw().get( "max" ), 0 );
+        Assertions.assertEquals( 1, l_return.get( 0 ).<Map<String, Double>>raw().get( "min" ), 0 );
+    }
+
+    /**
+     * test add random sample
+     */
+    @Test
+    public void randomsample()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+
+        new CRandomSample().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( new NormalDistribution(), 3 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 1, l_return.size() );
+        Assertions.assertTrue( l_return.get( 0 ).raw() instanceof List );
+        Assertions.assertEquals( 3, l_return.get( 0 ).<List<Number>>raw().size() );
+    }
+
+    /**
+     * test random sample into primitive structures
+     */
+    @Test
+    public void randomsampleprimitive()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+        final double[] l_array = new double[5];
+        final DoubleBuffer l_buffer = DoubleBuffer.allocate( 6 );
+        l_buffer.position( 2 );
+
+        new CRandomSample().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( new NormalDistribution( 10, 1 ), "array", 3, "buffer", 4, l_array, l_buffer ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 4, l_return.size() );
+        Assertions.assertEquals( 3, l_return.get( 0 ).<double[]>raw().length );
+        Assertions.assertTrue( l_return.get( 1 ).<DoubleBuffer>raw().isDirect() );
+        Assertions.assertEquals( 4, l_return.get( 1 ).<DoubleBuffer>raw().capacity() );
+        Assertions.assertSame( l_array, l_return.get( 2 ).raw() );
+        Assertions.assertTrue( Arrays.stream( l_array ).allMatch( i -> i != 0 ) );
+        Assertions.assertSame( l_buffer, l_return.get( 3 ).raw() );
+        Assertions.assertEquals( 0, l_buffer.get( 1 ) );
+        Assertions.assertNotEquals( 0, l_buffer.get( 5 ) );
+    }
+
+    /**
+     * test splittable generators
+     */
+    @Test
+    public void splittablegenerator()
+    {
+        Stream.<LongFunction<ISplittableRandomGenerator>>of( CSplitMix64RandomGenerator::new, CXoroshiro128PlusPlusRandomGenerator::new )
+              .forEach( i ->
+              {
+                  final ISplittableRandomGenerator l_generator1 = i.apply( 42 );
+                  final ISplittableRandomGenerator l_generator2 = i.apply( 42 );
+                  final ISplittableRandomGenerator l_split1 = l_generator1.split();
+                  final ISplittableRandomGenerator l_split2 = l_generator2.split();
+
+                  final long[] l_values = LongStream.range( 0, 100 ).map( j -> l_split1.nextLong() ).toArray();
+                  Assertions.assertArrayEquals( l_values, LongStream.range( 0, 100 ).map( j -> l_split2.nextLong() ).toArray() );
+                  Assertions.assertEquals( l_generator1.nextLong(), l_generator2.nextLong() );
+                  Assertions.assertTrue( LongStream.range( 0, 100 ).map( j -> l_generator1.nextLong() ).noneMatch( j -> j == l_values[0] ) );
+              } );
+    }
+
+    /**
+     * test parallel random sample with a splittable generator
+     */
+    @Test
+    public void randomsampleparallel()
+    {
+        final List<ITerm> l_distribution = new ArrayList<>();
+        new CCreateDistribution().execute(
+            true, IContext.EMPTYPLAN,
+            Stream.of( "normal", "xoroshiro128plusplus", 5, 1 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_distribution
+        );
+
+        Assertions.assertEquals( 1, l_distribution.size() );
+        Assertions.assertTrue( l_distribution.get( 0 ).raw() instanceof CSplittableDistribution );
+
+        final List<ITerm> l_return = new ArrayList<>();
+        new CRandomSample().execute(
+            true, IContext.EMPTYPLAN,
+            Stream.of( l_distribution.get( 0 ).raw(), "array", 200000 ).map( CRawTerm::of ).collect( Collectors.toList() ),
             l_return
         );
 
-
-        Assertions.assertEquals( 4, l_return.size() );
-        Assertions.assertArrayEquals(
-            Stream.of( 49.5, 495, 24.25, 74.75 ).mapToDouble( Number::doubleValue ).boxed().toArray(),
-            l_return.stream().map( i -> i.<Number>raw().doubleValue() ).toArray()
-        );
+        Assertions.assertEquals( 1, l_return.size() );
+        Assertions.assertEquals( 200000, l_return.get( 0 ).<double[]>raw().length );
+        Assertions.assertEquals( 5, Arrays.stream( l_return.get( 0 ).<double[]>raw() ).average().orElse( 0 ), 0.05 );
     }
 
     /**
-     * test clear
+     * test seeded distributions
      */
     @Test
-    public void clear()
+    public void seededdistribution()
     {
-        new CClearStatistic().execute(
+        final List<ITerm> l_distribution = new ArrayList<>();
+        new CCreateDistribution().execute(
             false, IContext.EMPTYPLAN,
-            Stream.of( m_summarystatistic, m_descriptivestatistic ).map( CRawTerm::of ).collect( Collectors.toList() ),
-            Collections.emptyList()
+            Stream.of(
+                "normal", "seed", 42, 5, 1,
+                "normal", "well512a", "seed", 42, 5, 1,
+                "normal", "mersennetwister", "seed", 42, 5, 1
+            ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_distribution
         );
 
-        Assertions.assertEquals( 0, m_summarystatistic.getSum(), 0 );
-        Assertions.assertEquals( 0, m_descriptivestatistic.getSum(), 0 );
+        Assertions.assertEquals( 3, l_distribution.size() );
+        Assertions.assertEquals( 5, l_distribution.get( 0 ).<NormalDistribution>raw().getMean(), 0 );
+        Assertions.assertEquals( 5, l_distribution.get( 1 ).<NormalDistribution>raw().getMean(), 0 );
+
+        final double[] l_values = l_distribution.get( 0 ).<NormalDistribution>raw().sample( 10 );
+        Assertions.assertArrayEquals( l_values, l_distribution.get( 2 ).<NormalDistribution>raw().sample( 10 ) );
+        Assertions.assertFalse( Arrays.equals( l_values, l_distribution.get( 1 ).<NormalDistribution>raw().sample( 10 ) ) );
     }
 
     /**
-     * test create distribution
+     * test tabulated distributions
      */
     @Test
-    public void createdistribution()
+    public void tabulateddistribution()
     {
-        final List<ITerm> l_return = new ArrayList<>();
-
+        final List<ITerm> l_distribution = new ArrayList<>();
         new CCreateDistribution().execute(
             false, IContext.EMPTYPLAN,
             Stream.of(
-                        "normal", "ISAAC", 20, 10,
-                        "beta", "SYNCHRONIZEDMERSENNETWISTER", 20, 10,
-                        "cauchy", "SYNCHRONIZEDISAAC", 10, 20,
-                        "CHISQUARE", "INTERNAL", 10,
-                        "EXPONENTIAL", "SYNCHRONIZEDINTERNAL", 5,
-                        "F", "WELL512A", 2, 6,
-                        "GAMMA", "SYNCHRONIZEDWELL512A", 6, 9,
-                        "GUMBLE", "WELL1024A", 2, 7,
-                        "LAPLACE", "SYNCHRONIZEDWELL1024A", 20, 18,
-                        "LEVY", "WELL19937A", 15, 20,
-                        "LOGISTIC", "SYNCHRONIZEDWELL19937A", 10, 17,
-                        "LOGNORMAL", "WELL19937C", 12, 14,
-                        "NAKAGAMI", "SYNCHRONIZEDWELL19937C", 20, 18,
-                        "PARETO", "WELL4449A", 20, 10,
-                        "T", "SYNCHRONIZEDWELL4449A", 10,
-                        "TRIANGULAR", "WELL44497B", 10, 15, 20,
-                        "UNIFORM", "SYNCHRONIZEDWELL44497B", 10, 25,
-                        "WEIBULL", 10, 23
-                ).map( CRawTerm::of ).collect( Collectors.toList() ),
-            l_return
+                "t", "seed", 7, 3,
+                "t", "seed", 7, "tabulated", 1e-6, 3
+            ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_distribution
         );
 
-        Assertions.assertEquals( 18, l_return.size() );
-        Assertions.assertTrue( l_return.get( 0 ).raw() instanceof NormalDistribution );
-        Assertions.assertTrue( l_return.get( 1 ).raw() instanceof BetaDistribution );
-        Assertions.assertTrue( l_return.get( 2 ).raw() instanceof CauchyDistribution );
-        Assertions.assertTrue( l_return.get( 3 ).raw() instanceof ChiSquaredDistribution );
-        Assertions.assertTrue( l_return.get( 4 ).raw() instanceof ExponentialDistribution );
-        Assertions.assertTrue( l_return.get( 5 ).raw() instanceof FDistribution );
-        Assertions.assertTrue( l_return.get( 6 ).raw() instanceof GammaDistribution );
-        Assertions.assertTrue( l_return.get( 7 ).raw() instanceof GumbelDistribution );
-        Assertions.assertTrue( l_return.get( 8 ).raw() instanceof LaplaceDistribution );
-        Assertions.assertTrue( l_return.get( 9 ).raw() instanceof LevyDistribution );
-        Assertions.assertTrue( l_return.get( 10 ).raw() instanceof LogisticDistribution );
-        Assertions.assertTrue( l_return.get( 11 ).raw() instanceof LogNormalDistribution );
-        Assertions.assertTrue( l_return.get( 12 ).raw() instanceof NakagamiDistribution );
-        Assertions.assertTrue( l_return.get( 13 ).raw() instanceof ParetoDistribution );
-        Assertions.assertTrue( l_return.get( 14 ).raw() instanceof TDistribution );
-        Assertions.assertTrue( l_return.get( 15 ).raw() instanceof TriangularDistribution );
-        Assertions.assertTrue( l_return.get( 16 ).raw() instanceof UniformRealDistribution );
-        Assertions.assertTrue( l_return.get( 17 ).raw() instanceof WeibullDistribution );
+        Assertions.assertEquals( 2, l_distribution.size() );
+        Assertions.assertTrue( l_distribution.get( 1 ).raw() instanceof CTabulatedDistribution );
+        Assertions.assertTrue( l_distribution.get( 1 ).<CTabulatedDistribution>raw().segments() > 64 );
+
+        // t distribution samples by inversion, so both distributions use the same probabilities
+        final double[] l_exact = l_distribution.get( 0 ).<AbstractRealDistribution>raw().sample( 1000 );
+        final double[] l_tabulated = l_distribution.get( 1 ).<AbstractRealDistribution>raw().sample( 1000 );
+
+        IntStream.range( 0, l_exact.length )
+                 .forEach( i -> Assertions.assertEquals( l_exact[i], l_tabulated[i], 1e-5 * Math.max( 1, Math.abs( l_exact[i] ) ) ) );
+
+        // multivariate and discrete distributions cannot be tabulated
+        Assertions.assertThrows( CExecutionIllegealArgumentException.class, () -> new CCreateDistribution().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "poisson", "tabulated", 1e-6, 3 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_distribution
+        ) );
+        Assertions.assertThrows( CExecutionIllegealArgumentException.class, () -> new CCreateDistribution().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "dirichlet", "tabulated", 1e-6, 2, 1, 1 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_distribution
+        ) );
     }
 
     /**
-     * test add statistics value
+     * test ziggurat distributions
      */
     @Test
-    public void addstatisticvalue()
+    public void zigguratdistribution()
     {
-        new CAddStatisticValue().execute(
+        final List<ITerm> l_distribution = new ArrayList<>();
+        new CCreateDistribution().execute(
             false, IContext.EMPTYPLAN,
-            Stream.of( m_descriptivestatistic, m_summarystatistic, 1, 2, 3 ).map( CRawTerm::of ).collect( Collectors.toList() ),
-            Collections.emptyList()
+            Stream.of( "normal", "seed", 3, 5, 2, "exponential", "seed", 3, 4, "lognormal", "seed", 3, 0, 0.5 )
+                  .map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_distribution
         );
 
-        Assertions.assertEquals( 6, m_descriptivestatistic.getN(), 0 );
-        Assertions.assertEquals( 6, m_summarystatistic.getN() );
+        Assertions.assertEquals( 3, l_distribution.size() );
+        Assertions.assertTrue( l_distribution.get( 0 ).raw() instanceof CZigguratNormalDistribution );
+        Assertions.assertTrue( l_distribution.get( 1 ).raw() instanceof CZigguratExponentialDistribution );
+        Assertions.assertTrue( l_distribution.get( 2 ).raw() instanceof CZigguratLogNormalDistribution );
+
+        l_distribution.stream()
+                      .map( ITerm::<AbstractRealDistribution>raw )
+                      .forEach( i ->
+                      {
+                          final SummaryStatistics l_statistic = new SummaryStatistics();
+                          Arrays.stream( i.sample( 200000 ) ).forEach( l_statistic::addValue );
+
+                          Assertions.assertEquals( i.getNumericalMean(), l_statistic.getMean(), 0.05 * Math.sqrt( i.getNumericalVariance() ) );
+                          Assertions.assertEquals( i.getNumericalVariance(), l_statistic.getVariance(), 0.05 * i.getNumericalVariance() );
+                      } );
     }
 
     /**
-     * test multiple statistics value of summary
+     * test shared distributions
      */
     @Test
-    public void summarymultiplestatisticvalue()
+    public void shareddistribution()
     {
-        final List<ITerm> l_return = new ArrayList<>();
-
-        new CMultipleStatisticValue().execute(
+        final List<ITerm> l_distribution = new ArrayList<>();
+        new CCreateDistribution().execute(
             false, IContext.EMPTYPLAN,
-            Stream.of(
-                    m_summarystatistic,
-                    "variance", "mean",
-                    "max", "geometricmean",
-                    "populationvariance", "quadraticmean",
-                    "secondmoment", "standarddeviation",
-                    "sumlog", "sumsquare"
-                ).map( CRawTerm::of ).collect( Collectors.toList() ),
-            l_return
+            Stream.of( "gamma", 2, 5, "gamma", 2, 5, "gamma", "isaac", 2, 5, "gamma", "seed", 1, 2, 5 )
+                  .map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_distribution
         );
 
-        Assertions.assertEquals( 10, l_return.size() );
-        Assertions.assertArrayEquals(
-            Stream.of(
-                m_summarystatistic.getVariance(), m_summarystatistic.getMean(),
-                m_summarystatistic.getMax(), m_summarystatistic.getGeometricMean(),
-                m_summarystatistic.getPopulationVariance(), m_summarystatistic.getQuadraticMean(),
-                m_summarystatistic.getSecondMoment(), m_summarystatistic.getStandardDeviation(),
-                m_summarystatistic.getSumOfLogs(), m_summarystatistic.getSumsq()
-            ).toArray(),
+        Assertions.assertEquals( 4, l_distribution.size() );
+        Assertions.assertSame( l_distribution.get( 0 ).raw(), l_distribution.get( 1 ).raw() );
+        Assertions.assertNotSame( l_distribution.get( 0 ).raw(), l_distribution.get( 2 ).raw() );
+        Assertions.assertNotSame( l_distribution.get( 0 ).raw(), l_distribution.get( 3 ).raw() );
 
-            l_return.stream().map( ITerm::raw ).toArray()
+        final GammaDistribution l_gamma = l_distribution.get( 0 ).raw();
+        Assertions.assertEquals( 2, l_gamma.getShape(), 0 );
+        Assertions.assertEquals( 5, l_gamma.getScale(), 0 );
+        Assertions.assertEquals( 1000, IntStream.range( 0, 1000 ).parallel().mapToDouble( i -> l_gamma.sample() ).filter( i -> i > 0 ).count() );
+
+        // a shared distribution cannot be reseeded, a seeded distribution can
+        Assertions.assertThrows( MathUnsupportedOperationException.class, () -> l_gamma.reseedRandomGenerator( 5 ) );
+        l_distribution.get( 3 ).<GammaDistribution>raw().reseedRandomGenerator( 5 );
+
+        // a synchronized generator shares the distribution of the plain generator
+        l_distribution.clear();
+        new CCreateDistribution().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "gamma", "isaac", 2, 5, "gamma", "synchronizedisaac", 2, 5 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_distribution
         );
+
+        Assertions.assertSame( l_distribution.get( 0 ).raw(), l_distribution.get( 1 ).raw() );
     }
 
     /**
-     * test multiple statistics value of descriptive
+     * test compiled distribution arguments with the same shape and different values
      */
     @Test
-    public void descriptivemultiplestatisticvalue()
+    public void compileddistribution()
     {
-        final List<ITerm> l_return = new ArrayList<>();
+        final List<ITerm> l_distribution = new ArrayList<>();
 
-        new CMultipleStatisticValue().execute(
+        IntStream.range( 1, 4 )
+                 .forEach( i -> new CCreateDistribution().execute(
+                     false, IContext.EMPTYPLAN,
+                     Stream.of( "uniform", "seed", i, 0, i, "exponential", 10 * i ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                     l_distribution
+                 ) );
+
+        Assertions.assertEquals( 6, l_distribution.size() );
+        IntStream.range( 0, 3 )
+                 .forEach( i ->
+                 {
+                     Assertions.assertEquals( i + 1, l_distribution.get( 2 * i ).<UniformRealDistribution>raw().getSupportUpperBound(), 0 );
+                     Assertions.assertEquals( 10 * ( i + 1 ), l_distribution.get( 2 * i + 1 ).<ExponentialDistribution>raw().getMean(), 0 );
+                 } );
+    }
+
+    /**
+     * test multivariate distributions
+     */
+    @Test
+    public void multivariatedistribution()
+    {
+        final List<ITerm> l_distribution = new ArrayList<>();
+        new CCreateDistribution().execute(
             false, IContext.EMPTYPLAN,
             Stream.of(
-                    m_descriptivestatistic,
-                    "variance", "mean",
-                    "max", "geometricmean",
-                    "populationvariance", "quadraticmean",
-                    "standarddeviation", "sumsquare",
-                    "kurtiosis", "count", "sum"
-                ).map( CRawTerm::of ).collect( Collectors.toList() ),
-            l_return
+                "multivariatenormal", "seed", 1, 2, 1, 2, 4, 2, 2, 3,
+                "gaussianmixture", 2, 1, 1, 1, -5, 1, 5, 1,
+                "dirichlet", 3, 1, 2, 3
+            ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_distribution
         );
 
-        Assertions.assertEquals( l_return.size(), 11 );
-        Assertions.assertArrayEquals(
-                Stream.of(
-                        m_descriptivestatistic.getVariance(), m_descriptivestatistic.getMean(),
-                        m_descriptivestatistic.getMax(), m_descriptivestatistic.getGeometricMean(),
-                        m_descriptivestatistic.getPopulationVariance(), m_descriptivestatistic.getQuadraticMean(),
-                        m_descriptivestatistic.getStandardDeviation(), m_descriptivestatistic.getSumsq(),
-                        m_descriptivestatistic.getKurtosis(), (double) m_descriptivestatistic.getN(), m_descriptivestatistic.getSum()
-                ).toArray(),
+        Assertions.assertEquals( 3, l_distribution.size() );
+        Assertions.assertTrue( l_distribution.get( 0 ).raw() instanceof CMultivariateNormalDistribution );
+        Assertions.assertTrue( l_distribution.get( 1 ).raw() instanceof CGaussianMixtureDistribution );
+        Assertions.assertTrue( l_distribution.get( 2 ).raw() instanceof CDirichletDistribution );
 
-                l_return.stream().map( ITerm::raw ).toArray()
+        final List<ITerm> l_return = new ArrayList<>();
+        new CRandomSample().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_distribution.get( 0 ).raw(), "array", 100000 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+        new CRandomSample().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_distribution.get( 1 ).raw(), 100000 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+        new CRandomSample().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_distribution.get( 2 ).raw(), 1, 20 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
         );
+
+        Assertions.assertEquals( 4, l_return.size() );
+
+        final double[][] l_normal = l_return.get( 0 ).raw();
+        final double[] l_mean = {
+            Arrays.stream( l_normal ).mapToDouble( i -> i[0] ).average().orElse( 0 ),
+            Arrays.stream( l_normal ).mapToDouble( i -> i[1] ).average().orElse( 0 )
+        };
+        Assertions.assertEquals( 1, l_mean[0], 0.05 );
+        Assertions.assertEquals( 2, l_mean[1], 0.05 );
+        Assertions.assertEquals( 4, Arrays.stream( l_normal ).mapToDouble( i -> ( i[0] - l_mean[0] ) * ( i[0] - l_mean[0] ) ).average().orElse( 0 ), 0.1 );
+        Assertions.assertEquals( 2, Arrays.stream( l_normal ).mapToDouble( i -> ( i[0] - l_mean[0] ) * ( i[1] - l_mean[1] ) ).average().orElse( 0 ), 0.1 );
+        Assertions.assertEquals( 3, Arrays.stream( l_normal ).mapToDouble( i -> ( i[1] - l_mean[1] ) * ( i[1] - l_mean[1] ) ).average().orElse( 0 ), 0.1 );
+
+        final double[][] l_mixture = l_return.get( 1 ).raw();
+        Assertions.assertEquals( 0, Arrays.stream( l_mixture ).mapToDouble( i -> i[0] ).average().orElse( 1 ), 0.1 );
+        Assertions.assertEquals( 0.5, Arrays.stream( l_mixture ).filter( i -> i[0] > 0 ).count() / 100000.0, 0.01 );
+
+        Assertions.assertEquals( 3, l_return.get( 2 ).<double[]>raw().length );
+        Assertions.assertEquals( 1, Arrays.stream( l_return.get( 2 ).<double[]>raw() ).sum(), 1e-10 );
+        Assertions.assertEquals( 20, l_return.get( 3 ).<double[][]>raw().length );
+        Arrays.stream( l_return.get( 3 ).<double[][]>raw() ).forEach( i -> Assertions.assertEquals( 1, Arrays.stream( i ).sum(), 1e-10 ) );
     }
 
     /**
-     * test add random sample
+     * test discrete distribution
      */
     @Test
-    public void randomsample()
+    public void discretedistribution()
     {
-        final List<ITerm> l_return = new ArrayList<>();
+        final List<ITerm> l_distribution = new ArrayList<>();
+        new CCreateDistribution().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "poisson", "seed", 3, 2.5, "poisson", 150, "binomial", 200, 0.3, "geometric", 0.25, "zipf", 100, 1.2 )
+                  .map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_distribution
+        );
+
+        Assertions.assertEquals( 5, l_distribution.size() );
+        Assertions.assertTrue( l_distribution.get( 0 ).raw() instanceof CTransformedRejectionPoissonDistribution );
+        Assertions.assertTrue( l_distribution.get( 2 ).raw() instanceof CTransformedRejectionBinomialDistribution );
+        Assertions.assertTrue( l_distribution.get( 3 ).raw() instanceof CInversionGeometricDistribution );
 
+        final List<ITerm> l_return = new ArrayList<>();
         new CRandomSample().execute(
             false, IContext.EMPTYPLAN,
-            Stream.of( new NormalDistribution(), 3 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Stream.of( l_distribution.get( 0 ).raw(), "array", 100000 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+        new CRandomSample().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_distribution.get( 1 ).raw(), new long[100000] ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+        new CRandomSample().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_distribution.get( 2 ).raw(), new int[100000] ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+        new CRandomSample().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_distribution.get( 3 ).raw(), "array", 100000 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+        new CRandomSample().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_distribution.get( 4 ).raw(), 1, "buffer", 10 ).map( CRawTerm::of ).collect( Collectors.toList() ),
             l_return
         );
 
-        Assertions.assertEquals( 1, l_return.size() );
-        Assertions.assertTrue( l_return.get( 0 ).raw() instanceof List );
-        Assertions.assertEquals( 3, l_return.get( 0 ).<List<Number>>raw().size() );
+        Assertions.assertEquals( 6, l_return.size() );
+
+        final double[][] l_moments = {{2.5, 2.5}, {150, 150}, {60, 42}, {3, 12}};
+        final long[][] l_samples = {
+            Arrays.stream( l_return.get( 0 ).<int[]>raw() ).asLongStream().toArray(),
+            l_return.get( 1 ).raw(),
+            Arrays.stream( l_return.get( 2 ).<int[]>raw() ).asLongStream().toArray(),
+            Arrays.stream( l_return.get( 3 ).<int[]>raw() ).asLongStream().toArray()
+        };
+
+        IntStream.range( 0, l_moments.length ).forEach( i ->
+        {
+            final double l_mean = Arrays.stream( l_samples[i] ).average().orElse( 0 );
+            final double l_variance = Arrays.stream( l_samples[i] ).mapToDouble( j -> ( j - l_mean ) * ( j - l_mean ) ).average().orElse( 0 );
+
+            Assertions.assertEquals( l_moments[i][0], l_mean, 0.02 * l_moments[i][0] );
+            Assertions.assertEquals( l_moments[i][1], l_variance, 0.05 * l_moments[i][1] );
+        } );
+
+        Assertions.assertTrue( l_return.get( 4 ).<Integer>raw() >= 1 );
+        Assertions.assertTrue( l_return.get( 4 ).<Integer>raw() <= 100 );
+        Assertions.assertEquals( 10, l_return.get( 5 ).<IntBuffer>raw().limit() );
     }
 
     /**
@@ -428,6 +1573,113 @@ public final class TestCActionMathStatistics extends IBaseTest
         );
     }
 
+    /**
+     * test linear selection with multiple draws
+     */
+    @Test
+    public void linearselectionbatch()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+
+        new CLinearSelection().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( Stream.of( "a", "b", "c" ).collect( Collectors.toList() ), Stream.of( 1, 0, 5 ).collect( Collectors.toList() ), 10 )
+                  .map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+        new CLinearSelection().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( Stream.of( "a", "b", "c" ).collect( Collectors.toList() ), Stream.of( 1, 0, 5 ).collect( Collectors.toList() ), 2, false )
+                  .map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 2, l_return.size() );
+        Assertions.assertEquals( 10, l_return.get( 0 ).<List<?>>raw().size() );
+        Assertions.assertFalse( l_return.get( 0 ).<List<?>>raw().contains( "b" ) );
+        Assertions.assertEquals( 2, l_return.get( 1 ).<List<?>>raw().size() );
+        Assertions.assertTrue( l_return.get( 1 ).<List<?>>raw().containsAll( Stream.of( "a", "c" ).collect( Collectors.toList() ) ) );
+    }
+
+    /**
+     * test linear selection with zero weights
+     */
+    @Test
+    public void linearselectionzero()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+        final List<String> l_items = Stream.of( "a", "b", "c" ).collect( Collectors.toList() );
+        final List<Integer> l_weights = Stream.of( 0, 0, 0 ).collect( Collectors.toList() );
+
+        new CLinearSelection().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_items, l_weights ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+        new CLinearSelection().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_items, l_weights, 3 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+        new CLinearSelection().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_items, l_weights, 2, false ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 3, l_return.size() );
+        Assertions.assertEquals( "a", l_return.get( 0 ).raw() );
+        Assertions.assertEquals( Stream.of( "a", "a", "a" ).collect( Collectors.toList() ), l_return.get( 1 ).raw() );
+        Assertions.assertEquals( Stream.of( "a", "b" ).collect( Collectors.toList() ), l_return.get( 2 ).raw() );
+    }
+
+    /**
+     * test linear selection with a single draw and wrong draw arguments
+     */
+    @Test
+    public void linearselectionargument()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+        final List<String> l_items = Stream.of( "a", "b", "c" ).collect( Collectors.toList() );
+        final List<Integer> l_weights = Stream.of( 0, 0, 5 ).collect( Collectors.toList() );
+
+        new CLinearSelection().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_items, l_weights, 1 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 1, l_return.size() );
+        Assertions.assertEquals( Stream.of( "c" ).collect( Collectors.toList() ), l_return.get( 0 ).raw() );
+
+        Assertions.assertThrows( CExecutionIllegealArgumentException.class, () -> new CLinearSelection().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_items, l_weights, "one" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        ) );
+        Assertions.assertThrows( CExecutionIllegealArgumentException.class, () -> new CLinearSelection().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_items, l_weights, 2, 1 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        ) );
+    }
+
+    /**
+     * test alias table distribution
+     */
+    @Test
+    public void aliastable()
+    {
+        final CAliasTable l_table = new CAliasTable( new double[]{1, 0, 3, 6} );
+        final int[] l_count = new int[4];
+        IntStream.range( 0, 100000 ).forEach( i -> l_count[l_table.getAsInt()]++ );
+
+        Assertions.assertEquals( 0.1, l_count[0] / 100000.0, 0.01 );
+        Assertions.assertEquals( 0, l_count[1] );
+        Assertions.assertEquals( 0.3, l_count[2] / 100000.0, 0.01 );
+        Assertions.assertEquals( 0.6, l_count[3] / 100000.0, 0.01 );
+    }
+
     /**
      * test linear selection
      */